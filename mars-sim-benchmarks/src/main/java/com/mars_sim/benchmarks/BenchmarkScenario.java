@@ -0,0 +1,75 @@
+/*
+ * Mars Simulation Project
+ * BenchmarkScenario.java
+ * @date 2025-08-12
+ */
+package com.mars_sim.benchmarks;
+
+import com.mars_sim.core.Simulation;
+import com.mars_sim.core.SimulationConfig;
+import com.mars_sim.core.configuration.Scenario;
+import com.mars_sim.core.configuration.ScenarioConfig;
+import com.mars_sim.core.malfunction.MalfunctionManager;
+import com.mars_sim.core.structure.Settlement;
+import com.mars_sim.core.structure.SettlementBuilder;
+import com.mars_sim.core.time.ClockPulse;
+import com.mars_sim.core.time.MasterClock;
+import com.mars_sim.core.tool.RandomUtil;
+
+/**
+ * Builds the simulation used by the benchmarks. This uses the same scenario as the saving unit
+ * test and a fixed random seed so the numbers can be compared between commits.
+ */
+public final class BenchmarkScenario {
+
+	/** Seed for all random choices made whilst building and running the scenario. */
+	public static final long SEED = 20250812L;
+
+	/** Scenario with one fully populated settlement. */
+	public static final String SCENARIO = "Single Settlement";
+
+	/** Duration of each pulse in millisols. */
+	public static final double PULSE_WIDTH = 0.5D;
+
+	private static long pulseId = 1;
+
+	private BenchmarkScenario() {
+		// Static helper class
+	}
+
+	/**
+	 * Creates a new simulation holding the benchmark scenario.
+	 * 
+	 * @return The settlement created
+	 */
+	public static Settlement create() {
+		RandomUtil.setSeed(SEED);
+
+		SimulationConfig config = SimulationConfig.loadConfig();
+		Simulation sim = Simulation.instance();
+		sim.createNewSimulation(64);
+
+		// No random failures so every run does the same work
+		MalfunctionManager.setNoFailures(true);
+
+		Scenario bootstrap = new ScenarioConfig(config).getItem(SCENARIO);
+		new SettlementBuilder(sim, config).createInitialSettlements(bootstrap);
+
+		return sim.getUnitManager().getSettlements().iterator().next();
+	}
+
+	/**
+	 * Creates the next pulse and moves the clock on to match it.
+	 * 
+	 * @return
+	 */
+	public static ClockPulse nextPulse() {
+		MasterClock master = Simulation.instance().getMasterClock();
+		var currentTime = master.getMarsTime();
+		var newTime = currentTime.addTime(PULSE_WIDTH);
+		boolean newSol = !currentTime.getDate().equals(newTime.getDate());
+		boolean newMSol = currentTime.getMillisolInt() != newTime.getMillisolInt();
+		master.setMarsTime(newTime);
+		return new ClockPulse(pulseId++, PULSE_WIDTH, newTime, master, newSol, false, newMSol, false);
+	}
+}
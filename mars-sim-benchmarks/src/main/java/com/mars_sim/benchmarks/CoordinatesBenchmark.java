@@ -0,0 +1,55 @@
+/*
+ * Mars Simulation Project
+ * CoordinatesBenchmark.java
+ * @date 2025-08-12
+ */
+package com.mars_sim.benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.mars_sim.core.map.location.Coordinates;
+
+/**
+ * Measures the great circle distance between surface locations.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CoordinatesBenchmark {
+
+	private static final int SIZE = 1024;
+
+	private Coordinates[] locations = new Coordinates[SIZE];
+	private int next = 0;
+
+	@Setup
+	public void setUp() {
+		Random rand = new Random(BenchmarkScenario.SEED);
+		for (int i = 0; i < SIZE; i++) {
+			locations[i] = new Coordinates(rand.nextDouble() * Math.PI, rand.nextDouble() * Math.PI * 2);
+		}
+	}
+
+	@Benchmark
+	public double getDistance() {
+		var a = locations[next];
+		var b = locations[(next + 1) % SIZE];
+		next = (next + 1) % SIZE;
+		return a.getDistance(b);
+	}
+}
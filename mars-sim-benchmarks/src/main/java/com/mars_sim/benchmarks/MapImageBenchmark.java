@@ -0,0 +1,74 @@
+/*
+ * Mars Simulation Project
+ * MapImageBenchmark.java
+ * @date 2025-08-12
+ */
+package com.mars_sim.benchmarks;
+
+import java.awt.Image;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.mars_sim.core.map.IntegerMapData;
+import com.mars_sim.core.map.MapData;
+import com.mars_sim.core.map.MapData.MapState;
+import com.mars_sim.core.map.MapDataFactory;
+import com.mars_sim.core.map.location.Coordinates;
+
+/**
+ * Measures rendering the default surface map on the CPU; the GPU path is disabled so the
+ * results do not depend on the OpenCL driver.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class MapImageBenchmark {
+
+	private static final int MAP_SIZE = 300;
+	private static final int CENTRES = 16;
+	private static final long LOAD_WAIT = 100L;
+
+	private MapData mapData;
+	private Coordinates[] centres = new Coordinates[CENTRES];
+	private int next = 0;
+
+	@Setup
+	public void setUp() throws InterruptedException {
+		mapData = MapDataFactory.getMapMetaData(MapDataFactory.DEFAULT_MAP_TYPE).getData(0);
+		// The map file may be downloaded in the background on the first run
+		while (mapData.getStatus() == MapState.PENDING) {
+			Thread.sleep(LOAD_WAIT);
+		}
+		if (mapData.getStatus() != MapState.LOADED) {
+			throw new IllegalStateException("Map data for " + MapDataFactory.DEFAULT_MAP_TYPE + " did not load");
+		}
+		// Loading the map enables the GPU if it is available
+		IntegerMapData.setHardwareAccel(false);
+
+		Random rand = new Random(BenchmarkScenario.SEED);
+		for (int i = 0; i < CENTRES; i++) {
+			centres[i] = new Coordinates(rand.nextDouble() * Math.PI, rand.nextDouble() * Math.PI * 2);
+		}
+	}
+
+	@Benchmark
+	public Image createMapImage() {
+		var centre = centres[next];
+		next = (next + 1) % CENTRES;
+		return mapData.createMapImage(centre, MAP_SIZE, MAP_SIZE, mapData.getRhoDefault());
+	}
+}
@@ -0,0 +1,77 @@
+/*
+ * Mars Simulation Project
+ * MicroInventoryBenchmark.java
+ * @date 2025-08-12
+ */
+package com.mars_sim.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.mars_sim.core.equipment.MicroInventory;
+import com.mars_sim.core.resource.ResourceUtil;
+
+/**
+ * Measures storing and retrieving amount resources in a MicroInventory.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MicroInventoryBenchmark {
+
+	private static final int[] RESOURCES = {ResourceUtil.WATER_ID, ResourceUtil.FOOD_ID,
+						ResourceUtil.OXYGEN_ID, ResourceUtil.CO2_ID, ResourceUtil.ARGON_ID};
+	private static final double CAPACITY = 1000D;
+	private static final double AMOUNT = 1.5D;
+
+	private MicroInventory specific;
+	private MicroInventory stock;
+
+	@Setup
+	public void setUp() {
+		var settlement = BenchmarkScenario.create();
+
+		specific = new MicroInventory(settlement);
+		for (int r : RESOURCES) {
+			specific.setSpecificCapacity(r, CAPACITY);
+		}
+		stock = new MicroInventory(settlement, CAPACITY * RESOURCES.length);
+	}
+
+	@Benchmark
+	public double storeRetrieveSpecific() {
+		double excess = 0D;
+		for (int r : RESOURCES) {
+			excess += specific.storeAmountResource(r, AMOUNT);
+		}
+		for (int r : RESOURCES) {
+			excess += specific.retrieveAmountResource(r, AMOUNT);
+		}
+		return excess;
+	}
+
+	@Benchmark
+	public double storeRetrieveStock() {
+		double excess = 0D;
+		for (int r : RESOURCES) {
+			excess += stock.storeStockAmountResource(r, AMOUNT);
+		}
+		for (int r : RESOURCES) {
+			excess += stock.retrieveStockAmountResource(r, AMOUNT);
+		}
+		return excess;
+	}
+}
@@ -0,0 +1,71 @@
+/*
+ * Mars Simulation Project
+ * PathFinderBenchmark.java
+ * @date 2025-08-12
+ */
+package com.mars_sim.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.mars_sim.core.building.Building;
+import com.mars_sim.core.building.connection.BuildingConnectorManager;
+import com.mars_sim.core.building.connection.BuildingLocation;
+import com.mars_sim.core.building.connection.InsidePathLocation;
+import com.mars_sim.core.building.connection.PathFinder;
+
+/**
+ * Measures finding an interior walking route between every pair of buildings in the settlement.
+ * The PathFinder is used directly so the learnt path cache is bypassed.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PathFinderBenchmark {
+
+	private BuildingConnectorManager connectorManager;
+	private List<Building> buildings;
+	private int from = 0;
+	private int to = 1;
+
+	@Setup
+	public void setUp() {
+		var settlement = BenchmarkScenario.create();
+		connectorManager = settlement.getBuildingConnectorManager();
+
+		// Fixed order so every run uses the same pairs
+		buildings = new ArrayList<>(settlement.getBuildingManager().getBuildingSet());
+		buildings.sort(Comparator.comparing(Building::getName));
+	}
+
+	@Benchmark
+	public List<InsidePathLocation> findPath() {
+		var start = buildings.get(from);
+		var end = buildings.get(to);
+		to++;
+		if (to == buildings.size()) {
+			from = (from + 1) % buildings.size();
+			to = 0;
+		}
+
+		var finder = new PathFinder(connectorManager, new BuildingLocation(start, start.getPosition()),
+									new BuildingLocation(end, end.getPosition()));
+		return (finder.isValidRoute() ? finder.toPath() : null);
+	}
+}
@@ -0,0 +1,72 @@
+/*
+ * Mars Simulation Project
+ * SaveLoadBenchmark.java
+ * @date 2025-08-12
+ */
+package com.mars_sim.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.mars_sim.core.Simulation;
+
+/**
+ * Measures saving and loading the benchmark scenario. A save is requested and then made
+ * by the next pulse, the same as a save from the user interface, so the save time
+ * includes one pulse of the simulation.
+ * The clock is paused so it does not run pulses once the save restarts it.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(1)
+public class SaveLoadBenchmark {
+
+	private Simulation sim;
+	private File saveFile;
+
+	@Setup
+	public void setUp() throws IOException {
+		BenchmarkScenario.create();
+		sim = Simulation.instance();
+		sim.getMasterClock().setPaused(true, false);
+
+		saveFile = File.createTempFile("benchmark", Simulation.SAVE_FILE_EXTENSION);
+		save();
+	}
+
+	@TearDown
+	public void tearDown() {
+		sim.getMasterClock().stop();
+		saveFile.delete();
+	}
+
+	@Benchmark
+	public long save() {
+		sim.requestSave(saveFile, null);
+		sim.clockPulse(BenchmarkScenario.nextPulse());
+		return saveFile.length();
+	}
+
+	@Benchmark
+	public Simulation load() {
+		sim.loadSimulation(saveFile);
+		sim.getMasterClock().setPaused(true, false);
+		return sim;
+	}
+}
@@ -0,0 +1,46 @@
+/*
+ * Mars Simulation Project
+ * SettlementPulseBenchmark.java
+ * @date 2025-08-12
+ */
+package com.mars_sim.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.mars_sim.core.structure.Settlement;
+
+/**
+ * Measures a full pulse of a populated Settlement, i.e. the buildings, people, robots and
+ * vehicles it owns.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SettlementPulseBenchmark {
+
+	private Settlement settlement;
+
+	@Setup
+	public void setUp() {
+		settlement = BenchmarkScenario.create();
+	}
+
+	@Benchmark
+	public boolean timePassing() {
+		return settlement.timePassing(BenchmarkScenario.nextPulse());
+	}
+}
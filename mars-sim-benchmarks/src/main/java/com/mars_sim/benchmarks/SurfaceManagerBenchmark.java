@@ -0,0 +1,150 @@
+/*
+ * Mars Simulation Project
+ * SurfaceManagerBenchmark.java
+ * @date 2025-08-22
+ */
+package com.mars_sim.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.mars_sim.core.SimulationConfig;
+import com.mars_sim.core.map.location.Coordinates;
+import com.mars_sim.core.map.location.SurfaceManager;
+import com.mars_sim.core.map.location.SurfacePOI;
+import com.mars_sim.core.mineral.MineralDeposit;
+import com.mars_sim.core.mineral.MineralType;
+import com.mars_sim.core.mineral.RandomMineralFactory;
+import com.mars_sim.core.tool.RandomUtil;
+
+/**
+ * Compares the SurfaceManager cells against the previous six latitude slices for exact and
+ * range lookups on a full random mineral map.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SurfaceManagerBenchmark {
+
+	private static final int SIZE = 1024;
+
+	// About 170km which is a typical exploration range
+	private static final double SEARCH_ANGLE = 0.05D;
+
+	/**
+	 * The previous implementation that splits the surface into six latitude slices.
+	 */
+	private static class LatitudeSlices<T extends SurfacePOI> {
+		private static final int LATITUDE_SLICES = 6;
+		private static final double LATITUDE_RANGE = Math.PI/LATITUDE_SLICES;
+
+		@SuppressWarnings("unchecked")
+		private List<T>[] slices = new List[LATITUDE_SLICES];
+
+		LatitudeSlices() {
+			Arrays.setAll(slices, element -> new ArrayList<>());
+		}
+
+		void addFeature(T newFeature) {
+			slices[getSlice(newFeature.getCoordinates().getPhi())].add(newFeature);
+		}
+
+		private int getSlice(double phi) {
+			int idx = (int)(phi/LATITUDE_RANGE);
+			return Math.max(0, Math.min(idx, slices.length-1));
+		}
+
+		T getFeature(Coordinates location) {
+			return slices[getSlice(location.getPhi())].stream()
+					.filter(c -> c.getCoordinates().equals(location))
+					.findFirst().orElse(null);
+		}
+
+		List<T> getFeatures(Coordinates center, double arcAngle) {
+			var top = getSlice(center.getPhi() + arcAngle);
+			var bottom = getSlice(center.getPhi() - arcAngle);
+
+			List<T> result = new ArrayList<>();
+			for(int i = bottom; i <= top; i++) {
+				result.addAll(slices[i].stream()
+						.filter(c -> center.getAngle(c.getCoordinates()) <= arcAngle)
+						.toList());
+			}
+			return result;
+		}
+	}
+
+	private LatitudeSlices<MineralDeposit> slices = new LatitudeSlices<>();
+	private SurfaceManager<MineralDeposit> cells = new SurfaceManager<>();
+	private Coordinates[] existing = new Coordinates[SIZE];
+	private Coordinates[] centers = new Coordinates[SIZE];
+	private int next = 0;
+
+	@Setup
+	public void setUp() {
+		RandomUtil.setSeed(BenchmarkScenario.SEED);
+		SimulationConfig.loadConfig();
+		var map = RandomMineralFactory.createRandomMap();
+
+		// Whole globe is within PI of any point
+		Set<String> minerals = map.getTypes().stream()
+						.map(MineralType::getName)
+						.collect(Collectors.toSet());
+		var deposits = map.getDeposits(new Coordinates(Math.PI/2, 0D), Math.PI, minerals);
+		for (var d : deposits) {
+			slices.addFeature(d);
+			cells.addFeature(d);
+		}
+
+		Random rand = new Random(BenchmarkScenario.SEED);
+		for (int i = 0; i < SIZE; i++) {
+			existing[i] = deposits.get(rand.nextInt(deposits.size())).getCoordinates();
+			centers[i] = new Coordinates(rand.nextDouble() * Math.PI, rand.nextDouble() * Math.PI * 2);
+		}
+	}
+
+	private int nextIndex() {
+		int i = next;
+		next = (next + 1) % SIZE;
+		return i;
+	}
+
+	@Benchmark
+	public MineralDeposit getFeatureSlices() {
+		return slices.getFeature(existing[nextIndex()]);
+	}
+
+	@Benchmark
+	public MineralDeposit getFeatureCells() {
+		return cells.getFeature(existing[nextIndex()]);
+	}
+
+	@Benchmark
+	public List<MineralDeposit> getFeaturesSlices() {
+		return slices.getFeatures(centers[nextIndex()], SEARCH_ANGLE);
+	}
+
+	@Benchmark
+	public List<MineralDeposit> getFeaturesCells() {
+		return cells.getFeatures(centers[nextIndex()], SEARCH_ANGLE);
+	}
+}
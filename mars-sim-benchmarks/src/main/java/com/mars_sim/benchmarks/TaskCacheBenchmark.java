@@ -0,0 +1,67 @@
+/*
+ * Mars Simulation Project
+ * TaskCacheBenchmark.java
+ * @date 2025-08-12
+ */
+package com.mars_sim.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.mars_sim.core.Simulation;
+import com.mars_sim.core.person.Person;
+import com.mars_sim.core.person.ai.CacheCreator;
+import com.mars_sim.core.person.ai.task.util.FactoryMetaTask;
+import com.mars_sim.core.person.ai.task.util.MetaTaskUtil;
+import com.mars_sim.core.person.ai.task.util.TaskJob;
+
+/**
+ * Measures scoring the tasks for each person in the settlement. This is the work done
+ * when a person's task probability cache is rebuilt for an on-duty person, i.e. the
+ * duty hour meta tasks plus the shared settlement tasks.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaskCacheBenchmark {
+
+	private List<Person> people = new ArrayList<>();
+	private int next = 0;
+
+	@Setup
+	public void setUp() {
+		var settlement = BenchmarkScenario.create();
+		people.addAll(settlement.getAllAssociatedPeople());
+	}
+
+	@Benchmark
+	public CacheCreator<TaskJob> rebuildTaskCache() {
+		var person = people.get(next);
+		next = (next + 1) % people.size();
+
+		var cache = new CacheCreator<TaskJob>("Benchmark", Simulation.instance().getMasterClock().getMarsTime());
+		for (FactoryMetaTask mt : MetaTaskUtil.getDutyHourTasks()) {
+			List<TaskJob> jobs = mt.getTaskJobs(person);
+			if (jobs != null) {
+				cache.add(jobs);
+			}
+		}
+		cache.add(person.getAssociatedSettlement().getTaskManager().getTasks(person));
+		return cache;
+	}
+}
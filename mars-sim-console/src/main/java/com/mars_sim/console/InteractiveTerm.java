@@ -94,7 +94,7 @@ public class InteractiveTerm {
 	 */
 	public void init() {
 		// Add Mars Terminal to the clock listener
-		sim.getMasterClock().addClockListener(marsTerminal, 1000);
+		sim.getMasterClock().addClockListener(marsTerminal, 1000, true);
 		// Update title
 		marsTerminal.changeTitle(false);
 	}
@@ -7,17 +7,19 @@
 
 package com.mars_sim.console.chat.simcommand;
 
-import java.io.FileNotFoundException;
+import java.io.IOException;
 import java.util.Arrays;
 import java.util.stream.Collectors;
 
 import com.mars_sim.console.chat.ChatCommand;
 import com.mars_sim.console.chat.Conversation;
 import com.mars_sim.console.chat.ConversationRole;
+import com.mars_sim.core.logging.AsyncLogHandler;
 import com.mars_sim.core.logging.DiagnosticsManager;
 
 /**
- * Controls which diagnostics are enabled.
+ * Controls which diagnostics are enabled. With no arguments it shows the
+ * counters of the asynchronous log buffer.
  */
 public class DiagnosticsCommand extends ChatCommand {
 	public static final ChatCommand DIAGNOSTICS = new DiagnosticsCommand();
@@ -30,6 +32,11 @@ public class DiagnosticsCommand extends ChatCommand {
 
 	@Override
 	public boolean execute(Conversation context, String input) {
+		if ((input == null) || input.isBlank()) {
+			printLogBuffer(context);
+			return true;
+		}
+
 		String module = null;
 		boolean enabled = true;
 		if (input != null) {
@@ -58,7 +65,7 @@ public class DiagnosticsCommand extends ChatCommand {
 					+ " diagnostics on module " + module);
 			try {
 				result = DiagnosticsManager.setDiagnostics(module.trim(), enabled);
-			} catch (FileNotFoundException e) {
+			} catch (IOException e) {
 				context.println("Problem with diagnostics file "
 								+ e.getMessage());	
 			}
@@ -69,6 +76,15 @@ public class DiagnosticsCommand extends ChatCommand {
 		return result;
 	}
 	
+	private void printLogBuffer(Conversation context) {
+		StructuredResponse response = new StructuredResponse();
+		response.appendHeading("Log Buffer");
+		response.appendLabeledString("Written", Long.toString(AsyncLogHandler.getWritten()));
+		response.appendLabeledString("Dropped", Long.toString(AsyncLogHandler.getDropped()));
+		response.appendLabeledString("Blocked", Long.toString(AsyncLogHandler.getBlocked()));
+		context.println(response.getOutput());
+	}
+
 	private void printHelp(Conversation context) {
 		String modules = Arrays.stream(DiagnosticsManager.MODULE_NAMES).collect(
 						Collectors.joining(",", "'", "'"));
@@ -0,0 +1,78 @@
+/*
+ * Mars Simulation Project
+ * PulseProfileCommand.java
+ * @date 2025-08-13
+ */
+
+package com.mars_sim.console.chat.simcommand;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import com.mars_sim.console.chat.ChatCommand;
+import com.mars_sim.console.chat.Conversation;
+import com.mars_sim.core.logging.PulseProfiler;
+import com.mars_sim.core.logging.PulseProfiler.Stats;
+
+/**
+ * Displays the pulse times recorded by the PulseProfiler to find the hot spots.
+ * This is a singleton.
+ */
+public class PulseProfileCommand extends ChatCommand {
+
+	public static final ChatCommand PULSE_PROFILE = new PulseProfileCommand();
+
+	private static final String SETTLEMENT_ARG = "settlement";
+	private static final String RESET_ARG = "reset";
+	private static final int MAX_ROWS = 20;
+
+	private PulseProfileCommand() {
+		super(TopLevel.SIMULATION_GROUP, "pp", "pulse profile",
+				"Show the time taken to apply pulses; optional argument '"
+				+ SETTLEMENT_ARG + "' or '" + RESET_ARG + "'");
+	}
+
+	@Override
+	public boolean execute(Conversation context, String input) {
+		if (!PulseProfiler.isEnabled()) {
+			context.println("Pulse profiling is not enabled; enable with the diagnostics command for module 'pulse'");
+			return true;
+		}
+
+		if (RESET_ARG.equalsIgnoreCase(input)) {
+			PulseProfiler.reset();
+			context.println("Pulse timings cleared");
+			return true;
+		}
+
+		List<Stats> stats;
+		String heading;
+		if (SETTLEMENT_ARG.equalsIgnoreCase(input)) {
+			stats = PulseProfiler.getOwnerStats();
+			heading = "Settlement";
+		}
+		else {
+			stats = PulseProfiler.getCategoryStats();
+			heading = "";
+		}
+
+		if (stats.isEmpty()) {
+			context.println("No pulses recorded yet");
+			return true;
+		}
+
+		StructuredResponse response = new StructuredResponse();
+		response.appendTableHeading(heading, 22, "Type", -10, "Count", "Total ms",
+						"Mean us", "p50 us", "p99 us", "Max us");
+		for (Stats s : stats.subList(0, Math.min(MAX_ROWS, stats.size()))) {
+			response.appendTableRow(s.owner(), s.category().name(), s.count(),
+						TimeUnit.NANOSECONDS.toMillis(s.total()),
+						TimeUnit.NANOSECONDS.toMicros(s.mean()),
+						TimeUnit.NANOSECONDS.toMicros(s.p50()),
+						TimeUnit.NANOSECONDS.toMicros(s.p99()),
+						TimeUnit.NANOSECONDS.toMicros(s.max()));
+		}
+		context.println(response.getOutput());
+		return true;
+	}
+}
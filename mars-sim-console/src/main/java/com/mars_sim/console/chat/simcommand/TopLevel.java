@@ -32,6 +32,7 @@ public class TopLevel extends InteractiveChatCommand {
 																	ExpertCommand.EXPERT,
 																	EventCommand.EVENT,
 																	DiagnosticsCommand.DIAGNOSTICS,
+																	PulseProfileCommand.PULSE_PROFILE,
 																	
 																	// Admin commands
 																	new SaveCommand(),
@@ -33,6 +33,7 @@ class BacklogCommand extends AbstractSettlementCommand {
 
         StructuredResponse response = new StructuredResponse();
         response.appendLabeledString("Reuse Ratio", String.format(CommandHelper.DOUBLE_FORMAT, stm.getReuseScore()));
+        response.appendLabeledString("Shared Score Reuse", String.format(CommandHelper.DOUBLE_FORMAT, stm.getSharedScoreReuse()));
         response.appendLabelledDigit("Tasks Executed", stm.getExecutedCount());
 
         List<SettlementTask> tasks = stm.getAvailableTasks();
@@ -13,17 +13,19 @@ import java.awt.geom.Line2D;
 import java.awt.geom.Path2D;
 import java.awt.geom.Point2D;
 import java.awt.geom.Rectangle2D;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import com.mars_sim.core.building.Building;
 import com.mars_sim.core.building.construction.ConstructionSite;
 import com.mars_sim.core.map.location.Coordinates;
 import com.mars_sim.core.map.location.LocalBoundedObject;
 import com.mars_sim.core.map.location.LocalPosition;
+import com.mars_sim.core.map.location.ObstacleGrid;
 import com.mars_sim.core.structure.Settlement;
 import com.mars_sim.core.time.MarsTime;
 import com.mars_sim.core.time.MasterClock;
@@ -36,8 +38,14 @@ import com.mars_sim.core.vehicle.Vehicle;
  */
 public class LocalAreaUtil {
 
-	// Record representing an Area and when it was calculated
-	private record CachedArea(Area area, MarsTime when) {};
+	/**
+	 * The obstacle grid of a location and when it was last checked against the obstacles.
+	 */
+	private static class CachedGrid {
+		private ObstacleGrid grid = new ObstacleGrid();
+		private MarsTime when;
+		private volatile boolean changed = true;
+	}
 
 	/** default logger. */
 	// May add back private static SimLogger logger = SimLogger.getLogger(LocalAreaUtil.class.getName())
@@ -50,9 +58,9 @@ public class LocalAreaUtil {
 	private static final double DEGREE_PER_RAD = 180 / Math.PI;
 
 	/**
-	 * Cache for total area containing obstacles for a given coordinate location.
+	 * Obstacle grids for each coordinate location holding obstacles.
 	 */
-	private static final Map<Coordinates, CachedArea> obstacleAreaCache = new HashMap<>();
+	private static final Map<Coordinates, CachedGrid> obstacleGrids = new ConcurrentHashMap<>();
 
 	private static UnitManager unitManager;
 	private static MasterClock master;
@@ -567,7 +575,7 @@ public class LocalAreaUtil {
 		Rectangle2D objectRect = new Rectangle2D.Double(xLoc - (width / 2D), yLoc - (length / 2D), width, length);
 		Path2D objectPath = getPathFromRectangleRotation(objectRect, facing);
 
-		result = isPathCollisionFree(object, objectPath, coordinates, false);
+		result = isPathCollisionFree(object, objectPath, coordinates);
 
 		return result;
 	}
@@ -578,15 +586,63 @@ public class LocalAreaUtil {
 	 *
 	 * @param line        the line.
 	 * @param coordinates the global coordinate location to check.
-	 * @param useCache    true if caching should be used.
+	 * @param useCache    true if the obstacle grid should be used rather than an exact check.
 	 * @return true if line path doesn't collide with anything.
 	 */
 	public static boolean isLinePathCollisionFree(Line2D line, Coordinates coordinates, boolean useCache) {
-		// Create line path
-//		Path2D linePath = createLinePath(line);
+		if (useCache) {
+			// Use the obstacle grid which is quicker but slightly cautious
+			return getObstacleGrid(coordinates).isLineFree(new LocalPosition(line.getX1(), line.getY1()),
+											new LocalPosition(line.getX2(), line.getY2()));
+		}
+
+		return isPathCollisionFree(null, createLinePath(line), coordinates);
+	}
+
+	/**
+	 * Finds an outside walking path between two positions that avoids any vehicle, building
+	 * or construction site at a location.
+	 *
+	 * @param start       the starting position.
+	 * @param destination the destination position.
+	 * @param coordinates the global coordinate location.
+	 * @return path from start to destination or null if none found.
+	 */
+	public static List<LocalPosition> findObstacleAvoidancePath(LocalPosition start, LocalPosition destination,
+									Coordinates coordinates) {
+		return getObstacleGrid(coordinates).findPath(start, destination);
+	}
 
-		return isPathCollisionFree(null, createLinePath(line), coordinates, useCache);
+	/**
+	 * Gets the obstacle grid of a location. It is brought up to date with the obstacles
+	 * once per pulse or if something has changed.
+	 *
+	 * @param coordinates the global coordinate location.
+	 * @return the grid
+	 */
+	private static ObstacleGrid getObstacleGrid(Coordinates coordinates) {
+		var cached = obstacleGrids.computeIfAbsent(coordinates, c -> new CachedGrid());
+		synchronized (cached) {
+			MarsTime now = master.getMarsTime();
+			if (cached.changed || !now.equals(cached.when)) {
+				cached.changed = false;
+				cached.when = now;
+				cached.grid.refresh(getAllLocalBoundedObjectsAtLocation(coordinates));
+			}
+		}
+		return cached.grid;
+	}
 
+	/**
+	 * Notes that an obstacle at a location has been added, moved or removed.
+	 *
+	 * @param coordinates the global coordinate location.
+	 */
+	public static void obstaclesChanged(Coordinates coordinates) {
+		var cached = (coordinates != null ? obstacleGrids.get(coordinates) : null);
+		if (cached != null) {
+			cached.changed = true;
+		}
 	}
 
 	/**
@@ -742,40 +798,26 @@ public class LocalAreaUtil {
 	 * @param object      the object being checked (may be null if no object).
 	 * @param path        the path to check.
 	 * @param coordinates the global coordinate location to check.
-	 * @param useCache    true if caching should be used.
 	 * @return true if path doesn't collide with anything.
 	 */
-	private static boolean isPathCollisionFree(Object object, Path2D path, Coordinates coordinates, boolean useCache) {
+	private static boolean isPathCollisionFree(Object object, Path2D path, Coordinates coordinates) {
 
 		boolean result = true;
 
-		// Check if obstacle area has been cached for this coordinate location if using
-		// cache.
-		boolean cached = false;
+		// Add all obstacle areas at location together to create a total obstacle area.
 		Area obstacleArea = null;
-		if (useCache && obstacleAreaCache.containsKey(coordinates)) {
-			CachedArea cachedArea = obstacleAreaCache.get(coordinates);
-			if (master.getMarsTime().equals(cachedArea.when())) {
-				cached = true;
-				obstacleArea = cachedArea.area();
-			}
-		}
-
-		if (!cached) {
-			// Add all obstacle areas at location together to create a total obstacle area.
-			Iterator<LocalBoundedObject> i = getAllLocalBoundedObjectsAtLocation(coordinates).iterator();
-			while (i.hasNext()) {
-				LocalBoundedObject lbo = i.next();
-				if (object == null || lbo != object) {
-					Rectangle2D objectRect = new Rectangle2D.Double(lbo.getXLocation() - (lbo.getWidth() / 2D),
-							lbo.getYLocation() - (lbo.getLength() / 2D), lbo.getWidth(), lbo.getLength());
-					Path2D objectPath = getPathFromRectangleRotation(objectRect, lbo.getFacing());
-					Area objectArea = new Area(objectPath);
-					if (obstacleArea == null) {
-						obstacleArea = objectArea;
-					} else {
-						obstacleArea.add(objectArea);
-					}
+		Iterator<LocalBoundedObject> i = getAllLocalBoundedObjectsAtLocation(coordinates).iterator();
+		while (i.hasNext()) {
+			LocalBoundedObject lbo = i.next();
+			if (object == null || lbo != object) {
+				Rectangle2D objectRect = new Rectangle2D.Double(lbo.getXLocation() - (lbo.getWidth() / 2D),
+						lbo.getYLocation() - (lbo.getLength() / 2D), lbo.getWidth(), lbo.getLength());
+				Path2D objectPath = getPathFromRectangleRotation(objectRect, lbo.getFacing());
+				Area objectArea = new Area(objectPath);
+				if (obstacleArea == null) {
+					obstacleArea = objectArea;
+				} else {
+					obstacleArea.add(objectArea);
 				}
 			}
 		}
@@ -793,19 +835,14 @@ public class LocalAreaUtil {
 			}
 		}
 
-		// Store cached obstacle area for location with current timestamp if needed.
-		if (useCache && !cached && (obstacleArea != null)) {
-			obstacleAreaCache.put(coordinates, new CachedArea(obstacleArea, master.getMarsTime()));
-		}
-
 		return result;
 	}
 
 	/**
-	 * Clears the obstacle area cache and time stamps.
+	 * Clears the obstacle grids.
 	 */
 	public static void clearObstacleCache() {
-		obstacleAreaCache.clear();
+		obstacleGrids.clear();
 	}
 
 	/**
@@ -10,6 +10,7 @@ import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.ObjectStreamException;
@@ -23,11 +24,11 @@ import java.text.DateFormat;
 import java.util.Arrays;
 import java.util.Date;
 import java.util.List;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.zip.GZIPInputStream;
-import java.util.zip.GZIPOutputStream;
 
 import com.mars_sim.core.air.AirComposition;
 import com.mars_sim.core.authority.AuthorityFactory;
@@ -75,6 +76,12 @@ import com.mars_sim.core.person.health.MedicalConfig;
 import com.mars_sim.core.person.health.MedicalManager;
 import com.mars_sim.core.science.ScientificStudy;
 import com.mars_sim.core.science.ScientificStudyManager;
+import com.mars_sim.core.saving.ChunkedFormat;
+import com.mars_sim.core.saving.ChunkedInputStream;
+import com.mars_sim.core.saving.ChunkedOutputStream;
+import com.mars_sim.core.saving.SaveSnapshot;
+import com.mars_sim.core.saving.SectionedOutputStream;
+import com.mars_sim.core.saving.SnapshotWriter;
 import com.mars_sim.core.science.ScientificStudyUtil;
 import com.mars_sim.core.structure.Airlock;
 import com.mars_sim.core.structure.ExplorationManager;
@@ -82,8 +89,10 @@ import com.mars_sim.core.time.ClockListener;
 import com.mars_sim.core.time.ClockPulse;
 import com.mars_sim.core.time.MasterClock;
 import com.mars_sim.core.time.SystemDateTime;
+import com.mars_sim.core.time.Temporal;
 import com.mars_sim.core.tool.CheckSerializedSize;
 import com.mars_sim.core.tool.Msg;
+import com.mars_sim.core.tool.RandomUtil;
 import com.mars_sim.core.vehicle.Rover;
 
 /**
@@ -133,6 +142,16 @@ public class Simulation implements ClockListener, Serializable {
 	/** The dashes. */
 	private static final String DASHES = " ---------------------------------------------------------";
 
+	// Names of the random streams of the simulation wide Temporals; these must not change
+	private static final String LUNAR_COLONY_MANAGER = "lunarColonyManager";
+	private static final String ORBIT_INFO = "orbitInfo";
+	private static final String WEATHER = "weather";
+	private static final String SURFACE_FEATURES = "surfaceFeatures";
+	private static final String MALFUNCTION_FACTORY = "malfunctionFactory";
+	private static final String UNIT_MANAGER = "unitManager";
+	private static final String MARKET_MANAGER = "marketManager";
+	private static final String TRANSPORT_MANAGER = "transportManager";
+
 	/** Default save filename. */
 	public static final  String SAVE_FILE = Msg.getString("Simulation.saveFile"); //$NON-NLS-1$
 	/** Default save filename extension. */
@@ -193,6 +212,8 @@ public class Simulation implements ClockListener, Serializable {
 	private transient SaveType savePending = null;
 	private transient File savePendingFile = null;
 	private transient SimulationListener saveCallback = null;
+	/** Writes autosave snapshots in the background. */
+	private transient SnapshotWriter snapshotWriter = new SnapshotWriter();
 
 	/**
 	 * Private constructor for the Singleton Simulation. This prevents instantiation
@@ -679,6 +700,7 @@ public class Simulation implements ClockListener, Serializable {
 	 * @param autosaveDefault True if default is used for autosave
 	 */
 	public void startClock(boolean autosaveDefault) {
+		masterClock.setPipelinedDispatch(simulationConfig.isPipelinedDispatch());
 		masterClock.addClockListener(this, 0);
 		
 		// Add a listener to trigger the auto save
@@ -735,14 +757,20 @@ public class Simulation implements ClockListener, Serializable {
      */
     private void deserialize(File file) throws IOException, ClassNotFoundException {
 
-		FileInputStream in = null;
+		InputStream in = null;
 	    ObjectInputStream ois = null;
 
 		try {
-			in = new FileInputStream(file);
+			// Older saves are a single GZIP stream
+			if (ChunkedFormat.isChunked(file)) {
+				in = new ChunkedInputStream(file);
+			}
+			else {
+				in = new GZIPInputStream(new FileInputStream(file));
+			}
 
 			// Stream the file directly into the Object stream to reduce memory
-			ois = new ObjectInputStream(new GZIPInputStream(in));
+			ois = new ObjectInputStream(in);
 
 			// Load remaining serialized objects
 			lastSaveTimeStamp = (Date) ois.readObject();
@@ -870,14 +898,30 @@ public class Simulation implements ClockListener, Serializable {
 	 */
 	synchronized void saveSimulation(SaveType type, File file, SimulationListener callback) {
 
+		boolean isAutosave = (type == SaveType.AUTOSAVE || type == SaveType.AUTOSAVE_AS_DEFAULT);
+		if (snapshotWriter.isBusy()) {
+			if (isAutosave) {
+				logger.warning("Skipping the autosave as the previous one is still being written.");
+				return;
+			}
+			// An explicit save may overwrite the same file
+			snapshotWriter.awaitIdle();
+		}
+
+		// Autosaves capture a snapshot at this pulse boundary and are written in the background
+		// so the clock does not need to stop
+		boolean useSnapshot = isAutosave && snapshotWriter.hasMemoryForSnapshot();
+
 		// Checks to see if the simulation is on pause
 		boolean isAlreadyPaused = masterClock.isPaused();
 
-		// Stops the master clock and removes the Simulation clock listener
-		masterClock.stop();
-		
-		if (!isAlreadyPaused) 
-			masterClock.setPaused(true, false);
+		if (!useSnapshot) {
+			// Stops the master clock and removes the Simulation clock listener
+			masterClock.stop();
+			
+			if (!isAlreadyPaused) 
+				masterClock.setPaused(true, false);
+		}
 
 		// Call up garbage collector System.gc(). But it's still up to the gc what it will do.
 
@@ -941,6 +985,11 @@ public class Simulation implements ClockListener, Serializable {
 			file.getParentFile().mkdirs();
 		}
 
+		if (useSnapshot) {
+			snapshotSave(type, file, srcPath, destPath, callback);
+			return;
+		}
+
 		boolean success = checkHeapSizeSerialize(type, file, srcPath, destPath);
 			
 		if (callback != null) {
@@ -954,6 +1003,77 @@ public class Simulation implements ClockListener, Serializable {
 		masterClock.start();
 	}
 
+	/**
+	 * Captures the simulation into an in-memory snapshot and writes it to file in the background.
+	 * This is called at the end of a pulse so nothing changes whilst the snapshot is taken;
+	 * the clock only waits for the capture and not for the compression and disk write.
+	 *
+	 * @param type
+	 * @param file the file to be saved to.
+	 * @param srcPath Path of the original file that was backed up
+	 * @param destPath Path of the backup
+	 * @param callback
+	 */
+	private void snapshotSave(SaveType type, File file, Path srcPath, Path destPath, SimulationListener callback) {
+		long start = System.currentTimeMillis();
+		SaveSnapshot snapshot = new SaveSnapshot();
+		try (ObjectOutputStream oos = new ObjectOutputStream(snapshot)) {
+			writeObjects(oos, snapshot);
+		}
+		catch (IOException e) {
+			logger.log(Level.SEVERE, "Problem capturing the simulation", e);
+			restoreBackup(srcPath, destPath);
+			if (callback != null) {
+				callback.eventPerformed(SimulationListener.SAVE_FAILED);
+			}
+			return;
+		}
+		long pauseTime = System.currentTimeMillis() - start;
+		justSaved = true;
+
+		snapshotWriter.write(snapshot, file, pauseTime).thenAccept(success -> {
+			if (success.booleanValue() && (type == SaveType.AUTOSAVE)) {
+				// Purge old auto backups
+				SimulationRuntime.purgeOldFiles(SimulationRuntime.getAutoSaveDir(),
+											   simulationConfig.getNumberAutoSaves(), SAVE_FILE_EXTENSION);
+			}
+			else if (!success.booleanValue()) {
+				restoreBackup(srcPath, destPath);
+			}
+
+			if (callback != null) {
+				callback.eventPerformed(success.booleanValue() ? SimulationListener.SAVE_COMPLETED
+										: SimulationListener.SAVE_FAILED);
+			}
+		});
+	}
+
+	/**
+	 * Puts back the previous default save file after a failed save.
+	 *
+	 * @param srcPath Path of the original file
+	 * @param destPath Path of the backup
+	 */
+	private static void restoreBackup(Path srcPath, Path destPath) {
+		if ((srcPath != null) && (destPath != null) && Files.exists(destPath)) {
+			try {
+				Files.move(destPath, srcPath, StandardCopyOption.REPLACE_EXISTING);
+			}
+			catch (IOException ioe) {
+				logger.severe("Problem restoring the previous save " + ioe.getMessage());
+			}
+		}
+	}
+
+	/**
+	 * Gets the writer used for background autosaves; this holds the timings of the last one.
+	 *
+	 * @return
+	 */
+	public SnapshotWriter getSnapshotWriter() {
+		return snapshotWriter;
+	}
+
 	private boolean checkHeapSizeSerialize(SaveType type, File file, Path  srcPath, Path destPath) {
 		boolean sucessful = false;
 		try {
@@ -983,21 +1103,6 @@ public class Simulation implements ClockListener, Serializable {
 		return sucessful;
 	}
 	
-	/**
-	 * Delays for a period of time in millis
-	 *
-	 * @param millis
-	 */
-    private static void delay(long millis) {
-        try {
-			TimeUnit.MILLISECONDS.sleep(millis);
-        } catch (InterruptedException e) {
-          	logger.log(Level.SEVERE, "Cannot sleep : " + e.getMessage());
-          	// Restore interrupted state
-            Thread.currentThread().interrupt();
-        }
-    }
-
     /**
      * Prints the format for the size of files.
      * 
@@ -1018,31 +1123,11 @@ public class Simulation implements ClockListener, Serializable {
     private boolean serialize(SaveType type, File file, Path srcPath, Path destPath)
             throws IOException {
 		boolean success = false;
-	    ObjectOutputStream oos = new ObjectOutputStream(
-	    			new GZIPOutputStream(new FileOutputStream(file)));
+		// Blocks of the stream are compressed in parallel as they fill
+		ChunkedOutputStream cos = new ChunkedOutputStream(new FileOutputStream(file));
+	    ObjectOutputStream oos = new ObjectOutputStream(cos);
 		try {
-
-			// Set a delay for 500 millis to avoid java.util.ConcurrentModificationException
-			delay(500L);
-
-			// Store the in-transient objects.
-			oos.writeObject(lastSaveTimeStamp);
-			oos.writeObject(malfunctionFactory);
-			oos.writeObject(lunarWorld);
-			oos.writeObject(lunarColonyManager);
-			oos.writeObject(orbitInfo);
-			oos.writeObject(weather);
-			oos.writeObject(surfaceFeatures);		
-			oos.writeObject(missionManager);
-			oos.writeObject(medicalManager);
-			oos.writeObject(scientificStudyManager);
-			oos.writeObject(eventManager);
-			oos.writeObject(transportManager);
-			oos.writeObject(marketManager);
-			oos.writeObject(unitManager);
-			oos.writeObject(masterClock);
-
-			oos.flush();
+			writeObjects(oos, cos);
 			oos.close();
 
 			// Print the size of the saved sim
@@ -1068,6 +1153,51 @@ public class Simulation implements ClockListener, Serializable {
 		return success;
     }
 
+	/**
+	 * Writes the in-transient objects as named sections. Saving is only triggered at the end
+	 * of a pulse so nothing else is changing them.
+	 * 
+	 * @param oos Object stream
+	 * @param sos Sectioned stream under the object stream
+	 * @throws IOException
+	 */
+	private void writeObjects(ObjectOutputStream oos, SectionedOutputStream sos) throws IOException {
+		writeSection(oos, sos, "timestamp", lastSaveTimeStamp);
+		writeSection(oos, sos, "malfunctionFactory", malfunctionFactory);
+		writeSection(oos, sos, "lunarWorld", lunarWorld);
+		writeSection(oos, sos, "lunarColonyManager", lunarColonyManager);
+		writeSection(oos, sos, "orbitInfo", orbitInfo);
+		writeSection(oos, sos, "weather", weather);
+		writeSection(oos, sos, "surfaceFeatures", surfaceFeatures);		
+		writeSection(oos, sos, "missionManager", missionManager);
+		writeSection(oos, sos, "medicalManager", medicalManager);
+		writeSection(oos, sos, "scientificStudyManager", scientificStudyManager);
+		writeSection(oos, sos, "eventManager", eventManager);
+		writeSection(oos, sos, "transportManager", transportManager);
+		writeSection(oos, sos, "marketManager", marketManager);
+		writeSection(oos, sos, "unitManager", unitManager);
+		writeSection(oos, sos, "masterClock", masterClock);
+
+		oos.flush();
+	}
+
+	/**
+	 * Writes an object as a named section of the save file.
+	 * 
+	 * @param oos Object stream
+	 * @param sos Sectioned stream under the object stream
+	 * @param name Section name
+	 * @param o Object to write
+	 * @throws IOException
+	 */
+	private static void writeSection(ObjectOutputStream oos, SectionedOutputStream sos, String name, Object o)
+			throws IOException {
+		// Flush so the section starts at the right position
+		oos.flush();
+		sos.startSection(name);
+		oos.writeObject(o);
+	}
+
 	/**
 	 * Prints the object and its size.
 	 * 
@@ -1199,6 +1329,9 @@ public class Simulation implements ClockListener, Serializable {
 		logger.log(Level.CONFIG, "Exiting the simulation. Good Bye !");
 
 		instance().stop();
+		// Lets any background save complete
+		snapshotWriter.awaitIdle();
+
 		// Ends the clock listener executor in master clock
 		if (masterClock != null)
 			masterClock.shutdown();
@@ -1396,24 +1529,46 @@ public class Simulation implements ClockListener, Serializable {
 			
 			// Future: Will call each nation's timePassing(pulse) once per pulse
 		
-			lunarColonyManager.timePassing(pulse);
+			// The lunar colonies do not interact with Mars within a pulse so can
+			// run alongside the Mars managers when pipelined
+			CompletableFuture<Void> lunarPulse = null;
+			if (masterClock.isPipelinedDispatch()) {
+				// Get the stream here as the streams are only used by the clock thread
+				var lunarStream = unitManager.getTemporalStream(LUNAR_COLONY_MANAGER);
+				lunarPulse = CompletableFuture.runAsync(() -> RandomUtil.runWithStream(lunarStream,
+											() -> lunarColonyManager.timePassing(pulse)));
+			}
+			else {
+				timePassing(LUNAR_COLONY_MANAGER, lunarColonyManager, pulse);
+			}
 			
-			orbitInfo.timePassing(pulse);
+			// The Mars managers depend on each other so must stay in sequence
+			timePassing(ORBIT_INFO, orbitInfo, pulse);
 			
-			weather.timePassing(pulse);
+			timePassing(WEATHER, weather, pulse);
 
-			surfaceFeatures.timePassing(pulse);
+			timePassing(SURFACE_FEATURES, surfaceFeatures, pulse);
 
 			if (pulse.isNewSol()) {
 				// Compute reliability daily for each part
-				malfunctionFactory.computePartReliability(pulse.getMarsTime().getMissionSol());
+				RandomUtil.runWithStream(unitManager.getTemporalStream(MALFUNCTION_FACTORY),
+						() -> malfunctionFactory.computePartReliability(pulse.getMarsTime().getMissionSol()));
 			}
 		
-			unitManager.timePassing(pulse);
+			timePassing(UNIT_MANAGER, unitManager, pulse);
 			
-			marketManager.timePassing(pulse);
+			timePassing(MARKET_MANAGER, marketManager, pulse);
 			
-			transportManager.timePassing(pulse);
+			timePassing(TRANSPORT_MANAGER, transportManager, pulse);
+
+			if (lunarPulse != null) {
+				try {
+					lunarPulse.join();
+				}
+				catch (CompletionException ce) {
+					logger.log(Level.SEVERE, "Problem with the lunar colony pulse", ce.getCause());
+				}
+			}
 			
 			// Pending save
 			if (savePending != null) {
@@ -1424,6 +1579,18 @@ public class Simulation implements ClockListener, Serializable {
 		}
 	}
 
+	/**
+	 * Passes a pulse to a simulation wide Temporal that draws from its own random stream
+	 * so the numbers drawn do not depend on which thread runs the clock.
+	 * 
+	 * @param name Name of the Temporal's stream
+	 * @param target
+	 * @param pulse
+	 */
+	private void timePassing(String name, Temporal target, ClockPulse pulse) {
+		RandomUtil.runWithStream(unitManager.getTemporalStream(name), () -> target.timePassing(pulse));
+	}
+
 	@Override
 	public void pauseChange(boolean isPaused, boolean showPane) {
         clockOnPause = isPaused;
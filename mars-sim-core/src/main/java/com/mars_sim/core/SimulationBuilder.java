@@ -7,7 +7,7 @@
 package com.mars_sim.core;
 
 import java.io.File;
-import java.io.FileNotFoundException;
+import java.io.IOException;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.List;
@@ -22,6 +22,8 @@ import org.apache.commons.cli.Option;
 import com.mars_sim.core.authority.Authority;
 import com.mars_sim.core.configuration.ScenarioConfig;
 import com.mars_sim.core.configuration.UserConfigurableConfig;
+import com.mars_sim.core.logging.AsyncLogHandler;
+import com.mars_sim.core.logging.AsyncLogHandler.OverflowPolicy;
 import com.mars_sim.core.logging.DiagnosticsManager;
 import com.mars_sim.core.map.common.FileLocator;
 import com.mars_sim.core.map.location.Coordinates;
@@ -36,6 +38,7 @@ import com.mars_sim.core.tool.RandomUtil;
 public class SimulationBuilder {
 	private static final String NEW_ARG = "new";
 	private static final String LOG_ARG = "log";
+	private static final String ASYNCLOG_ARG = "asynclog";
 	private static final String CONFIG_ARG = "configdir";
 	private static final String TIMERATIO_ARG = "timeratio";
 	private static final String TEMPLATE_ARG = "template";
@@ -47,6 +50,10 @@ public class SimulationBuilder {
 	private static final String CREW_ARG = "crew";
 	private static final String DIAGNOSTICS_ARG = "diags";
 	private static final String SCENARIO_ARG = "scenario";
+	private static final String SEED_ARG = "seed";
+
+	// Name of the random stream used to create a new simulation
+	private static final String CREATION_STREAM = "creation";
 	
 	private static final Logger logger = Logger.getLogger(SimulationBuilder.class.getName());
 	
@@ -60,6 +67,9 @@ public class SimulationBuilder {
 	private boolean useCrews = true;
 	private UserConfigurableConfig<Crew> crewConfig;
 	private String scenarioName;
+	private float unpacedPulseWidth = 0; // zero means paced
+	private int unpacedEndSol = 0;
+	private Long seed = null; // null means seeded from the clock
 
 	public SimulationBuilder() {
 		super();
@@ -74,6 +84,31 @@ public class SimulationBuilder {
 		this.userTimeRatio = timeRatio;
 	}
 
+	/**
+	 * Runs the clock unpaced with a fixed pulse width until the end sol.
+	 * 
+	 * @param pulseWidth Millisols per pulse
+	 * @param endSol Last mission sol to run; zero for no end
+	 * @see com.mars_sim.core.time.MasterClock#setUnpaced(float, int)
+	 */
+	public void setUnpaced(float pulseWidth, int endSol) {
+		if (pulseWidth <= 0) {
+			throw new IllegalArgumentException("Unpaced pulse width must be positive");
+		}
+		this.unpacedPulseWidth = pulseWidth;
+		this.unpacedEndSol = endSol;
+	}
+
+	/**
+	 * Sets the master seed of the random numbers so a new simulation can be repeated.
+	 * A loaded simulation carries on with the seed it was saved with.
+	 * 
+	 * @param seed
+	 */
+	public void setSeed(long seed) {
+		this.seed = seed;
+	}
+
 	/**
 	 * Sets the loading of the crews.
 	 * 
@@ -120,10 +155,23 @@ public class SimulationBuilder {
 				}
 			}
 		}
-		catch (FileNotFoundException e) {
+		catch (IOException e) {
 			throw new IllegalArgumentException("Problem with diagnostics file: " + e.getMessage());			
 		}
 	}
+
+	/**
+	 * Enables the asynchronous logging from an option of the form policy[:capacity].
+	 * 
+	 * @param value
+	 */
+	private static void setAsyncLogging(String value) {
+		String[] parts = value.split(":");
+		OverflowPolicy policy = OverflowPolicy.valueOf(parts[0].trim().toUpperCase());
+		int capacity = (parts.length > 1 ? Integer.parseInt(parts[1].trim())
+										: AsyncLogHandler.DEFAULT_CAPACITY);
+		SimulationRuntime.enableAsyncLogging(capacity, policy);
+	}
 	
 	/**
 	 * Reload a previous simulation
@@ -164,6 +212,8 @@ public class SimulationBuilder {
 						.desc("Directory for configurations").get());
 		options.add(Option.builder(LOG_ARG)
 					.desc("Enable file logging").get());
+		options.add(Option.builder(ASYNCLOG_ARG).argName("drop|block[:capacity]").hasArg()
+					.desc("Write the logging on a background thread").get());
 		options.add(Option.builder(TIMERATIO_ARG).argName("Ratio (power of 2)").hasArg()
 								.desc("Define the time ratio of the simulation").get());
 		options.add(Option.builder(DATADIR_ARG).argName("path to data directory").hasArg()
@@ -185,6 +235,8 @@ public class SimulationBuilder {
 				.desc("Set the longitude of the new template Settlement").get());	
 		options.add(Option.builder(CREW_ARG).argName("true|false").hasArg()
 				.desc("Enable or disable use of the crews").get());	
+		options.add(Option.builder(SEED_ARG).argName("number").hasArg()
+				.desc("Master seed of the random numbers for a repeatable new simulation").get());
 		options.add(Option.builder(DIAGNOSTICS_ARG).argName("<module>,<module>.....").hasArg()
 				.desc("Enable diagnositics modules").get());	
 		return options;
@@ -200,6 +252,9 @@ public class SimulationBuilder {
 		if (line.hasOption(CONFIG_ARG)) {
 			SimulationRuntime.setDataDir(line.getOptionValue(CONFIG_ARG));
 		}
+		if (line.hasOption(ASYNCLOG_ARG)) {
+			setAsyncLogging(line.getOptionValue(ASYNCLOG_ARG));
+		}
 		if (line.hasOption(LOG_ARG)) {
 			SimulationRuntime.enableFileLogging();
 		}
@@ -230,6 +285,9 @@ public class SimulationBuilder {
 		if (line.hasOption(BASEURL_ARG)) {
 			FileLocator.setBaseURL(line.getOptionValue(BASEURL_ARG));
 		}
+		if (line.hasOption(SEED_ARG)) {
+			setSeed(Long.parseLong(line.getOptionValue(SEED_ARG)));
+		}
 		if (line.hasOption(CREW_ARG)) {
 			setUseCrews(Boolean.parseBoolean(line.getOptionValue(CREW_ARG)));
 		}
@@ -254,6 +312,40 @@ public class SimulationBuilder {
 	 */
 	public Simulation start() {
 		
+		if (seed != null) {
+			RandomUtil.setSeed(seed);
+		}
+
+		// Create on its own random stream so a seeded run does not depend on the calling thread
+		RandomUtil.runWithStream(RandomUtil.createStream(CREATION_STREAM), this::createSimulation);
+
+		Simulation sim = Simulation.instance();
+		while (true) {
+	        try {
+				TimeUnit.MILLISECONDS.sleep(1000);
+				if (!sim.isUpdating()) {
+					if (unpacedPulseWidth > 0) {
+						sim.getMasterClock().setUnpaced(unpacedPulseWidth, unpacedEndSol);
+					}
+					logger.config("Starting the Master Clock...");		
+					sim.startClock(false);
+					break;
+				}
+	        } catch (InterruptedException e) {
+				logger.log(Level.WARNING, "Trouble starting Main Window. ", e); 
+				// Restore interrupted state...
+			    Thread.currentThread().interrupt();
+	        }
+		}
+
+		
+		return sim;
+	}
+
+	/**
+	 * Loads or creates the simulation ready for the clock to start.
+	 */
+	private void createSimulation() {
 		// Load xml files but not until arguments parsed since it may change 
 		// the data directory
 		SimulationConfig simConfig = SimulationConfig.loadConfig();
@@ -299,24 +391,6 @@ public class SimulationBuilder {
 			// initialize getTransportManager	
 			sim.getTransportManager().init(sim);
 		}
-
-		while (true) {
-	        try {
-				TimeUnit.MILLISECONDS.sleep(1000);
-				if (!sim.isUpdating()) {
-					logger.config("Starting the Master Clock...");		
-					sim.startClock(false);
-					break;
-				}
-	        } catch (InterruptedException e) {
-				logger.log(Level.WARNING, "Trouble starting Main Window. ", e); 
-				// Restore interrupted state...
-			    Thread.currentThread().interrupt();
-	        }
-		}
-
-		
-		return sim;
 	}
 
 	/**
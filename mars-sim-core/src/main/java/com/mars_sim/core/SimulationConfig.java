@@ -103,6 +103,8 @@ public class SimulationConfig {
 	private static final String CONTENT_URL = "content-url";
 
 	protected static final String EXECUTOR_TYPE = "executor-type";
+	private static final String CLOCK_DISPATCH = "clock-dispatch";
+	private static final String PIPELINED_DISPATCH = "pipelined";
 
 	private static SimulationConfig instance = null;
 
@@ -119,6 +121,7 @@ public class SimulationConfig {
 	private int numberOfAutoSaves = 0;
 	private int averageTransitTime = 0;
 	private String executorType = null;	
+	private boolean pipelinedDispatch = false;
 	
 	/*
 	 * -----------------------------------------------------------------------------
@@ -219,6 +222,10 @@ public class SimulationConfig {
 			defaultTimePulse = loadIntValue(timeConfig, DEFAULT_TIME_PULSE, 1, 2048);
 			baseTimeRatio = loadIntValue(timeConfig, BASE_TIME_RATIO, 1, (int)MasterClock.HIGH_SPEED_RATIO);
 			executorType = loadValue(timeConfig, EXECUTOR_TYPE);
+			// Optional so older user copies of simulation.xml still load
+			if (timeConfig.getChild(CLOCK_DISPATCH) != null) {
+				pipelinedDispatch = PIPELINED_DISPATCH.equalsIgnoreCase(loadValue(timeConfig, CLOCK_DISPATCH));
+			}
 			averageTransitTime = loadIntValue(timeConfig, AVERAGE_TRANSIT_TIME, 0, 430);
 			autosaveInterval = loadIntValue(timeConfig, AUTOSAVE_INTERVAL, 1, 360);
 			numberOfAutoSaves = loadIntValue(timeConfig, AUTOSAVE_NUMBER, 1, 100);
@@ -363,6 +370,15 @@ public class SimulationConfig {
     public String getExecutorType() {
         return executorType;
 	}
+
+	/**
+	 * Are the clock listeners fed by a coalescing queue decoupled from the simulation pulse ?
+	 * 
+	 * @return True if clock-dispatch is pipelined
+	 */
+	public boolean isPipelinedDispatch() {
+		return pipelinedDispatch;
+	}
 	
 	/**
 	 * Gets the min EVA light.
@@ -20,6 +20,8 @@ import java.util.logging.Logger;
 
 import org.apache.commons.io.FileUtils;
 
+import com.mars_sim.core.logging.AsyncLogHandler;
+import com.mars_sim.core.logging.AsyncLogHandler.OverflowPolicy;
 import com.mars_sim.core.logging.SimuLoggingFilter;
 import com.mars_sim.core.logging.SimuLoggingFormatter;
 import com.mars_sim.core.map.common.FileLocator;
@@ -89,6 +91,7 @@ public class SimulationRuntime {
 			+ ((NUM_CORES == 1) ? " Core" : " Cores"); 
 	
 	private static boolean fileLogEnabled = false;
+	private static boolean asyncLogEnabled = false;
 
 	/**
 	 * Private constructor prevents instantiation.
@@ -160,7 +163,8 @@ public class SimulationRuntime {
 				logger.config("File logging enabled to " + logFile + ".");
 				
                 // Get top level logger
-                Logger.getLogger("").addHandler(fileHandler);
+                Logger.getLogger("").addHandler(asyncLogEnabled ? new AsyncLogHandler(fileHandler)
+																: fileHandler);
 				
                 fileLogEnabled = true;
 
@@ -170,6 +174,30 @@ public class SimulationRuntime {
         }
     }
 
+	/**
+	 * Moves the writing of the log output on to a background thread. The existing handlers
+	 * of the top level logger are wrapped, as is the file handler if enabled later.
+	 * 
+	 * @param capacity Number of records that can wait to be written
+	 * @param policy What happens when the records are logged faster than they are written
+	 */
+	public static void enableAsyncLogging(int capacity, OverflowPolicy policy) {
+		if (!asyncLogEnabled) {
+			AsyncLogHandler.configure(capacity, policy);
+
+			Logger root = Logger.getLogger("");
+			for (Handler h : root.getHandlers()) {
+				if (!(h instanceof AsyncLogHandler)) {
+					root.removeHandler(h);
+					root.addHandler(new AsyncLogHandler(h));
+				}
+			}
+			asyncLogEnabled = true;
+			logger.config("Asynchronous logging enabled with " + policy.name().toLowerCase()
+								+ " on a buffer of " + capacity + ".");
+		}
+	}
+
 	/**
 	 * Purges any old files from a directory.
 	 * 
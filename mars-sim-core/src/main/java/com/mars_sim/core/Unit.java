@@ -6,12 +6,13 @@
  */
 package com.mars_sim.core;
 
-import java.io.FileNotFoundException;
-import java.io.PrintWriter;
+import java.io.IOException;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.logging.Logger;
 
 import com.mars_sim.core.environment.Weather;
+import com.mars_sim.core.logging.DiagnosticsManager;
 import com.mars_sim.core.logging.SimLogger;
 import com.mars_sim.core.person.ai.mission.MissionManager;
 import com.mars_sim.core.structure.Settlement;
@@ -59,22 +60,22 @@ public abstract class Unit implements UnitIdentifer, Comparable<Unit> {
 	protected static Weather weather;
 
 	// File for diagnostics output
-	private static PrintWriter diagnosticFile = null;
+	private static Logger diagnosticFile = null;
 
 	/**
 	 * Enable the detailed diagnostics
 	 *
-	 * @throws FileNotFoundException
+	 * @throws IOException
 	 */
-	public static void setDiagnostics(boolean diagnostics) throws FileNotFoundException {
+	public static void setDiagnostics(boolean diagnostics) throws IOException {
 		if (diagnostics) {
 			if (diagnosticFile == null) {
-				String filename = SimulationRuntime.getLogDir() + "/unit-create.txt";
-				diagnosticFile = new PrintWriter(filename);
+				String filename = "unit-create.txt";
+				diagnosticFile = DiagnosticsManager.openDiagnosticLog(filename);
 				logger.config("Diagnostics enabled to " + filename);
 			}
 		} else if (diagnosticFile != null) {
-			diagnosticFile.close();
+			DiagnosticsManager.closeDiagnosticLog(diagnosticFile);
 			diagnosticFile = null;
 		}
 	}
@@ -89,10 +90,7 @@ public abstract class Unit implements UnitIdentifer, Comparable<Unit> {
 		output.append(masterClock.getMarsTime().getDateTimeStamp()).append(" Id:").append(entry.getIdentifier())
 				.append(" Type:").append(entry.getUnitType()).append(" Name:").append(entry.getName());
 
-		synchronized (diagnosticFile) {
-			diagnosticFile.println(output.toString());
-			diagnosticFile.flush();
-		}
+		diagnosticFile.info(output.toString());
 	}
 
 	/**
@@ -16,6 +16,7 @@ public enum UnitEventType {
 	INVENTORY_STORING_UNIT_EVENT	("inventory storing unit"),
 	INVENTORY_RETRIEVING_UNIT_EVENT	("inventory retrieving unit"),
 	INVENTORY_RESOURCE_EVENT		("inventory resource event"),
+	RESOURCE_LEDGER_EVENT			("resource ledger changes"),
 
 	// For Unit
 	NAME_EVENT						("name"),
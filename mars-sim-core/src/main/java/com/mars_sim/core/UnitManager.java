@@ -24,6 +24,7 @@ import com.mars_sim.core.building.construction.ConstructionSite;
 import com.mars_sim.core.environment.MarsSurface;
 import com.mars_sim.core.environment.OuterSpace;
 import com.mars_sim.core.equipment.Equipment;
+import com.mars_sim.core.logging.PulseProfiler;
 import com.mars_sim.core.logging.SimLogger;
 import com.mars_sim.core.map.location.Coordinates;
 import com.mars_sim.core.moon.Moon;
@@ -32,9 +33,13 @@ import com.mars_sim.core.robot.Robot;
 import com.mars_sim.core.structure.Settlement;
 import com.mars_sim.core.time.ClockPulse;
 import com.mars_sim.core.time.Temporal;
+import com.mars_sim.core.tool.RandomStream;
+import com.mars_sim.core.tool.RandomUtil;
 import com.mars_sim.core.unit.TemporalExecutor;
 import com.mars_sim.core.unit.TemporalExecutorService;
+import com.mars_sim.core.unit.TemporalForkJoinExecutor;
 import com.mars_sim.core.unit.TemporalThreadExecutor;
+import com.mars_sim.core.unit.TemporalVirtualThreadExecutor;
 import com.mars_sim.core.vehicle.Vehicle;
 
 /**
@@ -60,6 +65,8 @@ public class UnitManager implements Serializable, Temporal {
 
 	public static final String THREAD = "thread";
 	public static final String SHARED = "shared";
+	public static final String FORKJOIN = "forkjoin";
+	public static final String VIRTUAL = "virtual";
 	
 
 	// Data members
@@ -67,6 +74,10 @@ public class UnitManager implements Serializable, Temporal {
 	private int uniqueId = 0;
 	/** The commander's unique id . */
 	private int commanderID = -1;
+	/** Master seed of the random streams; null for older saves. */
+	private Long randomSeed = RandomUtil.getSeed();
+	/** Random streams of the simulation wide Temporals keyed on their name; null for older saves. */
+	private Map<String, RandomStream> temporalStreams = new HashMap<>();
 	/** The core engine's original build. */
 	private String originalBuild;
 
@@ -312,7 +323,10 @@ public class UnitManager implements Serializable, Temporal {
 	@Override
 	public boolean timePassing(ClockPulse pulse) {
 		if (pulse.getElapsed() > 0) {
+			long profileStart = PulseProfiler.start();
 			executor.applyPulse(pulse);
+			PulseProfiler.stop(PulseProfiler.Category.EXECUTOR, null, profileStart);
+			PulseProfiler.logSummaryIfDue();
 		}
 		else {
 			logger.warning("Zero elapsed pulse #" + pulse.getId());
@@ -335,6 +349,8 @@ public class UnitManager implements Serializable, Temporal {
 			executor = switch(execType) {
 				case THREAD -> new TemporalThreadExecutor();
 				case SHARED -> new TemporalExecutorService("Settlement-");
+				case FORKJOIN -> new TemporalForkJoinExecutor("Settlement-");
+				case VIRTUAL -> new TemporalVirtualThreadExecutor("Settlement-");
 				default -> throw new IllegalArgumentException("Unknown executor type called " + execType);
 			};
 		}
@@ -526,6 +542,19 @@ public class UnitManager implements Serializable, Temporal {
 		return (baseId << TYPE_BITS) + typeId;
 	}
 
+	/**
+	 * Gets the stream of random numbers for a simulation wide Temporal. It is derived from the
+	 * master seed and the name so a repeated run gets the same stream; it is saved so a
+	 * reloaded simulation carries on from the same point.
+	 * Note: must only be called from the clock thread.
+	 * 
+	 * @param name Stable name of the Temporal
+	 * @return
+	 */
+	public RandomStream getTemporalStream(String name) {
+		return temporalStreams.computeIfAbsent(name, RandomUtil::createStream);
+	}
+
 	public void setOriginalBuild(String build) {
 		originalBuild = build;
 	}
@@ -540,6 +569,16 @@ public class UnitManager implements Serializable, Temporal {
 	 * @param clock
 	 */
 	public void reinit() {
+		// Carry on with the same master seed so new streams follow on from the saved run
+		if (randomSeed != null) {
+			RandomUtil.setSeed(randomSeed);
+		}
+		else {
+			randomSeed = RandomUtil.getSeed();
+		}
+		if (temporalStreams == null) {
+			temporalStreams = new HashMap<>();
+		}
 
 		lookupPerson.values().forEach(Person::reinit);
 		lookupRobot.values().forEach(Robot::reinit);
@@ -63,6 +63,7 @@ import com.mars_sim.core.equipment.ResourceHolder;
 import com.mars_sim.core.events.HistoricalEvent;
 import com.mars_sim.core.events.HistoricalEventManager;
 import com.mars_sim.core.hazard.HazardEvent;
+import com.mars_sim.core.logging.PulseProfiler;
 import com.mars_sim.core.logging.SimLogger;
 import com.mars_sim.core.malfunction.Malfunction;
 import com.mars_sim.core.malfunction.MalfunctionFactory;
@@ -1205,6 +1206,7 @@ public class Building extends FixedUnit implements Malfunctionable,
 		if (!isValid(pulse)) {
 			return false;
 		}
+		long profileStart = PulseProfiler.start();
 
 		// Send time to each building function.
 		for (Function f : getFunctions())
@@ -1230,6 +1232,8 @@ public class Building extends FixedUnit implements Malfunctionable,
 		}
 		
 		inTransportMode = false;
+
+		PulseProfiler.stop(PulseProfiler.Category.BUILDING, getAssociatedSettlement(), profileStart);
 		return true;
 	}
 
@@ -236,6 +236,7 @@ public class BuildingManager implements Serializable {
 			getBuildingConnectorManager().removeAllConnectionsToBuilding(oldBuilding);
 
 			buildings.remove(oldBuilding);
+			LocalAreaUtil.obstaclesChanged(settlement.getCoordinates());
 
 			// use this only after buildingFunctionsMap has been created
 			for (var f : oldBuilding.getFunctions()) {
@@ -338,6 +339,7 @@ public class BuildingManager implements Serializable {
 			unitManager.addUnit(newBuilding);
 
 			buildings.add(newBuilding);
+			LocalAreaUtil.obstaclesChanged(settlement.getCoordinates());
 			
 			// Insert this new building into buildingFunctionsMap
 			refreshFunctionMapForBuilding(newBuilding);
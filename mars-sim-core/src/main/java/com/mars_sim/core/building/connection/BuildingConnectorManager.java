@@ -17,7 +17,6 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
 import java.util.logging.Level;
-import java.util.stream.Collectors;
 
 import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
@@ -99,6 +98,9 @@ public class BuildingConnectorManager implements Serializable {
 	private Settlement settlement;
 	
 	private Set<BuildingConnector> buildingConnections;
+
+	/** Connectivity of the buildings; rebuilt from the connections when loaded. */
+	private transient BuildingGraph graph;
 		
 	/**
 	 * Constructor
@@ -126,6 +128,8 @@ public class BuildingConnectorManager implements Serializable {
 	public void initialize(Settlement settlement, List<BuildingTemplate> buildingTemplates) {
 		
 		buildingConnections = new HashSet<>();
+		graph = null;
+		learntPaths.invalidateAll();
 
 		BuildingManager buildingManager = settlement.getBuildingManager();
 
@@ -363,6 +367,8 @@ public class BuildingConnectorManager implements Serializable {
 
 		if (!buildingConnections.contains(buildingConnector)) {
 			buildingConnections.add(buildingConnector);
+			getGraph().add(buildingConnector);
+			learntPaths.invalidateAll();
 		} else {
 			throw new IllegalArgumentException("BuildingConnector already exists.");
 		}
@@ -377,6 +383,8 @@ public class BuildingConnectorManager implements Serializable {
 
 		if (buildingConnections.contains(buildingConnector)) {
 			buildingConnections.remove(buildingConnector);
+			getGraph().remove(buildingConnector);
+			learntPaths.invalidateAll();
 		} else {
 			throw new IllegalArgumentException("BuildingConnector does not exists.");
 		}
@@ -389,10 +397,8 @@ public class BuildingConnectorManager implements Serializable {
 	 */
 	public void removeAllConnectionsToBuilding(Building building) {
 
-		Iterator<BuildingConnector> i = getConnectionsToBuilding(building).iterator();
-		while (i.hasNext()) {
-			BuildingConnector connector = i.next();
-			buildingConnections.remove(connector);
+		for (BuildingConnector connector : new ArrayList<>(getConnectionsToBuilding(building))) {
+			removeBuildingConnection(connector);
 		}
 	}
 
@@ -407,11 +413,8 @@ public class BuildingConnectorManager implements Serializable {
 
 		Set<BuildingConnector> result = new HashSet<>();
 
-		Iterator<BuildingConnector> i = buildingConnections.iterator();
-		while (i.hasNext()) {
-			BuildingConnector connector = i.next();
-			if ((building1.equals(connector.getBuilding1()) && building2.equals(connector.getBuilding2()))
-					|| (building1.equals(connector.getBuilding2()) && building2.equals(connector.getBuilding1()))) {
+		for (BuildingConnector connector : getConnectionsToBuilding(building1)) {
+			if (building2.equals(connector.getOtherBuilding(building1))) {
 				result.add(connector);
 			}
 		}
@@ -444,12 +447,34 @@ public class BuildingConnectorManager implements Serializable {
 	 * Gets all of the connections to a given building.
 	 * 
 	 * @param building the building.
-	 * @return a set of building connectors.
+	 * @return a read only set of building connectors.
 	 */
 	public Set<BuildingConnector> getConnectionsToBuilding(Building building) {
-		return buildingConnections.stream()
-				.filter(c -> building.equals(c.getBuilding1()) || building.equals(c.getBuilding2()))
-				.collect(Collectors.toSet());
+		return getGraph().getConnections(building);
+	}
+
+	/**
+	 * Gets the shortest route of buildings between two different buildings.
+	 * 
+	 * @param startBuilding the first building.
+	 * @param endBuilding the second building.
+	 * @return buildings on the route including both ends; null if there is no route.
+	 */
+	public List<Building> getRoute(Building startBuilding, Building endBuilding) {
+		return getGraph().getRoute(startBuilding, endBuilding);
+	}
+
+	/**
+	 * Gets the connectivity graph; it is built from the connections after a load.
+	 * 
+	 * @return
+	 */
+	private synchronized BuildingGraph getGraph() {
+		if (graph == null) {
+			graph = new BuildingGraph();
+			buildingConnections.forEach(graph::add);
+		}
+		return graph;
 	}
 
 	/**
@@ -460,17 +485,7 @@ public class BuildingConnectorManager implements Serializable {
 	 * @return true if valid interior walking path.
 	 */
 	public boolean hasValidPath(Building startBuilding, Building endBuilding) {
-		// Check agsint the already learnt paths
-		PathKey key = new PathKey(startBuilding, endBuilding);
-		if (learntPaths.getIfPresent(key) != null) {
-			return true;
-		}
-
-		BuildingLocation start = new BuildingLocation(startBuilding, startBuilding.getPosition());
-		BuildingLocation end = new BuildingLocation(endBuilding, endBuilding.getPosition());
-		var finder = new PathFinder(this, start, end);
-
-		var result = finder.isValidRoute();
+		var result = startBuilding.equals(endBuilding) || getGraph().hasRoute(startBuilding, endBuilding);
 		if (!result && logger.isLoggable(Level.FINEST)) {
 			logger.fine(startBuilding, "Unable to find valid interior walking path to " + endBuilding);
 		}
@@ -835,6 +850,7 @@ public class BuildingConnectorManager implements Serializable {
 	public void destroy() {
 		buildingConnections.forEach(c -> c.destroy());
 		buildingConnections = null;
+		graph = null;
 	}
 
 	/**
@@ -0,0 +1,204 @@
+/*
+ * Mars Simulation Project
+ * BuildingGraph.java
+ * @date 2025-08-14
+ */
+package com.mars_sim.core.building.connection;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.mars_sim.core.building.Building;
+
+/**
+ * The connectivity graph of the buildings in a settlement. Each building holds the
+ * connectors attached to it so neighbours are found without scanning every connector.
+ * A table of the shortest routes between every pair of buildings is built on first use
+ * and discarded whenever a connector is added or removed.
+ * Routes are measured in the number of buildings passed through.
+ * Changes to the connectors lock the graph; the routes are searched outside the lock and
+ * the table is only kept if the connectors have not changed in the meantime.
+ */
+class BuildingGraph {
+
+	/**
+	 * Shortest routes between all buildings. For each destination, next holds the
+	 * index of the neighbouring building that is one step closer; -1 if unreachable.
+	 */
+	private record RouteTable(Map<Building, Integer> index, Building[] nodes, int[][] next) {}
+
+	private Map<Building, Set<BuildingConnector>> adjacency = new LinkedHashMap<>();
+	private volatile RouteTable routes;
+	// Incremented on every change to the connectors
+	private int generation = 0;
+
+	/**
+	 * Adds a connector between two buildings.
+	 *
+	 * @param connector
+	 */
+	synchronized void add(BuildingConnector connector) {
+		adjacency.computeIfAbsent(connector.getBuilding1(), b -> new LinkedHashSet<>()).add(connector);
+		adjacency.computeIfAbsent(connector.getBuilding2(), b -> new LinkedHashSet<>()).add(connector);
+		generation++;
+		routes = null;
+	}
+
+	/**
+	 * Removes a connector between two buildings.
+	 *
+	 * @param connector
+	 */
+	synchronized void remove(BuildingConnector connector) {
+		removeFrom(connector.getBuilding1(), connector);
+		removeFrom(connector.getBuilding2(), connector);
+		generation++;
+		routes = null;
+	}
+
+	private void removeFrom(Building b, BuildingConnector connector) {
+		var connections = adjacency.get(b);
+		if (connections != null) {
+			connections.remove(connector);
+			if (connections.isEmpty()) {
+				adjacency.remove(b);
+			}
+		}
+	}
+
+	/**
+	 * Gets the connectors attached to a building.
+	 *
+	 * @param b
+	 * @return Copy of the connectors
+	 */
+	synchronized Set<BuildingConnector> getConnections(Building b) {
+		var connections = adjacency.get(b);
+		return (connections != null ? Set.copyOf(connections) : Collections.emptySet());
+	}
+
+	/**
+	 * Is there a route between two different buildings?
+	 *
+	 * @param start
+	 * @param end
+	 * @return
+	 */
+	boolean hasRoute(Building start, Building end) {
+		var table = getRoutes();
+		Integer s = table.index().get(start);
+		Integer e = table.index().get(end);
+		return (s != null) && (e != null) && (table.next()[e][s] >= 0);
+	}
+
+	/**
+	 * Gets the shortest route between two different buildings.
+	 *
+	 * @param start
+	 * @param end
+	 * @return Buildings on the route including both ends; null if there is no route
+	 */
+	List<Building> getRoute(Building start, Building end) {
+		var table = getRoutes();
+		Integer s = table.index().get(start);
+		Integer e = table.index().get(end);
+		if ((s == null) || (e == null) || (table.next()[e][s] < 0)) {
+			return null;
+		}
+
+		int[] towards = table.next()[e];
+		List<Building> route = new ArrayList<>();
+		route.add(start);
+		for (int n = s; n != e; n = towards[n]) {
+			route.add(table.nodes()[towards[n]]);
+		}
+		return route;
+	}
+
+	/**
+	 * Gets the current route table; it is rebuilt if the connectors have changed.
+	 */
+	private RouteTable getRoutes() {
+		var table = routes;
+		if (table != null) {
+			return table;
+		}
+
+		// Take a copy of the connections while locked
+		Building[] nodes;
+		Map<Building, Integer> index = new HashMap<>();
+		int[][] neighbours;
+		int builtFrom;
+		synchronized (this) {
+			table = routes;
+			if (table != null) {
+				return table;
+			}
+			builtFrom = generation;
+			nodes = adjacency.keySet().toArray(new Building[0]);
+			for (int i = 0; i < nodes.length; i++) {
+				index.put(nodes[i], i);
+			}
+
+			neighbours = new int[nodes.length][];
+			for (int i = 0; i < nodes.length; i++) {
+				var connections = adjacency.get(nodes[i]);
+				neighbours[i] = new int[connections.size()];
+				int j = 0;
+				for (var c : connections) {
+					neighbours[i][j++] = index.get(c.getOtherBuilding(nodes[i]));
+				}
+			}
+		}
+
+		table = buildRoutes(nodes, index, neighbours);
+		synchronized (this) {
+			// Discard the table if a connector changed during the search
+			if (generation == builtFrom) {
+				routes = table;
+			}
+		}
+		return table;
+	}
+
+	/**
+	 * Does a breadth first search out from every building. Because the connections are two way
+	 * the parent of a building in the search from a destination is the next step towards it.
+	 *
+	 * @param nodes Buildings in index order
+	 * @param index Index of each building
+	 * @param neighbours Indexes of the neighbours of each building
+	 */
+	private static RouteTable buildRoutes(Building[] nodes, Map<Building, Integer> index, int[][] neighbours) {
+		int[][] next = new int[nodes.length][];
+		int[] queue = new int[nodes.length];
+		for (int dest = 0; dest < nodes.length; dest++) {
+			int[] towards = new int[nodes.length];
+			Arrays.fill(towards, -1);
+			towards[dest] = dest;
+
+			int head = 0;
+			int tail = 0;
+			queue[tail++] = dest;
+			while (head < tail) {
+				int n = queue[head++];
+				for (int m : neighbours[n]) {
+					if (towards[m] < 0) {
+						towards[m] = n;
+						queue[tail++] = m;
+					}
+				}
+			}
+			next[dest] = towards;
+		}
+
+		return new RouteTable(index, nodes, next);
+	}
+}
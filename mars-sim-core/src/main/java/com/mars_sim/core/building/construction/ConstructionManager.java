@@ -11,6 +11,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
+import com.mars_sim.core.LocalAreaUtil;
 import com.mars_sim.core.Simulation;
 import com.mars_sim.core.SimulationConfig;
 import com.mars_sim.core.UnitEventType;
@@ -161,6 +162,7 @@ public class ConstructionManager implements Serializable {
 		ConstructionSite site = new ConstructionSite(settlement, siteName, buildingType, phases, placement);
 		sites.add(site);
     	Simulation.instance().getUnitManager().addUnit(site);
+		LocalAreaUtil.obstaclesChanged(settlement.getCoordinates());
 
 		settlement.fireUnitUpdate(UnitEventType.START_CONSTRUCTION_SITE_EVENT, site);
 		logger.info(site, "Just created for a " + buildingType);
@@ -177,6 +179,7 @@ public class ConstructionManager implements Serializable {
 	public void removeConstructionSite(ConstructionSite site) {
 		if (site.isProposed()) {
 			sites.remove(site);
+			LocalAreaUtil.obstaclesChanged(settlement.getCoordinates());
 		}
 	}
 
@@ -366,6 +369,7 @@ public class ConstructionManager implements Serializable {
     public void removeSite(ConstructionSite site) {
         if (sites.contains(site) && site.isProposed()) {
 			sites.remove(site);
+			LocalAreaUtil.obstaclesChanged(settlement.getCoordinates());
 
 			Simulation.instance().getUnitManager().removeUnit(site);
 		}
@@ -6,17 +6,17 @@
  */
 package com.mars_sim.core.data;
 
-import java.io.FileNotFoundException;
-import java.io.PrintWriter;
+import java.io.IOException;
 import java.text.DecimalFormat;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
-import com.mars_sim.core.SimulationRuntime;
+import com.mars_sim.core.logging.DiagnosticsManager;
 import com.mars_sim.core.logging.SimLogger;
 
 /**
@@ -30,7 +30,7 @@ public class RatingLog {
     private static final DecimalFormat SCORE_FORMAT = new DecimalFormat("0.###");
 	private static final SimLogger logger = SimLogger.getLogger(RatingLog.class.getName());
 
-    private static PrintWriter diagnosticFile;
+    private static Logger diagnosticFile;
     private static Map<String,Set<String>> modules = new HashMap<>();
 
     private RatingLog() {
@@ -41,9 +41,9 @@ public class RatingLog {
 	 * Enable the detailed diagnostics according to a diagnostic spec. 
      * @param spec Ths has the format of a module & optional selector
      * @param enabled Are the diagnostics enabled for this specification
-	 * @throws FileNotFoundException 
+	 * @throws IOException 
 	 */
-	public static void setDiagnostics(String spec, boolean enabled) throws FileNotFoundException {
+	public static void setDiagnostics(String spec, boolean enabled) throws IOException {
         String []parts = spec.toLowerCase().split(":");
         String module = parts[0];
 
@@ -73,12 +73,12 @@ public class RatingLog {
 
         // Decide on action
         if (!modules.isEmpty() && (diagnosticFile == null)) {
-            String filename = SimulationRuntime.getLogDir() + "/ratings-log.jsonl";
+            String filename = "ratings-log.jsonl";
             logger.info("Ratings log file = " + filename);
-            diagnosticFile  = new PrintWriter(filename);
+            diagnosticFile  = DiagnosticsManager.openDiagnosticLog(filename);
         }
 		else if (modules.isEmpty() && (diagnosticFile != null)) {
-			diagnosticFile.close();
+			DiagnosticsManager.closeDiagnosticLog(diagnosticFile);
 			diagnosticFile = null;
 		}
 	}
@@ -124,11 +124,7 @@ public class RatingLog {
             }
             output.append('}');
 
-            // Must be thread safe
-            synchronized(diagnosticFile) {
-                diagnosticFile.println(output.toString());
-                diagnosticFile.flush();                
-            }
+            diagnosticFile.info(output.toString());
         }
     }
 
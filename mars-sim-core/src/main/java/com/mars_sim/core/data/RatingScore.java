@@ -6,16 +6,24 @@
  */
 package com.mars_sim.core.data;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.io.Serializable;
 import java.text.DecimalFormat;
+import java.util.Arrays;
 import java.util.Collections;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * A class to represent a score Rating. Consists of a base value and a set
  * of modifiers that are applied to create a final score.
+ * The bases and modifiers are held as interned name ids with primitive values so a
+ * rating is cheap to create; the named breakdown is only built when asked for.
  */
 public class RatingScore implements Comparable<RatingScore>, Serializable {
 
@@ -23,6 +31,16 @@ public class RatingScore implements Comparable<RatingScore>, Serializable {
 
     private static final DecimalFormat SCORE_FORMAT = new DecimalFormat("0.###");
 
+    // Entries are keyed on the interned name id shifted left with the low bit marking a modifier
+    private static final int MODIFIER_FLAG = 1;
+    private static final int INITIAL_ENTRIES = 4;
+    private static final int[] NO_KEYS = new int[0];
+    private static final double[] NO_VALUES = new double[0];
+
+    // Must be created before ZERO_RATING
+    private static final Map<String, Integer> nameIds = new ConcurrentHashMap<>();
+    private static final List<String> names = new CopyOnWriteArrayList<>();
+
     /**
      * An instance that is a zero score that is immutable
      */
@@ -42,55 +60,112 @@ public class RatingScore implements Comparable<RatingScore>, Serializable {
 
     public static final String BASE = "base";
 
+    private transient int[] keys = NO_KEYS;
+    private transient double[] values = NO_VALUES;
+    private transient int size = 0;
+    private double score = -1;
+
+    // Only populated when loading a simulation saved before the compact form
+    @Deprecated
     private Map<String, Double> bases;
+    @Deprecated
     private Map<String, Double> modifiers;
-    private double score = -1;
 
     /**
      * Constructor 1.
-     * 
+     *
      */
     public RatingScore() {
-        this.modifiers = new HashMap<>();
-        this.bases = new HashMap<>();
         this.score = 0;
     }
 
     /**
      * Constructor 2. Creates a rating with a single base value using @see RatingScore.BASE.
-     * 
+     *
      * @param base Initial base value
      */
     public RatingScore(double base) {
         this(BASE, base);
     }
-    
+
     /**
      * Constructor 3. Creates a Rating Score that has a single base value.
-     * 
+     *
      * @param name Name associated with the base
      * @param base Score of the first base
      */
     public RatingScore(String name, double base) {
         this();
         this.score = base;
-        this.bases.put(name, base);
+        setEntry(intern(name) << 1, base);
     }
- 
+
     /**
      * Constructor 4. This is a copy constructor that takes a private copy of the modifiers.
-     * 
+     *
      * @param source Source of the copy
      */
     public RatingScore(RatingScore source) {
         this.score = source.score;
-        this.modifiers = new HashMap<>(source.modifiers);
-        this.bases = new HashMap<>(source.bases);
+        this.size = source.size;
+        if (size > 0) {
+            this.keys = Arrays.copyOf(source.keys, size);
+            this.values = Arrays.copyOf(source.values, size);
+        }
+    }
+
+    /**
+     * Gets the id of a base or modifier name; the same name always gets the same id.
+     *
+     * @param name
+     * @return
+     */
+    private static int intern(String name) {
+        Integer id = nameIds.get(name);
+        if (id == null) {
+            synchronized (names) {
+                id = nameIds.get(name);
+                if (id == null) {
+                    id = names.size();
+                    names.add(name);
+                    nameIds.put(name, id);
+                }
+            }
+        }
+        return id;
+    }
+
+    private static String nameOf(int key) {
+        return names.get(key >>> 1);
+    }
+
+    /**
+     * Sets the value of an entry replacing any existing one with the same key.
+     *
+     * @param key
+     * @param value
+     */
+    private void setEntry(int key, double value) {
+        for (int i = 0; i < size; i++) {
+            if (keys[i] == key) {
+                values[i] = value;
+                return;
+            }
+        }
+
+        if (size == keys.length) {
+            int newLength = Math.max(INITIAL_ENTRIES, size * 2);
+            keys = Arrays.copyOf(keys, newLength);
+            values = Arrays.copyOf(values, newLength);
+        }
+        keys[size] = key;
+        values[size] = value;
+        size++;
     }
 
     /**
      * Gets the score for this rating.
-     * 
+     *
      * @return
      */
     public double getScore() {
@@ -98,68 +173,101 @@ public class RatingScore implements Comparable<RatingScore>, Serializable {
     }
 
     /**
-     * Gets the modifiers applied in this Rating.
-     * 
+     * Gets the value of a single modifier without building the full breakdown.
+     *
+     * @param name Name of the modifier
+     * @param defaultValue Value if the modifier has not been applied
+     * @return
+     */
+    public double getModifier(String name, double defaultValue) {
+        Integer id = nameIds.get(name);
+        if (id != null) {
+            int key = (id << 1) | MODIFIER_FLAG;
+            for (int i = 0; i < size; i++) {
+                if (keys[i] == key) {
+                    return values[i];
+                }
+            }
+        }
+        return defaultValue;
+    }
+
+    /**
+     * Gets the modifiers applied in this Rating. The Map is built on each call.
+     *
      * @return
      */
     public Map<String, Double> getModifiers() {
-        return Collections.unmodifiableMap(modifiers);
+        return getEntries(MODIFIER_FLAG);
     }
 
     /**
-     * Gets the bases score in this Rating.
-     * 
+     * Gets the bases score in this Rating. The Map is built on each call.
+     *
      * @return
      */
     public Map<String, Double> getBases() {
-        return Collections.unmodifiableMap(bases);
+        return getEntries(0);
+    }
+
+    private Map<String, Double> getEntries(int flag) {
+        Map<String, Double> result = new LinkedHashMap<>();
+        for (int i = 0; i < size; i++) {
+            if ((keys[i] & MODIFIER_FLAG) == flag) {
+                result.put(nameOf(keys[i]), values[i]);
+            }
+        }
+        return Collections.unmodifiableMap(result);
     }
 
     /**
      * Adds a modifier (or multiplier) to the Rating. Apply the value as a modifier.
+     * If having the same name, it will replace the value.
      * Note: modifiers are multiplied.
-     * 
+     *
      * @param name
      * @param value
      */
     public void addModifier(String name, double value) {
-        modifiers.put(name, value);
+        setEntry((intern(name) << 1) | MODIFIER_FLAG, value);
 
-        if (modifiers.containsKey(name)) {
-            // Recalculate the score
-            calculateScore();
-        }
-        else {
-            // New modifier so just apply multiplier
-            score *= value;
-        }
+        // Always recalculate so any range applied is dropped
+        calculateScore();
     }
-    
+
     /**
      * Recalculates the score by multiplying the base with the known modifiers.
      * If having the same key, it will replace the value.
      * Note: base values are added.
-     * 
+     *
      * @param name Name of the base score.
      * @param base New base score.
      */
     public void addBase(String name, double base) {
-        this.bases.put(name, base);
+        setEntry(intern(name) << 1, base);
 
         calculateScore();
     }
 
     private void calculateScore() {
-    	// base values are added
-        double base = bases.values().stream().reduce(0D, (a, b) -> a + b);
-        // modifiers are multiplied
-        score = modifiers.values().stream().reduce(base, (a, b) -> a * b);
+        // base values are added; modifiers are multiplied
+        double base = 0D;
+        double product = 1D;
+        for (int i = 0; i < size; i++) {
+            if ((keys[i] & MODIFIER_FLAG) == 0) {
+                base += values[i];
+            }
+            else {
+                product *= values[i];
+            }
+        }
+        score = base * product;
     }
 
     /**
      * Applies a range to the final score.
      * This is not persist and needs to be re-applied if the base or modifier change.
-     * 
+     *
      * @param lower
      * @param upper
      */
@@ -174,26 +282,37 @@ public class RatingScore implements Comparable<RatingScore>, Serializable {
 
     /**
      * Produces a string output of this rating.
-     * 
+     *
      * @return
      */
     public String getOutput() {
-        
+
         StringBuilder output = new StringBuilder();
         output.append("Score: ").append(SCORE_FORMAT.format(score)).append(" (");
-        output.append(bases.entrySet().stream()
-                                .map(entry -> entry.getKey() + ": " + SCORE_FORMAT.format(entry.getValue()))
-                                .collect(Collectors.joining(", ")));
-        if (!modifiers.isEmpty()) {
-            output.append(", ");
-        }
-        output.append(modifiers.entrySet().stream()
-                                .map(entry -> entry.getKey() + ": " + SCORE_FORMAT.format(entry.getValue()))
-                                .collect(Collectors.joining(", ")));
+        boolean first = appendEntries(output, 0, true);
+        appendEntries(output, MODIFIER_FLAG, first);
         output.append(")");
         return output.toString();
     }
 
+    /**
+     * Appends the bases or modifiers to the output.
+     *
+     * @return Is the output still without any entries
+     */
+    private boolean appendEntries(StringBuilder output, int flag, boolean first) {
+        for (int i = 0; i < size; i++) {
+            if ((keys[i] & MODIFIER_FLAG) == flag) {
+                if (!first) {
+                    output.append(", ");
+                }
+                output.append(nameOf(keys[i])).append(": ").append(SCORE_FORMAT.format(values[i]));
+                first = false;
+            }
+        }
+        return first;
+    }
+
     /**
      * Compare bsed on the total
      * @param o
@@ -203,4 +322,47 @@ public class RatingScore implements Comparable<RatingScore>, Serializable {
     public int compareTo(RatingScore o) {
         return Double.compare(score, o.getScore());
     }
+
+    /**
+     * Writes the entries by name as the ids are only valid in this JVM.
+     *
+     * @param out
+     * @throws IOException
+     */
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        out.defaultWriteObject();
+        out.writeInt(size);
+        for (int i = 0; i < size; i++) {
+            out.writeUTF(nameOf(keys[i]));
+            out.writeBoolean((keys[i] & MODIFIER_FLAG) != 0);
+            out.writeDouble(values[i]);
+        }
+    }
+
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        keys = NO_KEYS;
+        values = NO_VALUES;
+        size = 0;
+
+        if ((bases != null) || (modifiers != null)) {
+            // Saved before the compact form
+            if (bases != null) {
+                bases.forEach((n, v) -> setEntry(intern(n) << 1, v));
+            }
+            if (modifiers != null) {
+                modifiers.forEach((n, v) -> setEntry((intern(n) << 1) | MODIFIER_FLAG, v));
+            }
+            bases = null;
+            modifiers = null;
+            return;
+        }
+
+        int count = in.readInt();
+        for (int i = 0; i < count; i++) {
+            String name = in.readUTF();
+            int flag = in.readBoolean() ? MODIFIER_FLAG : 0;
+            setEntry((intern(name) << 1) | flag, in.readDouble());
+        }
+    }
 }
@@ -245,6 +245,16 @@ public class EVASuit extends Equipment
 		return microInventory.isResourceSupported(resource);
 	}
 
+	@Override
+	void setResourceLedger(ResourceLedger ledger) {
+		microInventory.setLedger(ledger);
+	}
+
+	@Override
+	ResourceLedger getResourceLedger() {
+		return microInventory.getLedger();
+	}
+
 	/**
 	 * Stores the resource.
 	 *
@@ -112,6 +112,25 @@ public abstract class Equipment extends AbstractMobileUnit implements Salvagable
 	 * @return excess quantity that cannot be stored
 	 */
 	public abstract double storeAmountResource(int resource, double quantity);
+
+	/**
+	 * Sets the ledger of the inventory holding this equipment so the resources held are
+	 * included in its totals. Equipment that holds amount resources overrides this.
+	 *
+	 * @param ledger Ledger of the holding inventory; null when it leaves the inventory
+	 */
+	void setResourceLedger(ResourceLedger ledger) {
+		// Nothing to report by default
+	}
+
+	/**
+	 * Gets the ledger that this equipment reports to.
+	 *
+	 * @return
+	 */
+	ResourceLedger getResourceLedger() {
+		return null;
+	}
 		// Question: if a bag was filled with regolith and later was emptied out
 		// should it be tagged for only regolith and NOT for another resource ?
 
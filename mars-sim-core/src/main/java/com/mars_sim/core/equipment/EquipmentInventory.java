@@ -48,6 +48,9 @@ public class EquipmentInventory
 	/** The MicroInventory instance. */
 	private MicroInventory microInventory;
 
+	/** Running totals of the amount resources held including inside equipment. */
+	private ResourceLedger ledger;
+
 	/**
 	 * Constructor.
 	 * 
@@ -65,6 +68,8 @@ public class EquipmentInventory
 		
 		// Create microInventory instance
 		microInventory = new MicroInventory(owner, cargoCapacity);
+		ledger = new ResourceLedger();
+		microInventory.setLedger(ledger);
 		
 		///////////// EXPERIMENTAL ONLY /////////////
 		
@@ -79,6 +84,27 @@ public class EquipmentInventory
 		//////////////////////////////////////////////
 	}
 
+	/**
+	 * Gets the ledger holding the running totals of the amount resources in this inventory
+	 * and the equipment it holds.
+	 * 
+	 * @return
+	 */
+	public synchronized ResourceLedger getResourceLedger() {
+		if (ledger == null) {
+			// Saves made before the ledger existed
+			ledger = new ResourceLedger();
+			microInventory.setLedger(ledger);
+			for (Equipment e: suitSet) {
+				e.setResourceLedger(ledger);
+			}
+			for (Equipment e: containerSet) {
+				e.setResourceLedger(ledger);
+			}
+		}
+		return ledger;
+	}
+
 	/**
 	 * Gets the locally held amount resource bin set.
 	 * 
@@ -235,7 +261,11 @@ public class EquipmentInventory
 			double newCapacity = cargoCapacity - totalStored - equipment.getMass();
 			if (newCapacity >= 0D) {
 				owner.fireUnitUpdate(UnitEventType.INVENTORY_STORING_UNIT_EVENT, equipment);
-				return set.add(equipment);
+				boolean added = set.add(equipment);
+				if (added) {
+					equipment.setResourceLedger(getResourceLedger());
+				}
+				return added;
 			}
 			else {
 				logger.warning(owner, 60_000L, "No capacity to hold " + equipment.getName()
@@ -262,10 +292,19 @@ public class EquipmentInventory
 	@Override
 	public boolean removeEquipment(Equipment equipment) {
 		owner.fireUnitUpdate(UnitEventType.INVENTORY_RETRIEVING_UNIT_EVENT, equipment);
+		boolean removed;
 		if (equipment.getEquipmentType() == EquipmentType.EVA_SUIT) {
-			return suitSet.remove(equipment);
+			removed = suitSet.remove(equipment);
 		}
-		return containerSet.remove(equipment);
+		else {
+			removed = containerSet.remove(equipment);
+		}
+
+		// It may already have been added to another inventory
+		if (removed && (equipment.getResourceLedger() == ledger)) {
+			equipment.setResourceLedger(null);
+		}
+		return removed;
 	}
 
 
@@ -457,16 +496,7 @@ public class EquipmentInventory
 	 */
 	@Override
 	public double getAllSpecificAmountResourceStored(int resource) {
-		double result = 0;
-		// Do not consume resources from container Equipment. THis is an expensive
-		// and can generate concurrency issues
-		for (Equipment e: suitSet) {
-		 	result += e.getSpecificAmountResourceStored(resource);
-		 }
-		for (Equipment e: containerSet) {
-		 	result += e.getSpecificAmountResourceStored(resource);
-		 }
-		return result + getSpecificAmountResourceStored(resource);
+		return getResourceLedger().getSpecificStored(resource);
 	}
 
 	/**
@@ -958,6 +988,8 @@ public class EquipmentInventory
 	}	
 
 	public void destroy() {
+		microInventory.setLedger(null);
+		ledger = null;
 		containerSet.clear();
 		containerSet = null;
 		suitSet.clear();
@@ -31,6 +31,7 @@ class GenericContainer extends Equipment implements Container {
 	private double amountStored;
 	private int resourceHeld = -1;
 	private boolean reusable;
+	private ResourceLedger ledger;
 	
 	/**
 	 * Constructor.
@@ -133,13 +134,13 @@ class GenericContainer extends Equipment implements Container {
 	public double retrieveAmountResource(int resource, double quantity) {
 		if (resourceHeld == resource) {
 			if (quantity < amountStored) {
-				amountStored -= quantity;
+				setAmountStored(amountStored - quantity);
 				return 0;
 			}
 			else {
 				// Now empty
 				double shortfall = quantity - amountStored;
-				amountStored = 0D;
+				setAmountStored(0D);
 				if (reusable) {
 					resourceHeld = -1;
 				}
@@ -213,15 +214,43 @@ class GenericContainer extends Equipment implements Container {
 
 		double remainingCap = totalCapacity - amountStored;
 		if (remainingCap < quantity) {
-			amountStored = totalCapacity;
+			setAmountStored(totalCapacity);
 			return quantity - remainingCap;
 		}
 		else {
-			amountStored += quantity;
+			setAmountStored(amountStored + quantity);
 			return 0D;
 		}
 	}
 
+	/**
+	 * Sets the amount of the held resource and tells the ledger of the change.
+	 */
+	private void setAmountStored(double newAmount) {
+		if (ledger != null) {
+			ledger.changeSpecific(resourceHeld, newAmount - amountStored);
+		}
+		amountStored = newAmount;
+	}
+
+	@Override
+	void setResourceLedger(ResourceLedger newLedger) {
+		if ((newLedger != ledger) && (resourceHeld != -1)) {
+			if (ledger != null) {
+				ledger.changeSpecific(resourceHeld, -amountStored);
+			}
+			if (newLedger != null) {
+				newLedger.changeSpecific(resourceHeld, amountStored);
+			}
+		}
+		ledger = newLedger;
+	}
+
+	@Override
+	ResourceLedger getResourceLedger() {
+		return ledger;
+	}
+
 	/**
 	 * Can this container hold a specific Amount Resources ? 
 	 * It will look at the Phase Type.
@@ -6,12 +6,13 @@
  */
 package com.mars_sim.core.equipment;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import com.mars_sim.core.Unit;
 import com.mars_sim.core.UnitEventType;
@@ -22,9 +23,14 @@ import com.mars_sim.core.resource.ResourceUtil;
 
 /**
  * The MicroInventory class represents a simple resource storage solution.
+ * Resources are held in primitive tables keyed on the resource id so the
+ * frequent lookups do not box or allocate.
  */
 public class MicroInventory implements Serializable {
 
+	/**
+	 * Only used to load saves made when the resources were held in HashMaps.
+	 */
 	static final class AmountStored implements Serializable {
 
 		/** default serial id. */
@@ -48,6 +54,9 @@ public class MicroInventory implements Serializable {
 		}
 	}
 
+	/**
+	 * Only used to load saves made when the resources were held in HashMaps.
+	 */
 	static final class ItemStored implements Serializable {
 
 		/** default serial id. */
@@ -81,14 +90,34 @@ public class MicroInventory implements Serializable {
 
 	private static final double SMALL_AMOUNT = 0.000_001;
 
+	// Columns of the stock amounts
+	private static final int STOCK = 0;
+	// Columns of the specific amounts
+	private static final int CAPACITY = 0;
+	private static final int STORED = 1;
+	// Columns of the items
+	private static final int QUANTITY = 0;
+	private static final int MASS_PER_ITEM = 1;
+	private static final int TOTAL_MASS = 2;
+
 	/** The owner of this micro inventory. */
 	private Unit owner;
-	/** A map of stock amount resources. */
-	private Map<Integer, Double> stockAmountStorage = new HashMap<>();
-	/** A map of specific amount resources. */
-	private Map<Integer, AmountStored> specificAmountStorage = new HashMap<>();
-	/** A map of item resources. */
-	private Map<Integer, ItemStored> itemStorage = new HashMap<>();
+	/** The stock amount resources. */
+	private ResourceTable stockAmounts = new ResourceTable(1);
+	/** The capacity and stored amount of specific amount resources. */
+	private ResourceTable specificAmounts = new ResourceTable(2);
+	/** The quantity, mass per item and total mass of item resources. */
+	private ResourceTable items = new ResourceTable(3);
+	/** The ledger that is told of changes to the amount resources. */
+	private ResourceLedger ledger;
+
+	/** Old storage; only populated when loading an old save. */
+	@Deprecated
+	private Map<Integer, Double> stockAmountStorage;
+	@Deprecated
+	private Map<Integer, AmountStored> specificAmountStorage;
+	@Deprecated
+	private Map<Integer, ItemStored> itemStorage;
 
 	private double stockAmountTotalMass = 0D;
 	private double specificAmountTotalMass = 0D;
@@ -106,44 +135,30 @@ public class MicroInventory implements Serializable {
 
 	
 	/** 
-	 * Gets a map of stock amount resources.
+	 * Gets a read only view of the stock amount resources.
 	 * 
 	 * @return
 	 */
 	public Map<Integer, Double> getStockAmountStorage() {
-		return stockAmountStorage;
+		return stockAmounts.asMap(STOCK);
 	}
 	
 	/** 
-	 * Gets a map of specific amount resources. 
+	 * Gets a read only view of the specific amount resources. 
 	 * 
 	 * @return
 	 */
 	public Map<Integer, Double> getSpecificAmountStorage() {
-		Map<Integer, Double> map = new HashMap<>();
-		for (Map.Entry<Integer, AmountStored> entry : specificAmountStorage.entrySet()) {
-			int k = entry.getKey();
-			AmountStored s = entry.getValue();
-			double amount = s.storedAmount;
-			map.put(k, amount);
-        }
-		return map;
+		return specificAmounts.asMap(STORED);
 	}
 	
 	/** 
-	 * Gets a map of item resources. 
+	 * Gets a read only view of the item resources. 
 	 * 
 	 * @return
 	 */
 	public Map<Integer, Double> getItemStorage() {
-		Map<Integer, Double> map = new HashMap<>();
-		for (Map.Entry<Integer, ItemStored> entry : itemStorage.entrySet()) {
-			int k = entry.getKey();
-			ItemStored s = entry.getValue();
-			double q = s.quantity;
-			map.put(k, q);
-        }
-		return map;
+		return items.asMap(QUANTITY);
 	}
 	
 	/** 
@@ -152,14 +167,14 @@ public class MicroInventory implements Serializable {
 	 * @return
 	 */
 	public Map<Integer, Double> getAllAmountResourceMap() {
-		return Stream.concat(getStockAmountStorage().entrySet().stream(), 
-				getSpecificAmountStorage().entrySet().stream())
-				.collect(Collectors.toMap(
-                Map.Entry::getKey,
-                Map.Entry::getValue,
-                // Handling duplicate keys by adding their values together
-                (v1, v2) -> v1 + v2  
-        ));
+		Map<Integer, Double> map = new HashMap<>();
+		for (int i = 0; i < stockAmounts.size(); i++) {
+			map.merge(stockAmounts.keyAt(i), stockAmounts.getAt(i, STOCK), Double::sum);
+		}
+		for (int i = 0; i < specificAmounts.size(); i++) {
+			map.merge(specificAmounts.keyAt(i), specificAmounts.getAt(i, STORED), Double::sum);
+		}
+		return map;
 	}
 	
 	/**
@@ -195,11 +210,7 @@ public class MicroInventory implements Serializable {
      * @return capacity (kg).
      */
     public double getSpecificCapacity(int resource) {
-		AmountStored s = specificAmountStorage.get(resource);
-		if (s != null) {
-			return s.capacity;
-		}
-		return 0;
+		return specificAmounts.get(resource, CAPACITY);
     }
 
 	/**
@@ -209,14 +220,8 @@ public class MicroInventory implements Serializable {
 	 * @param capacity
 	 */
 	public void setSpecificCapacity(int resource, double capacity) {
-		AmountStored s = specificAmountStorage.get(resource);
-		if (s != null) {
-			// To set to a new capacity
-			s.capacity = capacity;
-		}
-		else {
-			specificAmountStorage.put(resource, new AmountStored(capacity));
-		}
+		int row = specificAmounts.findOrAdd(resource);
+		setSpecific(row, CAPACITY, capacity);
 	}
 
 	/**
@@ -226,14 +231,9 @@ public class MicroInventory implements Serializable {
 	 * @param capacity
 	 */
 	public void addSpecificCapacity(int resource, double capacity) {
-		AmountStored s = specificAmountStorage.get(resource);
-		if (s != null) {
-			// To add to its existing capacity
-			s.capacity += capacity;
-		}
-		else {
-			specificAmountStorage.put(resource, new AmountStored(capacity));
-		}
+		int row = specificAmounts.findOrAdd(resource);
+		// To add to its existing capacity
+		setSpecific(row, CAPACITY, specificAmounts.getAt(row, CAPACITY) + capacity);
 	}
 
 	/**
@@ -243,13 +243,10 @@ public class MicroInventory implements Serializable {
 	 * @param capacity
 	 */
 	public void removeSpecificCapacity(int resource, double capacity) {
-		AmountStored s = specificAmountStorage.get(resource);
-
-		if (s != null) {
-			s.capacity -= capacity;
-			if (s.capacity < 0D) {
-				s.capacity = 0D;
-			}
+		int row = specificAmounts.find(resource);
+		if (row >= 0) {
+			double newCapacity = specificAmounts.getAt(row, CAPACITY) - capacity;
+			setSpecific(row, CAPACITY, Math.max(0D, newCapacity));
 		}
 	}
 
@@ -294,11 +291,8 @@ public class MicroInventory implements Serializable {
 	 * @return
 	 */
 	public boolean isEmpty(int resource) {
-		AmountStored s = specificAmountStorage.get(resource);
-		boolean hasStockResource = stockAmountStorage.containsKey(resource);
-		double stockAmount = stockAmountStorage.get(resource);
-		return ((s == null && !hasStockResource) 
-				|| (s.storedAmount == 0D && stockAmount == 0D));
+		return (specificAmounts.get(resource, STORED) == 0D)
+				&& (stockAmounts.get(resource, STOCK) == 0D);
 	}
 
 	/**
@@ -309,12 +303,13 @@ public class MicroInventory implements Serializable {
 	 * @return excess quantity that cannot be stored
 	 */
 	public double storeAmountResource(int resource, double quantity) {
-		AmountStored s = specificAmountStorage.get(resource);
-		if (s == null) {
+		int row = specificAmounts.find(resource);
+		if (row < 0) {
 			return quantity;
 		}
 			
-		double remaining =  s.capacity - s.storedAmount;
+		double storedAmount = specificAmounts.getAt(row, STORED);
+		double remaining =  specificAmounts.getAt(row, CAPACITY) - storedAmount;
 		double excess = 0D;
 		if (remaining < quantity) {
 			// Obtain the excess
@@ -333,7 +328,7 @@ public class MicroInventory implements Serializable {
 
 		}
 
-		s.storedAmount += quantity;
+		setSpecific(row, STORED, storedAmount + quantity);
 
 		// Update the specific amount total mass
 		specificAmountTotalMass += quantity;
@@ -351,12 +346,8 @@ public class MicroInventory implements Serializable {
 	 * @return excess quantity that cannot be stored
 	 */
 	public double storeStockAmountResource(int resource, double quantity) {
-		double stockAmount = 0;
-		
-		if (stockAmountStorage.containsKey(resource)) {
-			// Gets the existing stock amount
-			stockAmount = stockAmountStorage.get(resource);
-		}
+		// Gets the existing stock amount
+		double stockAmount = stockAmounts.get(resource, STOCK);
 
 		double remaining = stockAmountTotalMass - stockAmount;
 		
@@ -376,8 +367,8 @@ public class MicroInventory implements Serializable {
 		}
 		// Increase the existing stock amount by adding quantity
 		stockAmount += quantity;
-		// Update the stock storage map with the new stock amount
-		stockAmountStorage.put(resource, stockAmount);
+		// Update the stock storage with the new stock amount
+		setStock(resource, stockAmount);
 		// Update the stock amount total mass
 		stockAmountTotalMass += quantity;
 		// Fire the unit event type
@@ -393,18 +384,18 @@ public class MicroInventory implements Serializable {
 	 * @return excess quantity that cannot be stored
 	 */
 	public int storeItemResource(int resource, int quantity) {
-		ItemStored s = itemStorage.get(resource);
-		if (s == null) {
-			s = new ItemStored();
-			s.massPerItem = ItemResourceUtil.findItemResource(resource).getMassPerItem();
-			s.totalMass = 0;
+		int row = items.find(resource);
+		if (row < 0) {
+			double massPerItem = ItemResourceUtil.findItemResource(resource).getMassPerItem();
 
 			// Save the item resource
-			itemStorage.put(resource, s);
+			row = items.findOrAdd(resource);
+			items.setAt(row, MASS_PER_ITEM, massPerItem);
 		}
 
-		double massPerItem = s.massPerItem;
-		double totalMass = s.totalMass;
+		double massPerItem = items.getAt(row, MASS_PER_ITEM);
+		double totalMass = items.getAt(row, TOTAL_MASS);
+		int storedQ = (int) items.getAt(row, QUANTITY);
 		
 		double rCap = getRemainingStockCapacity();
 		int itemCap = (int)Math.floor(rCap / massPerItem);
@@ -414,7 +405,7 @@ public class MicroInventory implements Serializable {
 			
 			if (quantity > itemCap) {
 
-				s.quantity += itemCap;
+				storedQ += itemCap;
 				excessQ = quantity - itemCap;
 	
 				
@@ -423,14 +414,16 @@ public class MicroInventory implements Serializable {
 						+ ", returning the surplus " + excessQ + ".");
 			}
 			else {
-				s.quantity += quantity;
+				storedQ += quantity;
 				excessQ = 0;
 			}
 
-			s.totalMass = s.quantity * s.massPerItem;
+			totalMass = storedQ * massPerItem;
+			items.setAt(row, QUANTITY, storedQ);
+			items.setAt(row, TOTAL_MASS, totalMass);
 
 			// Update the item total mass
-			itemTotalMass += s.totalMass;
+			itemTotalMass += totalMass;
 
 			// Fire the unit event type
 			owner.fireUnitUpdate(UnitEventType.INVENTORY_RESOURCE_EVENT, resource);
@@ -461,8 +454,7 @@ public class MicroInventory implements Serializable {
 	 * NOTE: Do NOT delete. Will need it in future.
 	 */
 	private void updateStockAmountResourceTotalMass() {
-		// Note: to avoid ConcurrentModificationException, use new ArrayList
-		stockAmountTotalMass = stockAmountStorage.values().stream().mapToDouble(d -> d).sum();
+		stockAmountTotalMass = stockAmounts.sum(STOCK);
 	}
 	
 	/**
@@ -471,8 +463,7 @@ public class MicroInventory implements Serializable {
 	 * NOTE: Do NOT delete. Will need it in future.
 	 */
 	private void updateSpecificAmountResourceTotalMass() {
-		// Note: to avoid ConcurrentModificationException, use new ArrayList
-		specificAmountTotalMass = specificAmountStorage.values().stream().mapToDouble(r -> r.storedAmount).sum();
+		specificAmountTotalMass = specificAmounts.sum(STORED);
 	}
 
 	/**
@@ -482,10 +473,10 @@ public class MicroInventory implements Serializable {
 	 */
 	private void updateItemResourceTotalMass() {
 		double result = 0;
-		for (int resource: itemStorage.keySet()) {
-			int q = itemStorage.get(resource).quantity;
+		for (int i = 0; i < items.size(); i++) {
+			int q = (int) items.getAt(i, QUANTITY);
 			if (q > 0) {
-				ItemResource ir = ItemResourceUtil.findItemResource(resource);
+				ItemResource ir = ItemResourceUtil.findItemResource(items.keyAt(i));
 				if (ir != null)
 					result += ir.getMassPerItem() * q;
 			}
@@ -502,13 +493,14 @@ public class MicroInventory implements Serializable {
 	 * @return shortfall quantity that cannot be retrieved
 	 */
 	public double retrieveAmountResource(int resource, double quantity) {
-		AmountStored s = specificAmountStorage.get(resource);
-		if (s == null) {
+		int row = specificAmounts.find(resource);
+		if (row < 0) {
 			return quantity;
 		}
 
+		double storedAmount = specificAmounts.getAt(row, STORED);
 		double shortfall = 0D;
-		double remaining = s.storedAmount - quantity;
+		double remaining = storedAmount - quantity;
 
 		if (remaining < 0) {
 			shortfall = -remaining;
@@ -526,7 +518,7 @@ public class MicroInventory implements Serializable {
 			remaining = 0;
 			
 			// Update the specific amount resource total mass
-			specificAmountTotalMass -= s.storedAmount;
+			specificAmountTotalMass -= storedAmount;
 		}
 		else {
 			// Update the specific amount resource total mass
@@ -534,7 +526,7 @@ public class MicroInventory implements Serializable {
 		}
 	
 		// Update the stored amount
-		s.storedAmount = remaining;
+		setSpecific(row, STORED, remaining);
 	
 		// Fire the unit event type
 		owner.fireUnitUpdate(UnitEventType.INVENTORY_RESOURCE_EVENT, resource);
@@ -549,12 +541,8 @@ public class MicroInventory implements Serializable {
 	 * @return shortfall quantity that cannot be retrieved
 	 */
 	public double retrieveStockAmountResource(int resource, double quantity) {
-		double stockAmount = 0;
-		
-		if (stockAmountStorage.containsKey(resource)) {
-			// Gets the existing stock amount
-			stockAmount = stockAmountStorage.get(resource);
-		}
+		// Gets the existing stock amount
+		double stockAmount = stockAmounts.get(resource, STOCK);
 
 		double shortfall = 0D;
 		double remaining = stockAmount - quantity;
@@ -578,8 +566,8 @@ public class MicroInventory implements Serializable {
 			stockAmountTotalMass -= quantity;
 		}
 
-		// Update the stock storage map with remaining
-		stockAmountStorage.put(resource, remaining);
+		// Update the stock storage with remaining
+		setStock(resource, remaining);
 		// Fire the unit event type
 		owner.fireUnitUpdate(UnitEventType.INVENTORY_RESOURCE_EVENT, resource);
 		
@@ -594,13 +582,15 @@ public class MicroInventory implements Serializable {
 	 * @return quantity that cannot be retrieved
 	 */
 	public int retrieveItemResource(int resource, int quantity) {
-		ItemStored s = itemStorage.get(resource);
-		if (s == null) {
+		int row = items.find(resource);
+		if (row < 0) {
 			return quantity;
 		}
 
+		int storedQ = (int) items.getAt(row, QUANTITY);
+		double massPerItem = items.getAt(row, MASS_PER_ITEM);
 		int shortfall = 0;
-		int remainingQ = s.quantity - quantity;
+		int remainingQ = storedQ - quantity;
 
 		if (remainingQ < 0) {
 			shortfall = -remainingQ;
@@ -612,15 +602,15 @@ public class MicroInventory implements Serializable {
 			remainingQ = 0;
 			
 			// Update the total mass
-			itemTotalMass -= s.quantity * s.massPerItem;
+			itemTotalMass -= storedQ * massPerItem;
 		}
 		else {
 			// Update the total mass
-			itemTotalMass -= quantity * s.massPerItem;
+			itemTotalMass -= quantity * massPerItem;
 		}
 		
 		// Update the quantity
-		s.quantity = remainingQ;
+		items.setAt(row, QUANTITY, remainingQ);
 
 		// Fire the unit event type
 		owner.fireUnitUpdate(UnitEventType.INVENTORY_RESOURCE_EVENT, resource);
@@ -635,13 +625,10 @@ public class MicroInventory implements Serializable {
 	 * @return
 	 */
 	public Set<Integer> getAllSpecificResourceStoredIDs() {
-		Set<Integer> set = specificAmountStorage.keySet()
-				.stream()
-				.filter(i -> (specificAmountStorage.get(i).storedAmount > 0))
-				.collect(Collectors.toSet());
-		
-		set.addAll(stockAmountStorage.keySet());
-		
+		Set<Integer> set = getSpecificResourceStoredIDs();
+		for (int i = 0; i < stockAmounts.size(); i++) {
+			set.add(stockAmounts.keyAt(i));
+		}
 		return set;
 	}
 	
@@ -652,10 +639,7 @@ public class MicroInventory implements Serializable {
 	 * @return
 	 */
 	public Set<Integer> getSpecificResourceStoredIDs() {
-		return specificAmountStorage.keySet()
-				.stream()
-				.filter(i -> (specificAmountStorage.get(i).storedAmount > 0))
-				.collect(Collectors.toSet());
+		return getStoredIDs(specificAmounts, STORED);
 	}
 
 	/**
@@ -665,10 +649,20 @@ public class MicroInventory implements Serializable {
 	 * @return
 	 */
 	public Set<Integer> getItemStoredIDs() {
-		return itemStorage.keySet()
-				.stream()
-				.filter(i -> (itemStorage.get(i).quantity > 0))
-				.collect(Collectors.toSet());
+		return getStoredIDs(items, QUANTITY);
+	}
+
+	/**
+	 * Gets the IDs in a table that have a positive value in a column.
+	 */
+	private static Set<Integer> getStoredIDs(ResourceTable table, int column) {
+		Set<Integer> set = new HashSet<>();
+		for (int i = 0; i < table.size(); i++) {
+			if (table.getAt(i, column) > 0) {
+				set.add(table.keyAt(i));
+			}
+		}
+		return set;
 	}
 
 	/**
@@ -689,9 +683,9 @@ public class MicroInventory implements Serializable {
 	 * @return quantity
 	 */
 	public double getRemainingSpecificCapacity(int resource) {
-		AmountStored s = specificAmountStorage.get(resource);
-		if (s != null) {
-			return s.capacity - s.storedAmount;
+		int row = specificAmounts.find(resource);
+		if (row >= 0) {
+			return specificAmounts.getAt(row, CAPACITY) - specificAmounts.getAt(row, STORED);
 		}
 		return 0;
 	}
@@ -713,9 +707,9 @@ public class MicroInventory implements Serializable {
 	 * @return
 	 */
 	public boolean hasAmountResourceRemainingCapacity(int resource) {
-		AmountStored s = specificAmountStorage.get(resource);
-		if (s != null) {
-			return s.capacity > s.storedAmount;
+		int row = specificAmounts.find(resource);
+		if (row >= 0) {
+			return specificAmounts.getAt(row, CAPACITY) > specificAmounts.getAt(row, STORED);
 		}
 		
 		return false;
@@ -728,11 +722,11 @@ public class MicroInventory implements Serializable {
 	 * @return quantity
 	 */
 	public int getItemResourceRemainingQuantity(int resource) {
-		ItemStored s = itemStorage.get(resource);
+		int row = items.find(resource);
 		double rCap = getRemainingStockCapacity();
-		if (s != null) {
+		if (row >= 0) {
 			// Question : does it have to be tagged or defined ahead of time for storing items or parts ?
-			return (int)Math.floor(rCap / s.massPerItem);
+			return (int)Math.floor(rCap / items.getAt(row, MASS_PER_ITEM));
 		}
 		else {
 			double massPerItem = ItemResourceUtil.findItemResource(resource).getMassPerItem();
@@ -747,11 +741,7 @@ public class MicroInventory implements Serializable {
 	 * @return quantity
 	 */
 	public double getSpecificAmountResourceStored(int resource) {
-		AmountStored s = specificAmountStorage.get(resource);
-		if (s != null) {
-			return s.storedAmount;
-		}
-		return 0;
+		return specificAmounts.get(resource, STORED);
 	}
 	
 	/**
@@ -761,7 +751,7 @@ public class MicroInventory implements Serializable {
 	 * @return quantity
 	 */
 	public double getStockAmountResourceStored(int resource) {
-		return stockAmountStorage.getOrDefault(resource, 0.0);
+		return stockAmounts.get(resource, STOCK);
 	}
 	
 	/**
@@ -780,12 +770,7 @@ public class MicroInventory implements Serializable {
 	 * @return total amount
 	 */
 	public double getTotalSpecificAmountResourceStored() {
-		double total = 0;
-		for (Map.Entry<Integer, AmountStored> entry : specificAmountStorage.entrySet()) {
-			AmountStored s = entry.getValue();
-			total += s.storedAmount;
-        }
-		return total;
+		return specificAmounts.sum(STORED);
 	}
 	
 	/**
@@ -805,11 +790,7 @@ public class MicroInventory implements Serializable {
 	 * @return quantity
 	 */
 	public int getItemResourceStored(int resource) {
-		ItemStored s = itemStorage.get(resource);
-		if (s != null) {
-			return s.quantity;
-		}
-		return 0;
+		return (int) items.get(resource, QUANTITY);
 	}
 
 	/**
@@ -819,7 +800,7 @@ public class MicroInventory implements Serializable {
 	 * @return
 	 */
 	public boolean isResourceSupported(int resource) {
-		return specificAmountStorage.containsKey(resource);
+		return specificAmounts.contains(resource);
 	}
 
 
@@ -827,7 +808,114 @@ public class MicroInventory implements Serializable {
 	 * Cleans this container for future use.
 	 */
 	public void clean() {
-		specificAmountStorage.clear();
-		itemStorage.clear();
+		reportTo(ledger, -1D, false);
+		specificAmounts.clear();
+		items.clear();
+	}
+
+	/**
+	 * Sets a specific amount value and tells the ledger of the change.
+	 */
+	private void setSpecific(int row, int column, double value) {
+		if (ledger != null) {
+			double delta = value - specificAmounts.getAt(row, column);
+			if (column == STORED) {
+				ledger.changeSpecific(specificAmounts.keyAt(row), delta);
+			}
+			else {
+				ledger.changeCapacity(specificAmounts.keyAt(row), delta);
+			}
+		}
+		specificAmounts.setAt(row, column, value);
+	}
+
+	/**
+	 * Sets a stock amount and tells the ledger of the change.
+	 */
+	private void setStock(int resource, double value) {
+		int row = stockAmounts.findOrAdd(resource);
+		if (ledger != null) {
+			ledger.changeStock(resource, value - stockAmounts.getAt(row, STOCK));
+		}
+		stockAmounts.setAt(row, STOCK, value);
+	}
+
+	/**
+	 * Sets the ledger that records the amount resources held. The contents are
+	 * moved from any previous ledger.
+	 *
+	 * @param newLedger The ledger; null to stop reporting
+	 */
+	void setLedger(ResourceLedger newLedger) {
+		if (newLedger != ledger) {
+			reportTo(ledger, -1D, true);
+			reportTo(newLedger, 1D, true);
+			ledger = newLedger;
+		}
+	}
+
+	/**
+	 * Gets the ledger that records the amount resources held.
+	 */
+	ResourceLedger getLedger() {
+		return ledger;
+	}
+
+	/**
+	 * Reports all the amount resources held to a ledger.
+	 *
+	 * @param target Ledger to report to; may be null
+	 * @param sign Add or remove the amounts
+	 * @param includeStock Report the stock amounts as well
+	 */
+	private void reportTo(ResourceLedger target, double sign, boolean includeStock) {
+		if (target == null) {
+			return;
+		}
+		for (int i = 0; i < specificAmounts.size(); i++) {
+			target.changeSpecific(specificAmounts.keyAt(i), sign * specificAmounts.getAt(i, STORED));
+			target.changeCapacity(specificAmounts.keyAt(i), sign * specificAmounts.getAt(i, CAPACITY));
+		}
+		if (includeStock) {
+			for (int i = 0; i < stockAmounts.size(); i++) {
+				target.changeStock(stockAmounts.keyAt(i), sign * stockAmounts.getAt(i, STOCK));
+			}
+		}
+	}
+
+	/**
+	 * Loads the resources from a save that held them in HashMaps.
+	 *
+	 * @param in the input stream.
+	 * @throws IOException            if error reading from input stream.
+	 * @throws ClassNotFoundException if error creating class.
+	 */
+	private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+		in.defaultReadObject();
+
+		if (stockAmountStorage != null) {
+			stockAmounts = new ResourceTable(1);
+			stockAmountStorage.forEach((r, a) -> stockAmounts.setAt(stockAmounts.findOrAdd(r), STOCK, a));
+			stockAmountStorage = null;
+		}
+		if (specificAmountStorage != null) {
+			specificAmounts = new ResourceTable(2);
+			specificAmountStorage.forEach((r, s) -> {
+				int row = specificAmounts.findOrAdd(r);
+				specificAmounts.setAt(row, CAPACITY, s.capacity);
+				specificAmounts.setAt(row, STORED, s.storedAmount);
+			});
+			specificAmountStorage = null;
+		}
+		if (itemStorage != null) {
+			items = new ResourceTable(3);
+			itemStorage.forEach((r, s) -> {
+				int row = items.findOrAdd(r);
+				items.setAt(row, QUANTITY, s.quantity);
+				items.setAt(row, MASS_PER_ITEM, s.massPerItem);
+				items.setAt(row, TOTAL_MASS, s.totalMass);
+			});
+			itemStorage = null;
+		}
 	}
 }
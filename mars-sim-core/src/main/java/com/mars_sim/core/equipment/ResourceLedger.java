@@ -0,0 +1,135 @@
+/*
+ * Mars Simulation Project
+ * ResourceLedger.java
+ * @date 2025-08-17
+ */
+package com.mars_sim.core.equipment;
+
+import java.io.Serializable;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A running total of the amount resources held by an EquipmentInventory including those
+ * inside its containers and EVA suits. The MicroInventory and containers report every
+ * change as it happens so the totals are available without visiting each holder.
+ * The net changes are collected until they are published, normally once per pulse.
+ */
+public class ResourceLedger implements Serializable {
+
+	/** default serial id. */
+	private static final long serialVersionUID = 1L;
+
+	// Columns of the totals
+	private static final int SPECIFIC = 0;
+	private static final int STOCK = 1;
+	private static final int CAPACITY = 2;
+
+	// Ignore rounding errors left from adding and removing the same amount
+	private static final double ROUNDING = 0.000_001;
+
+	private ResourceTable totals = new ResourceTable(3);
+	private ResourceTable changes = new ResourceTable(1);
+
+	/**
+	 * Records a change in the specific amount of a resource stored.
+	 *
+	 * @param resource
+	 * @param delta
+	 */
+	synchronized void changeSpecific(int resource, double delta) {
+		change(resource, SPECIFIC, delta);
+		addChange(resource, delta);
+	}
+
+	/**
+	 * Records a change in the stock amount of a resource stored.
+	 *
+	 * @param resource
+	 * @param delta
+	 */
+	synchronized void changeStock(int resource, double delta) {
+		change(resource, STOCK, delta);
+		addChange(resource, delta);
+	}
+
+	/**
+	 * Records a change in the specific capacity of a resource.
+	 *
+	 * @param resource
+	 * @param delta
+	 */
+	synchronized void changeCapacity(int resource, double delta) {
+		change(resource, CAPACITY, delta);
+	}
+
+	private void change(int resource, int column, double delta) {
+		if (delta != 0D) {
+			int row = totals.findOrAdd(resource);
+			totals.setAt(row, column, totals.getAt(row, column) + delta);
+		}
+	}
+
+	private void addChange(int resource, double delta) {
+		if (delta != 0D) {
+			int row = changes.findOrAdd(resource);
+			changes.setAt(row, 0, changes.getAt(row, 0) + delta);
+		}
+	}
+
+	/**
+	 * Gets the specific amount of a resource stored including inside containers and EVA suits.
+	 *
+	 * @param resource
+	 * @return
+	 */
+	public synchronized double getSpecificStored(int resource) {
+		return clean(totals.get(resource, SPECIFIC));
+	}
+
+	/**
+	 * Gets the stock amount of a resource stored.
+	 *
+	 * @param resource
+	 * @return
+	 */
+	public synchronized double getStockStored(int resource) {
+		return clean(totals.get(resource, STOCK));
+	}
+
+	/**
+	 * Gets the specific capacity for a resource including EVA suits.
+	 *
+	 * @param resource
+	 * @return
+	 */
+	public synchronized double getSpecificCapacity(int resource) {
+		return clean(totals.get(resource, CAPACITY));
+	}
+
+	private static double clean(double value) {
+		return (value < ROUNDING ? 0D : value);
+	}
+
+	/**
+	 * Gets the net change of each resource since the last call and starts collecting afresh.
+	 *
+	 * @return Net change keyed on resource id; empty if nothing changed
+	 */
+	public synchronized Map<Integer, Double> publishChanges() {
+		if (changes.size() == 0) {
+			return Collections.emptyMap();
+		}
+
+		Map<Integer, Double> result = new HashMap<>();
+		for (int i = 0; i < changes.size(); i++) {
+			double delta = changes.getAt(i, 0);
+			if (Math.abs(delta) >= ROUNDING) {
+				result.put(changes.keyAt(i), delta);
+			}
+		}
+		changes.clear();
+		return result;
+	}
+}
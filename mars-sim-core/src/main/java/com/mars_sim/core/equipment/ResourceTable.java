@@ -0,0 +1,215 @@
+/*
+ * Mars Simulation Project
+ * ResourceTable.java
+ * @date 2025-08-16
+ */
+package com.mars_sim.core.equipment;
+
+import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * A table of values held against resource ids. The ids are held sorted in a primitive array
+ * with a primitive array per column of values so reads and updates do not box or allocate.
+ * Inventories only hold a handful of resources so a binary search is as quick as hashing.
+ */
+final class ResourceTable implements Serializable {
+
+	/** default serial id. */
+	private static final long serialVersionUID = 1L;
+
+	private static final int INITIAL_SIZE = 4;
+
+	private int[] keys;
+	private double[][] columns;
+	private int size = 0;
+
+	/**
+	 * Creates a table.
+	 *
+	 * @param numColumns Number of values held for each resource
+	 */
+	ResourceTable(int numColumns) {
+		keys = new int[0];
+		columns = new double[numColumns][0];
+	}
+
+	/**
+	 * Finds the row of a resource.
+	 *
+	 * @param resource
+	 * @return Row; negative if the resource is not held
+	 */
+	int find(int resource) {
+		return Arrays.binarySearch(keys, 0, size, resource);
+	}
+
+	/**
+	 * Is the resource held in the table.
+	 *
+	 * @param resource
+	 * @return
+	 */
+	boolean contains(int resource) {
+		return find(resource) >= 0;
+	}
+
+	/**
+	 * Gets a value of a resource.
+	 *
+	 * @param resource
+	 * @param column
+	 * @return The value or zero if the resource is not held
+	 */
+	double get(int resource, int column) {
+		int row = find(resource);
+		return (row >= 0 ? columns[column][row] : 0D);
+	}
+
+	/**
+	 * Finds the row of a resource adding one with zero values if it is not held.
+	 *
+	 * @param resource
+	 * @return Row
+	 */
+	int findOrAdd(int resource) {
+		int row = find(resource);
+		if (row >= 0) {
+			return row;
+		}
+
+		row = -(row + 1);
+		if (size == keys.length) {
+			int newSize = Math.max(INITIAL_SIZE, size * 2);
+			keys = Arrays.copyOf(keys, newSize);
+			for (int c = 0; c < columns.length; c++) {
+				columns[c] = Arrays.copyOf(columns[c], newSize);
+			}
+		}
+		System.arraycopy(keys, row, keys, row + 1, size - row);
+		keys[row] = resource;
+		for (double[] values : columns) {
+			System.arraycopy(values, row, values, row + 1, size - row);
+			values[row] = 0D;
+		}
+		size++;
+		return row;
+	}
+
+	/**
+	 * Gets a value by row.
+	 */
+	double getAt(int row, int column) {
+		return columns[column][row];
+	}
+
+	/**
+	 * Sets a value by row.
+	 */
+	void setAt(int row, int column, double value) {
+		columns[column][row] = value;
+	}
+
+	/**
+	 * Gets the resource of a row.
+	 */
+	int keyAt(int row) {
+		return keys[row];
+	}
+
+	/**
+	 * Number of resources held.
+	 */
+	int size() {
+		return size;
+	}
+
+	/**
+	 * Adds up one column over all the resources.
+	 *
+	 * @param column
+	 * @return
+	 */
+	double sum(int column) {
+		double total = 0D;
+		double[] values = columns[column];
+		for (int i = 0; i < size; i++) {
+			total += values[i];
+		}
+		return total;
+	}
+
+	/**
+	 * Removes all the resources.
+	 */
+	void clear() {
+		size = 0;
+	}
+
+	/**
+	 * Gets a read only Map view of one column keyed by resource. The view reflects later changes.
+	 *
+	 * @param column
+	 * @return
+	 */
+	Map<Integer, Double> asMap(int column) {
+		return new AbstractMap<>() {
+			@Override
+			public Double get(Object key) {
+				if (key instanceof Integer resource) {
+					int row = find(resource);
+					return (row >= 0 ? columns[column][row] : null);
+				}
+				return null;
+			}
+
+			@Override
+			public boolean containsKey(Object key) {
+				return (key instanceof Integer resource) && contains(resource);
+			}
+
+			@Override
+			public int size() {
+				return size;
+			}
+
+			@Override
+			public Set<Entry<Integer, Double>> entrySet() {
+				return new AbstractSet<>() {
+					@Override
+					public Iterator<Entry<Integer, Double>> iterator() {
+						return new Iterator<>() {
+							private int next = 0;
+
+							@Override
+							public boolean hasNext() {
+								return next < size;
+							}
+
+							@Override
+							public Entry<Integer, Double> next() {
+								if (next >= size) {
+									throw new NoSuchElementException();
+								}
+								var e = new SimpleImmutableEntry<>(keys[next], columns[column][next]);
+								next++;
+								return e;
+							}
+						};
+					}
+
+					@Override
+					public int size() {
+						return size;
+					}
+				};
+			}
+		};
+	}
+}
@@ -6,26 +6,36 @@
  */
 package com.mars_sim.core.goods;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
+import com.mars_sim.core.Simulation;
 import com.mars_sim.core.UnitManager;
 import com.mars_sim.core.equipment.Container;
 import com.mars_sim.core.equipment.ContainerUtil;
 import com.mars_sim.core.equipment.EquipmentType;
 import com.mars_sim.core.logging.SimLogger;
+import com.mars_sim.core.map.location.Coordinates;
 import com.mars_sim.core.person.PhysicalCondition;
 import com.mars_sim.core.person.ai.mission.Mission;
 import com.mars_sim.core.person.ai.mission.MissionManager;
 import com.mars_sim.core.person.ai.mission.MissionType;
 import com.mars_sim.core.person.ai.mission.Trade;
 import com.mars_sim.core.resource.AmountResource;
+import com.mars_sim.core.resource.PhaseType;
 import com.mars_sim.core.resource.ResourceUtil;
 import com.mars_sim.core.structure.Settlement;
 import com.mars_sim.core.time.MarsTime;
+import com.mars_sim.core.time.MasterClock;
 import com.mars_sim.core.vehicle.Crewable;
 import com.mars_sim.core.vehicle.Vehicle;
 import com.mars_sim.core.vehicle.VehicleType;
@@ -44,6 +54,37 @@ public final class CommerceUtil {
 	 */
 	private static final double SELL_CREDIT_LIMIT = 10_000_000D;
 
+	/** Number of trading partners at which they are evaluated concurrently. */
+	private static final int PARALLEL_PARTNERS = 8;
+
+	/**
+	 * Identifies the load between 2 settlements for a vehicle capacity.
+	 */
+	private record LoadKey(Settlement buyer, Settlement seller, double capacity) {}
+
+	/**
+	 * A load evaluated from a pair of shopping lists and the empty containers at the seller.
+	 * The lists are replaced when they are recalculated so it is only valid whilst the same
+	 * lists are in use and the seller has the same containers.
+	 */
+	private record PricedLoad(Map<Good, ShoppingItem> buyList, Map<Good, ShoppingItem> sellList,
+							int[] containers, Shipment load) {
+
+		boolean isValid(Map<Good, ShoppingItem> buy, Map<Good, ShoppingItem> sell, int[] empty) {
+			return (buyList == buy) && (sellList == sell) && Arrays.equals(containers, empty);
+		}
+	}
+
+	/** Containers that can be added to a load for an amount resource. */
+	private static final EquipmentType[] LOAD_CONTAINERS = Arrays.stream(PhaseType.values())
+							.map(ContainerUtil::getEquipmentTypeNeeded)
+							.distinct()
+							.toArray(EquipmentType[]::new);
+
+	/** Loads evaluated during the current pulse. */
+	private static final Map<LoadKey, PricedLoad> pulseLoads = new ConcurrentHashMap<>();
+	private static long loadsPulse = -1;
+
 	private static MissionManager missionManager;
 	private static UnitManager unitManager;
 			
@@ -62,15 +103,30 @@ public final class CommerceUtil {
 	 * @return the deal(value points) for trade.
 	 */
 	public static Deal getBestDeal(Settlement startingSettlement, MissionType commerceType, Vehicle delivery) {
-		Deal bestDeal = null;
+		// Prune the partners on range and current missions before pricing any loads
+		double possibleRange = delivery.getEstimatedRange() * .8D;
+		Coordinates startingLocn = startingSettlement.getCoordinates();
+		Set<Settlement> currentPartners = getCurrentCommercePartners(startingSettlement);
+		List<Settlement> partners = new ArrayList<>();
 		for (Settlement tradingSettlement : unitManager.getSettlements()) {
-			Deal deal = getPotentialDeal(startingSettlement, commerceType, tradingSettlement, delivery);
-			if ((deal != null) 
-				&& ((bestDeal == null) || (bestDeal.getProfit() > deal.getProfit()))) {
-					bestDeal = deal;
+			if (!startingSettlement.equals(tradingSettlement)
+					&& (tradingSettlement.getCoordinates().getDistance(startingLocn) <= possibleRange)
+					&& !currentPartners.contains(tradingSettlement)
+					&& tradingSettlement.isMissionEnable(commerceType)) {
+				partners.add(tradingSettlement);
 			}
 		}
 
+		// Evaluating a partner only reads the settlements so they can be done concurrently.
+		// The first of equal deals is kept as the partners are in encounter order.
+		var candidates = (partners.size() >= PARALLEL_PARTNERS ? partners.parallelStream()
+										: partners.stream());
+		Deal bestDeal = candidates
+				.map(p -> evaluateDeal(startingSettlement, p, delivery))
+				.filter(Objects::nonNull)
+				.min(Comparator.comparingDouble(Deal::getProfit))
+				.orElse(null);
+
 		if (bestDeal == null) {
 			logger.info(startingSettlement, 30_000, "No deal for a " 
 				+ commerceType.name().toLowerCase() + " mission.");
@@ -97,22 +153,11 @@ public final class CommerceUtil {
 
 		if (!startingSettlement.equals(tradingSettlement) && tradingSettlement.isMissionEnable(commerceType)) {
 
-			boolean hasCurrentCommerce = hasCurrentCommerceMission(startingSettlement, tradingSettlement);
-
 			double settlementRange = tradingSettlement.getCoordinates().getDistance(startingSettlement.getCoordinates());
 			boolean withinRange = (settlementRange <= possibleRange);
 
-			if (!hasCurrentCommerce && withinRange) {					
-				// Determine desired buy load at the other end. So reverse the buyer & seller 
-				// when calling
-				Shipment buyLoad = getDesiredBuyLoad(startingSettlement, delivery, tradingSettlement);
-				
-				// Determine sell load.
-				Shipment sellLoad = determineBestSellLoad(startingSettlement, delivery, tradingSettlement);
-
-				if (buyLoad != null && sellLoad != null) {
-					return createDeal(startingSettlement, delivery, tradingSettlement, buyLoad, sellLoad);
-				}
+			if (withinRange && !getCurrentCommercePartners(startingSettlement).contains(tradingSettlement)) {
+				return evaluateDeal(startingSettlement, tradingSettlement, delivery);
 			}
 		}
 
@@ -120,26 +165,53 @@ public final class CommerceUtil {
 	}
 
 	/**
-	 * Checks if there is currently a commerce mission between two settlements.
+	 * Evaluates the deal with a trading settlement that is known to be a valid partner.
 	 * 
-	 * @param settlement1 the first settlement.
-	 * @param settlement2 the second settlement.
-	 * @return true if current trade mission between settlements.
+	 * @param startingSettlement the settlement initiating the deal
+	 * @param tradingSettlement Settlement potentially completing the Deal.
+	 * @param delivery the Vehicle to carry the trade.
+	 * @return the deal or null if there is no trade possible
 	 */
-	private static boolean hasCurrentCommerceMission(Settlement settlement1, Settlement settlement2) {
+	private static Deal evaluateDeal(Settlement startingSettlement, Settlement tradingSettlement,
+										Vehicle delivery) {
+		// Determine desired buy load at the other end. So reverse the buyer & seller 
+		// when calling
+		Shipment buyLoad = getDesiredBuyLoad(startingSettlement, delivery, tradingSettlement);
+		if (buyLoad == null) {
+			return null;
+		}
+
+		// Determine sell load.
+		Shipment sellLoad = determineBestSellLoad(startingSettlement, delivery, tradingSettlement);
+		if (sellLoad == null) {
+			return null;
+		}
+
+		return createDeal(startingSettlement, delivery, tradingSettlement, buyLoad, sellLoad);
+	}
 
+	/**
+	 * Gets the settlements that currently have a commerce mission with a settlement.
+	 * 
+	 * @param settlement the settlement.
+	 * @return the settlements trading with it.
+	 */
+	private static Set<Settlement> getCurrentCommercePartners(Settlement settlement) {
+		Set<Settlement> result = new HashSet<>();
 		for(Mission mission : missionManager.getMissions()) {
 			if (mission instanceof CommerceMission tradeMission) {
 				Settlement startingSettlement = tradeMission.getStartingSettlement();
 				Settlement tradingSettlement = tradeMission.getTradingSettlement();
-				if ((startingSettlement.equals(settlement1) && tradingSettlement.equals(settlement2))
-					|| (startingSettlement.equals(settlement2) && tradingSettlement.equals(settlement1))) {
-					return true;
+				if (startingSettlement.equals(settlement)) {
+					result.add(tradingSettlement);
+				}
+				else if (tradingSettlement.equals(settlement)) {
+					result.add(startingSettlement);
 				}
 			}
 		}
 
-		return false;
+		return result;
 	}
 
 	/**
@@ -201,8 +273,7 @@ public final class CommerceUtil {
 		Shipment desiredBuyLoad = null;
 		if (credit > (SELL_CREDIT_LIMIT * -1D)) {
 			// Determine desired buy load,
-			desiredBuyLoad 	= determineLoad(buyingSettlement, sellingSettlement, 
-					delivery, Double.POSITIVE_INFINITY);
+			desiredBuyLoad 	= getPulseLoad(buyingSettlement, sellingSettlement, delivery);
 		}
 
 		return desiredBuyLoad;
@@ -225,13 +296,59 @@ public final class CommerceUtil {
 		Shipment sellLoad = null;
 		if (credit < SELL_CREDIT_LIMIT) {
 			// Determine sell load.
-			sellLoad = determineLoad(buyingSettlement, sellingSettlement, delivery,
-									 Double.POSITIVE_INFINITY);
+			sellLoad = getPulseLoad(buyingSettlement, sellingSettlement, delivery);
 		}
 
 		return sellLoad;
 	}
 
+	/**
+	 * Gets the load between a buying settlement and a selling settlement reusing one
+	 * already evaluated in this pulse from the same shopping lists. A copy is returned
+	 * so callers can change it.
+	 * 
+	 * @param buyingSettlement  the settlement buying the goods.
+	 * @param sellingSettlement the settlement selling the goods.
+	 * @param delivery             the Vehicle to carry the goods.
+	 * @return the load or null if nothing can be traded
+	 */
+	private static Shipment getPulseLoad(Settlement buyingSettlement, Settlement sellingSettlement,
+			Vehicle delivery) {
+		MasterClock clock = Simulation.instance().getMasterClock();
+		if (clock == null) {
+			return determineLoad(buyingSettlement, sellingSettlement, delivery, Double.POSITIVE_INFINITY);
+		}
+
+		long pulse = clock.getTotalPulses();
+		synchronized (pulseLoads) {
+			if (pulse != loadsPulse) {
+				pulseLoads.clear();
+				loadsPulse = pulse;
+			}
+		}
+
+		var buyList = buyingSettlement.getGoodsManager().getBuyList();
+		var sellList = sellingSettlement.getGoodsManager().getSellList();
+		int[] containers = new int[LOAD_CONTAINERS.length];
+		for (int i = 0; i < containers.length; i++) {
+			containers[i] = sellingSettlement.findNumEmptyCopyContainersOfType(LOAD_CONTAINERS[i], false);
+		}
+
+		var key = new LoadKey(buyingSettlement, sellingSettlement, delivery.getCargoCapacity());
+		PricedLoad priced = pulseLoads.get(key);
+		if ((priced == null) || !priced.isValid(buyList, sellList, containers)) {
+			priced = new PricedLoad(buyList, sellList, containers, determineLoad(buyingSettlement,
+											sellingSettlement, delivery, Double.POSITIVE_INFINITY));
+			pulseLoads.put(key, priced);
+		}
+
+		Shipment found = priced.load();
+		if (found == null) {
+			return null;
+		}
+		return new Shipment(new HashMap<>(found.getLoad()), found.getCostValue());
+	}
+
 	/**
 	 * Determines the load between a buying settlement and a selling settlement.
 	 * 
@@ -532,5 +649,11 @@ public final class CommerceUtil {
 	public static void initializeInstances(MissionManager m, UnitManager u) {
 		missionManager = m;
 		unitManager = u;
+
+		// Loads of a previous simulation are no longer valid
+		synchronized (pulseLoads) {
+			pulseLoads.clear();
+			loadsPulse = -1;
+		}
 	}
 }
\ No newline at end of file
@@ -0,0 +1,104 @@
+/*
+ * Mars Simulation Project
+ * GoodsDependencyGraph.java
+ * @date 2025-08-18
+ */
+package com.mars_sim.core.goods;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import com.mars_sim.core.SimulationConfig;
+import com.mars_sim.core.food.FoodProductionUtil;
+import com.mars_sim.core.manufacture.ManufactureUtil;
+import com.mars_sim.core.process.ProcessInfo;
+import com.mars_sim.core.process.ProcessItem;
+import com.mars_sim.core.resourceprocess.ResourceProcessSpec;
+
+/**
+ * The goods whose value depends on the value of other goods. The inputs of a process
+ * are valued from the outputs, so a change to the value of an output means the inputs
+ * are downstream of it and need re-valuing.
+ */
+class GoodsDependencyGraph {
+
+	private static final int[] NONE = new int[0];
+
+	private final Map<Integer, Set<Integer>> links = new HashMap<>();
+	private volatile int[][] dependents = null;
+
+	/**
+	 * Builds the graph from the manufacturing, food production and resource process
+	 * configurations.
+	 *
+	 * @return
+	 */
+	static GoodsDependencyGraph create() {
+		var graph = new GoodsDependencyGraph();
+		graph.addProcesses(ManufactureUtil.getAllManufactureProcesses());
+		graph.addProcesses(FoodProductionUtil.getAllFoodProductionProcesses());
+		for (ResourceProcessSpec spec : SimulationConfig.instance()
+						.getResourceProcessConfiguration().getProcessSpecs()) {
+			for (int output : spec.getOutputResources()) {
+				if (!spec.isWasteOutputResource(output)) {
+					for (int input : spec.getInputResources()) {
+						if (!spec.isAmbientInputResource(input)) {
+							graph.addDependency(output, input);
+						}
+					}
+				}
+			}
+		}
+		return graph;
+	}
+
+	private void addProcesses(Collection<? extends ProcessInfo> processes) {
+		for (ProcessInfo p : processes) {
+			for (ProcessItem output : p.getOutputList()) {
+				for (ProcessItem input : p.getInputList()) {
+					addDependency(output.getId(), input.getId());
+				}
+			}
+		}
+	}
+
+	/**
+	 * Records that the value of one good depends on another.
+	 *
+	 * @param source Good whose value is used
+	 * @param dependent Good valued from the source
+	 */
+	void addDependency(int source, int dependent) {
+		if ((source >= 0) && (dependent >= 0) && (source != dependent)) {
+			links.computeIfAbsent(source, k -> new TreeSet<>()).add(dependent);
+			dependents = null;
+		}
+	}
+
+	/**
+	 * Gets the goods whose value is derived from a good.
+	 *
+	 * @param id Good id
+	 * @return Ids of the dependent goods
+	 */
+	int[] getDependents(int id) {
+		var table = dependents;
+		if (table == null) {
+			table = buildTable();
+			dependents = table;
+		}
+		return ((id >= 0) && (id < table.length) && (table[id] != null) ? table[id] : NONE);
+	}
+
+	private synchronized int[][] buildTable() {
+		int maxId = links.keySet().stream().mapToInt(i -> i).max().orElse(-1);
+		int[][] table = new int[maxId + 1][];
+		for (var e : links.entrySet()) {
+			table[e.getKey()] = e.getValue().stream().mapToInt(i -> i).toArray();
+		}
+		return table;
+	}
+}
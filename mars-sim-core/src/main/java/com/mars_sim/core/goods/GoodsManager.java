@@ -9,12 +9,14 @@ package com.mars_sim.core.goods;
 import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.Serializable;
+import java.util.ArrayDeque;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
-import java.util.Map.Entry;
 import java.util.Set;
 
 import com.mars_sim.core.SimulationConfig;
@@ -60,7 +62,14 @@ public class GoodsManager implements Serializable {
 		 */
 		@Override
 		public int execute(MarsTime now) {
-			updatedMetrics();
+			updateRuns++;
+			updatesSinceFull++;
+			if (updatesSinceFull >= FULL_UPDATE_CYCLE) {
+				updatedMetrics();
+			}
+			else {
+				updateChangedGoods();
+			}
 			return UPDATE_GOODS_PERIOD;
 		}	
 	}
@@ -147,6 +156,13 @@ public class GoodsManager implements Serializable {
 	static final double MIN_DEMAND = 0.01;
 
 	private static final double MIN_SUPPLY = 1;
+
+	// Number of goods updates between re-valuing every good
+	private static final int FULL_UPDATE_CYCLE = 5;
+	// Relative change in a good that re-values the goods downstream of it
+	private static final double DOWNSTREAM_CHANGE = 0.01;
+	// Share of the old demand and value kept each time a good is valued
+	private static final double BLEND_KEEP = .95;
 	private static final double PERCENT_110 = 1.1;
 	private static final double PERCENT_90 = .9;
 	private static final double PERCENT_81 = .81;
@@ -160,6 +176,8 @@ public class GoodsManager implements Serializable {
 	/** A standard list of resources to be excluded in buying negotiation. */
 	private static Set<Good> unsellableGoods = null;
 
+	private static GoodsDependencyGraph dependencies = null;
+
 	private transient Map<MissionType, Deal> deals = new EnumMap<>(MissionType.class);
 
 	// Data members
@@ -170,13 +188,19 @@ public class GoodsManager implements Serializable {
 	
 	private Map<CommerceType, Double> factors = new EnumMap<>(CommerceType.class);
 
-	private Map<Integer, Double> goodsValues = new HashMap<>();
-	private Map<Integer, Double> tradeCache = new HashMap<>();
+	// Caches indexed by good id; values of ids that are not goods are NaN
+	private double[] goodValues;
+	private double[] tradeValues;
 
-	private Map<Integer, Double> demandCache = new HashMap<>();
-	private Map<Integer, Double> supplyCache = new HashMap<>();
+	private double[] demandScores;
+	private double[] supplyScores;
 
-	private Map<Integer, Integer> deflationIndexMap = new HashMap<>();
+	private int[] deflationIndexes;
+
+	private int updatesSinceFull = 0;
+	private int updateRuns = 0;
+	// Update run when each good was last valued; indexed by good id
+	private int[] lastValuedRun;
 	
 	/** A standard list of buying resources in buying negotiation. */
 	private Map<Good, ShoppingItem> buyList =  Collections.emptyMap();
@@ -184,6 +208,9 @@ public class GoodsManager implements Serializable {
 
 	private Set<Integer> reviewedEssentials = new HashSet<>();
 
+	/** Goods whose stored amount has changed since they were last valued. */
+	private transient Set<Good> changedGoods = new HashSet<>();
+
 	private Settlement settlement;
 
 	private static UnitManager unitManager;
@@ -254,17 +281,27 @@ public class GoodsManager implements Serializable {
 	}
     
 	/**
-	 * Populates the cache maps.
+	 * Populates the caches.
 	 */
 	private void populateCaches() {
+		int size = GoodsUtil.getGoodsList().stream().mapToInt(Good::getID).max().orElse(0) + 1;
+		goodValues = new double[size];
+		tradeValues = new double[size];
+		demandScores = new double[size];
+		supplyScores = new double[size];
+		deflationIndexes = new int[size];
+		lastValuedRun = new int[size];
+		Arrays.fill(goodValues, Double.NaN);
+		Arrays.fill(demandScores, Double.NaN);
+
 		// Preload the good cache
 		for(Good good : GoodsUtil.getGoodsList()) {
 			int id = good.getID();
-			goodsValues.put(id, 1D);
-			tradeCache.put(id, 0D);
-			deflationIndexMap.put(id, 0);
-			demandCache.put(id, good.getDefaultDemandValue());
-			supplyCache.put(id, good.getDefaultSupplyValue());
+			goodValues[id] = 1D;
+			tradeValues[id] = 0D;
+			deflationIndexes[id] = 0;
+			demandScores[id] = good.getDefaultDemandValue();
+			supplyScores[id] = good.getDefaultSupplyValue();
 		}
 	}
 
@@ -301,7 +338,84 @@ public class GoodsManager implements Serializable {
  		// Update the metrics on all goods 
 		for (Good g: GoodsUtil.getGoodsList()) {
 			updateOneGood(g);
-		}				
+		}
+		changedGoods.clear();
+		updatesSinceFull = 0;
+	}
+
+	/**
+	 * Re-values the goods whose stored amount has changed since the last update followed by
+	 * any goods downstream of those whose demand or value moved.
+	 * 
+	 * @return Number of goods re-valued
+	 */
+	public int updateChangedGoods() {
+		Deque<Good> pending = new ArrayDeque<>();
+		boolean[] queued = new boolean[goodValues.length];
+		for (Good g : takeChangedGoods()) {
+			queued[g.getID()] = true;
+			pending.add(g);
+		}
+
+		int revalued = 0;
+		while (!pending.isEmpty()) {
+			Good g = pending.poll();
+			int id = g.getID();
+			double oldDemand = demandScores[id];
+			double oldValue = goodValues[id];
+
+			updateOneGood(g);
+			revalued++;
+
+			if (hasMoved(oldDemand, demandScores[id]) || hasMoved(oldValue, goodValues[id])) {
+				for (int d : getDependencies().getDependents(id)) {
+					Good dependent = GoodsUtil.getGood(d);
+					if ((dependent != null) && !queued[d]) {
+						queued[d] = true;
+						pending.add(dependent);
+					}
+				}
+			}
+		}
+
+		logger.fine(settlement, "Re-valued " + revalued + " goods.");
+		return revalued;
+	}
+
+	private static boolean hasMoved(double oldValue, double newValue) {
+		return Math.abs(newValue - oldValue) > Math.abs(oldValue) * DOWNSTREAM_CHANGE;
+	}
+
+	private static synchronized GoodsDependencyGraph getDependencies() {
+		if (dependencies == null) {
+			dependencies = GoodsDependencyGraph.create();
+		}
+		return dependencies;
+	}
+
+	/**
+	 * Records the resources whose stored amount has changed in the settlement.
+	 * 
+	 * @param changes Net change keyed on resource id
+	 */
+	public void resourcesChanged(Map<Integer, Double> changes) {
+		for (int id : changes.keySet()) {
+			Good g = GoodsUtil.getGood(id);
+			if (g != null) {
+				changedGoods.add(g);
+			}
+		}
+	}
+
+	/**
+	 * Gets the goods whose stored amount has changed since the last call.
+	 * 
+	 * @return
+	 */
+	Set<Good> takeChangedGoods() {
+		Set<Good> result = changedGoods;
+		changedGoods = new HashSet<>();
+		return result;
 	}
 
 	/**
@@ -345,12 +459,18 @@ public class GoodsManager implements Serializable {
 
 			int id = good.getID();
 		
-			double totalSupply = supplyCache.get(id);
-			double oldDemand = demandCache.get(id);
+			double totalSupply = supplyScores[id];
+			double oldDemand = demandScores[id];
+
+			// Blend once for every update run since the good was last valued so goods
+			// skipped by the incremental updates converge at the same rate
+			int runs = Math.max(1, updateRuns - lastValuedRun[id]);
+			lastValuedRun[id] = updateRuns;
+			double keep = Math.pow(BLEND_KEEP, runs);
 			
 			// Adjust the market demand
 			double marketDemand = adjustMarketDemand(good, oldDemand);
-			double newDemand = .95 *  oldDemand + .05 * marketDemand;
+			double newDemand = keep *  oldDemand + (1 - keep) * marketDemand;
 	
 			// Save the demand if it has changed
 			if (oldDemand != newDemand) {
@@ -362,12 +482,12 @@ public class GoodsManager implements Serializable {
 
 			// Check if it surpasses MAX_VP
 			if (newGoodValue > MAX_VP) {
-				// Update deflationIndexMap for other resources of the same category
+				// Update deflation indexes for other resources of the same category
 				newGoodValue = updateDeflationMap(id, newGoodValue, good.getCategory(), true);
 			}
 			// Check if it falls below MIN_VP
 			else if (newGoodValue < MIN_VP) {
-				// Update deflationIndexMap for other resources of the same category
+				// Update deflation indexes for other resources of the same category
 				updateDeflationMap(id, newGoodValue, good.getCategory(), false);
 			}
 
@@ -376,10 +496,10 @@ public class GoodsManager implements Serializable {
 			
 			// Adjust the market VP
 			double marketVP = adjustMarketVP(good, newGoodValue);
-			newGoodValue = .95 *  newGoodValue + .05 * marketVP;
+			newGoodValue = keep *  newGoodValue + (1 - keep) * marketVP;
 
 			// Save the value point if it has changed
-			double oldValue = goodsValues.get(id);
+			double oldValue = goodValues[id];
 			if (oldValue != newGoodValue) {
 				setGoodValue(good, newGoodValue);
 			}
@@ -430,7 +550,7 @@ public class GoodsManager implements Serializable {
 	 */
 	private double checkDeflation(int id, double value) {
 		// Check for inflation and deflation adjustment
-		int index = deflationIndexMap.get(id);
+		int index = deflationIndexes[id];
 
 		if (index > 0) { // if the index is positive, need to deflate the value
 			for (int i = 0; i < index; i++) {
@@ -454,7 +574,7 @@ public class GoodsManager implements Serializable {
 			}
 		}
 
-		deflationIndexMap.put(id, 0);
+		deflationIndexes[id] = 0;
 		return value;
 	}
 
@@ -468,23 +588,21 @@ public class GoodsManager implements Serializable {
 	 * @return the adjusted value
 	 */
 	private double updateDeflationMap(int id, double value, GoodCategory type, boolean exceed) {
-		if (!deflationIndexMap.containsKey(id)) {
+		if (!isGood(id)) {
 			return 0;
 		}
 		if (type == GoodsUtil.getGood(id).getCategory()) {
 			// This good is of the same category as the one that cause the
 			// inflation/deflation
-			int oldIndex = deflationIndexMap.get(id);
 			if (exceed) {
 				// reduce twice
-				deflationIndexMap.put(id, oldIndex + 2);
+				deflationIndexes[id] += 2;
 			}
 		}
 		else { // This good is of different category
-			int oldIndex = deflationIndexMap.get(id);
 			if (exceed) {
 				// reduce once
-				deflationIndexMap.put(id, oldIndex + 1);
+				deflationIndexes[id] += 1;
 			}
 		}
 
@@ -537,7 +655,7 @@ public class GoodsManager implements Serializable {
 					selectedTradeValue = tradeValue;
 			}
 		}
-		tradeCache.put(good.getID(), selectedTradeValue);
+		tradeValues[good.getID()] = selectedTradeValue;
 		return selectedTradeValue;
 	}
 
@@ -667,8 +785,8 @@ public class GoodsManager implements Serializable {
 	 * @return value (VP)
 	 */
 	public double getGoodValuePoint(int id) {
-		if (goodsValues.containsKey(id))
-			return goodsValues.get(id);
+		if (isGood(id))
+			return goodValues[id];
 		else
 			logger.severe(settlement, " - Good Value of " + id + " not valid.");
 		return 0;
@@ -681,8 +799,8 @@ public class GoodsManager implements Serializable {
 	 * @return demand value
 	 */
 	public double getDemandScoreWithID(int id) {
-		if (demandCache.containsKey(id))
-			return demandCache.get(id);
+		if (isGood(id))
+			return demandScores[id];
 		else
 			logger.severe(settlement, "id: " + id + " not valid.");
 		return 1;
@@ -695,7 +813,7 @@ public class GoodsManager implements Serializable {
 	 * @return
 	 */
 	public double getDemandScore(Good good) {
-		return demandCache.get(good.getID());
+		return demandScores[good.getID()];
 	}
 
 	/**
@@ -706,7 +824,7 @@ public class GoodsManager implements Serializable {
 	 */
 	public void setDemandScore(Good good, double newScore) {
 		double clippedValue = MathUtils.between(newScore, MIN_DEMAND, MAX_DEMAND);
-		demandCache.put(good.getID(), clippedValue);
+		demandScores[good.getID()] = clippedValue;
 		settlement.fireUnitUpdate(UnitEventType.DEMAND_EVENT, good);
 	}
 
@@ -718,7 +836,7 @@ public class GoodsManager implements Serializable {
 	 */
 	public void setGoodValue(Good good, double newValue) {
 		double clippedValue = MathUtils.between(newValue, MIN_VP, MAX_VP);
-		goodsValues.put(good.getID(), clippedValue);
+		goodValues[good.getID()] = clippedValue;
 		settlement.fireUnitUpdate(UnitEventType.VALUE_EVENT, good);
 	}
 	
@@ -741,7 +859,7 @@ public class GoodsManager implements Serializable {
 	 */
 	public void setSupplyScore(int id, double newScore) {
 		double clippedValue = MathUtils.between(newScore, MIN_SUPPLY, MAX_SUPPLY);
-		supplyCache.put(id, clippedValue);
+		supplyScores[id] = clippedValue;
 	}
 
 	/**
@@ -761,7 +879,14 @@ public class GoodsManager implements Serializable {
 	 * @return
 	 */
 	public double getSupplyScore(int id) {
-		return supplyCache.get(id);
+		return supplyScores[id];
+	}
+
+	/**
+	 * Is this id a known good ?
+	 */
+	private boolean isGood(int id) {
+		return (id >= 0) && (id < goodValues.length) && !Double.isNaN(goodValues[id]);
 	}
 
 	/**
@@ -925,9 +1050,7 @@ public class GoodsManager implements Serializable {
 		Set<Good> excluded = new HashSet<>(GoodsManager.getUnsellableGoods());
 		excluded.addAll(buyList.keySet());   // Exclude goods that are already being bought
 
-		for(Entry<Integer, Double> item : supplyCache.entrySet()) {
-			Good good = GoodsUtil.getGood(item.getKey());
-
+		for(Good good : GoodsUtil.getGoodsList()) {
 			if (excluded.contains(good)) {
 				continue;
 			}
@@ -951,6 +1074,18 @@ public class GoodsManager implements Serializable {
 		deals.clear();
 	}
 
+	/**
+	 * Replaces the shopping lists. Package friendly for unit tests.
+	 * 
+	 * @param newBuy Items to buy
+	 * @param newSell Items to sell
+	 */
+	void setShoppingLists(Map<Good, ShoppingItem> newBuy, Map<Good, ShoppingItem> newSell) {
+		buyList = Collections.unmodifiableMap(newBuy);
+		sellList = Collections.unmodifiableMap(newSell);
+		deals.clear();
+	}
+
 	/**
 	 * Calculates the current buying list for this Settlement.
 	 */
@@ -959,14 +1094,14 @@ public class GoodsManager implements Serializable {
 		// This logic is a draft and need more refinement
 		Map<Good, ShoppingItem> newBuy = new HashMap<>();
 		Set<Good> excluded = GoodsManager.getUnsellableGoods();
-		for(Entry<Integer, Double> item : demandCache.entrySet()) {
-			Good good = GoodsUtil.getGood(item.getKey());
+		for(Good good : GoodsUtil.getGoodsList()) {
 			if (excluded.contains(good)) {
 				continue;
 			}
 
 			// Take Goods in demand more than supply
-			if (item.getValue() > supplyCache.get(good.getID())) {
+			int id = good.getID();
+			if (demandScores[id] > supplyScores[id]) {
 				double buyPrice = getPrice(good) * 1.1D;
 				int quantity = (int)(good.getNumberForSettlement(settlement) * 0.1D);
 				if (quantity == 0) {
@@ -993,6 +1128,15 @@ public class GoodsManager implements Serializable {
 		deals = new EnumMap<>(MissionType.class);
 		buyList = Collections.emptyMap();
 		sellList = Collections.emptyMap();
+		changedGoods = new HashSet<>();
+
+		// Saves made when the caches were maps start from the defaults
+		if (goodValues == null) {
+			populateCaches();
+		}
+		else if (lastValuedRun == null) {
+			lastValuedRun = new int[goodValues.length];
+		}
 	}
 	
 	/**
@@ -1017,13 +1161,13 @@ public class GoodsManager implements Serializable {
 	public void destroy() {
 
 		settlement = null;
-		goodsValues = null;
-		demandCache = null;
-		tradeCache = null;
+		goodValues = null;
+		demandScores = null;
+		tradeValues = null;
 
-		deflationIndexMap = null;
+		deflationIndexes = null;
 
-		supplyCache = null;
+		supplyScores = null;
 
 		buyList = null;
 		sellList = null;
@@ -88,9 +88,7 @@ class VehicleGood extends Good {
 		this.theoreticalRange = getVehicleRange(vs);
 
         // Pre-calculate manufactureProcessInfos
-		manufactureProcessInfos = ManufactureUtil.getAllManufactureProcesses().stream()
-					.filter(p -> p.isOutput(vs.getName()))
-					.toList();
+		manufactureProcessInfos = ManufactureUtil.getManufactureProcessesWithGivenOutput(vs.getName());
 
         // Calculate fixed values
      	flattenDemand = calculateFlattenDemand(vehicleType);
@@ -0,0 +1,255 @@
+/*
+ * Mars Simulation Project
+ * AsyncLogHandler.java
+ * @date 2025-08-20
+ */
+package com.mars_sim.core.logging;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.ErrorManager;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+/**
+ * A Handler that passes the log records to another Handler on a background thread so
+ * the simulation threads never wait on the console or the disk. All the async handlers
+ * share a bounded buffer that is drained by a single writer thread in batches; the
+ * target Handlers are flushed once per batch.
+ * When the buffer is full the records are either dropped or the logging thread waits
+ * according to the overflow policy.
+ */
+public class AsyncLogHandler extends Handler {
+
+	/**
+	 * What to do when the buffer is full.
+	 */
+	public enum OverflowPolicy {
+		/** Discard the record and count it. */
+		DROP,
+		/** Wait for space in the buffer. */
+		BLOCK
+	}
+
+	/**
+	 * A record waiting to be written to a target.
+	 */
+	private record Pending(Handler target, LogRecord logRecord) {}
+
+	public static final int DEFAULT_CAPACITY = 8192;
+	private static final int BATCH_SIZE = 256;
+	private static final long CLOSE_WAIT = 2000;
+
+	private static int capacity = DEFAULT_CAPACITY;
+	private static OverflowPolicy policy = OverflowPolicy.DROP;
+
+	private static BlockingQueue<Pending> buffer;
+	private static Thread writer;
+
+	private static final Object writtenLock = new Object();
+	private static final AtomicLong queued = new AtomicLong();
+	private static final AtomicLong written = new AtomicLong();
+	private static final AtomicLong dropped = new AtomicLong();
+	private static final AtomicLong blocked = new AtomicLong();
+	private static long reportedDropped = 0;
+
+	private final Handler target;
+
+	/**
+	 * Creates a handler that writes to a target on the writer thread.
+	 *
+	 * @param target Handler doing the actual output
+	 */
+	public AsyncLogHandler(Handler target) {
+		this.target = target;
+		setLevel(target.getLevel());
+		startWriter();
+	}
+
+	/**
+	 * Configures the buffer shared by the handlers. This has no effect once a handler
+	 * has been created.
+	 *
+	 * @param newCapacity Maximum number of records waiting to be written
+	 * @param newPolicy What happens when the buffer is full
+	 */
+	public static synchronized void configure(int newCapacity, OverflowPolicy newPolicy) {
+		if (newCapacity <= 0) {
+			throw new IllegalArgumentException("Log buffer capacity must be positive");
+		}
+		if (buffer == null) {
+			capacity = newCapacity;
+			policy = newPolicy;
+		}
+	}
+
+	private static synchronized void startWriter() {
+		if (writer == null) {
+			buffer = new ArrayBlockingQueue<>(capacity);
+			writer = new Thread(AsyncLogHandler::writeRecords, "log-writer");
+			writer.setDaemon(true);
+			writer.start();
+
+			// Get any records still buffered out before the JVM stops
+			Runtime.getRuntime().addShutdownHook(new Thread(() -> waitForWriter(CLOSE_WAIT)));
+		}
+	}
+
+	/**
+	 * Gets the target Handler.
+	 */
+	public Handler getTarget() {
+		return target;
+	}
+
+	@Override
+	public void publish(LogRecord logRecord) {
+		if (!isLoggable(logRecord)) {
+			return;
+		}
+
+		// The source is inferred from the stack so it must be found on the logging thread
+		logRecord.getSourceClassName();
+		var pending = new Pending(target, logRecord);
+		if (!buffer.offer(pending)) {
+			if (policy == OverflowPolicy.DROP) {
+				dropped.incrementAndGet();
+				return;
+			}
+
+			blocked.incrementAndGet();
+			try {
+				buffer.put(pending);
+			} catch (InterruptedException e) {
+				dropped.incrementAndGet();
+				Thread.currentThread().interrupt();
+				return;
+			}
+		}
+		queued.incrementAndGet();
+	}
+
+	/**
+	 * Waits until the records buffered so far have been written.
+	 */
+	@Override
+	public void flush() {
+		waitForWriter(CLOSE_WAIT);
+	}
+
+	@Override
+	public void close() {
+		flush();
+		target.close();
+	}
+
+	/**
+	 * Waits for the records buffered so far to be written.
+	 *
+	 * @param maxWait Longest time to wait in milliseconds
+	 */
+	private static void waitForWriter(long maxWait) {
+		if (Thread.currentThread() == writer) {
+			return;
+		}
+
+		long target = queued.get();
+		long giveUp = System.currentTimeMillis() + maxWait;
+		synchronized (writtenLock) {
+			while ((written.get() < target) && (System.currentTimeMillis() < giveUp)) {
+				try {
+					writtenLock.wait(10);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					return;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Body of the writer thread.
+	 */
+	private static void writeRecords() {
+		List<Pending> batch = new ArrayList<>(BATCH_SIZE);
+		Set<Handler> touched = new HashSet<>();
+		while (true) {
+			try {
+				Pending first = buffer.poll(1, TimeUnit.SECONDS);
+				if (first != null) {
+					batch.add(first);
+					buffer.drainTo(batch, BATCH_SIZE - 1);
+					writeBatch(batch, touched);
+				}
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return;
+			}
+			catch (RuntimeException e) {
+				// Never let a bad handler stop the writer
+				new ErrorManager().error("Problem writing log records", e, ErrorManager.WRITE_FAILURE);
+			}
+			finally {
+				written.addAndGet(batch.size());
+				batch.clear();
+				touched.clear();
+				synchronized (writtenLock) {
+					writtenLock.notifyAll();
+				}
+			}
+		}
+	}
+
+	private static void writeBatch(List<Pending> batch, Set<Handler> touched) {
+		for (Pending p : batch) {
+			p.target().publish(p.logRecord());
+			touched.add(p.target());
+		}
+
+		// Tell the targets if records have been lost
+		long nowDropped = dropped.get();
+		if (nowDropped > reportedDropped) {
+			var lost = new LogRecord(Level.WARNING, "Log buffer full; "
+							+ (nowDropped - reportedDropped) + " records dropped");
+			lost.setLoggerName(AsyncLogHandler.class.getName());
+			lost.setSourceClassName(AsyncLogHandler.class.getName());
+			reportedDropped = nowDropped;
+			for (Handler h : touched) {
+				h.publish(lost);
+			}
+		}
+
+		for (Handler h : touched) {
+			h.flush();
+		}
+	}
+
+	/**
+	 * Gets the number of records written by the writer thread.
+	 */
+	public static long getWritten() {
+		return written.get();
+	}
+
+	/**
+	 * Gets the number of records dropped because the buffer was full.
+	 */
+	public static long getDropped() {
+		return dropped.get();
+	}
+
+	/**
+	 * Gets the number of times a logging thread waited for space in the buffer.
+	 */
+	public static long getBlocked() {
+		return blocked.get();
+	}
+}
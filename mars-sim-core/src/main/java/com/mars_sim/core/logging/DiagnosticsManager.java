@@ -6,18 +6,42 @@
  */
 package com.mars_sim.core.logging;
 
-import java.io.FileNotFoundException;
+import java.io.File;
+import java.io.IOException;
+import java.util.logging.FileHandler;
+import java.util.logging.Formatter;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
 
+import com.mars_sim.core.SimulationRuntime;
 import com.mars_sim.core.Unit;
 import com.mars_sim.core.data.RatingLog;
 
 public class DiagnosticsManager {
 
+	/**
+	 * Writes just the message of each record on a line.
+	 */
+	private static class LineFormatter extends Formatter {
+		@Override
+		public String format(LogRecord r) {
+			return r.getMessage() + System.lineSeparator();
+		}
+	}
+
 	private static final String UNIT_MODULE = "unit";
+	private static final String PULSE_MODULE = "pulse";
+	private static final String DIAGNOSTICS_LOGGER = "diagnostics.";
+
+	// Size of each diagnostics file and how many are kept
+	private static final int FILE_LIMIT = 10_000_000;
+	private static final int FILE_COUNT = 5;
 	
 	// List of modules supporting diagnostics
 	public static final String [] MODULE_NAMES = {
-			UNIT_MODULE
+			UNIT_MODULE, PULSE_MODULE
 	};
 	
 	/**
@@ -30,15 +54,55 @@ public class DiagnosticsManager {
 	 * @param module
 	 * @param enabled
 	 * @return
-	 * @throws FileNotFoundException 
+	 * @throws IOException 
 	 */
-	public static boolean setDiagnostics(String module, boolean enabled) throws FileNotFoundException {
+	public static boolean setDiagnostics(String module, boolean enabled) throws IOException {
 		if (module.equals(UNIT_MODULE)) {
 			Unit.setDiagnostics(enabled);
 		}
+		else if (module.equals(PULSE_MODULE)) {
+			PulseProfiler.setEnabled(enabled);
+		}
 		else {
 			RatingLog.setDiagnostics(module, enabled);
 		}
 		return true;
 	}
+
+	/**
+	 * Opens a diagnostics log written to a set of rolling files in the log folder. The records
+	 * are written on the log writer thread so a busy module does not hold up the simulation.
+	 * 
+	 * @param fileName Name of the file; a generation number is added before the extension
+	 * @return Logger to write the diagnostics to
+	 * @throws IOException
+	 */
+	public static Logger openDiagnosticLog(String fileName) throws IOException {
+		String logDir = SimulationRuntime.getLogDir();
+		(new File(logDir)).mkdirs();
+
+		int ext = fileName.lastIndexOf('.');
+		String pattern = logDir + File.separator + (ext > 0 ? fileName.substring(0, ext) + "%g" + fileName.substring(ext)
+														: fileName + "%g");
+		var fileHandler = new FileHandler(pattern, FILE_LIMIT, FILE_COUNT, false);
+		fileHandler.setFormatter(new LineFormatter());
+
+		Logger log = Logger.getLogger(DIAGNOSTICS_LOGGER + fileName);
+		log.setUseParentHandlers(false);
+		log.setLevel(Level.ALL);
+		log.addHandler(new AsyncLogHandler(fileHandler));
+		return log;
+	}
+
+	/**
+	 * Closes a diagnostics log writing out any outstanding records.
+	 * 
+	 * @param log Logger created by {@link #openDiagnosticLog(String)}
+	 */
+	public static void closeDiagnosticLog(Logger log) {
+		for (Handler h : log.getHandlers()) {
+			log.removeHandler(h);
+			h.close();
+		}
+	}
 }
@@ -0,0 +1,268 @@
+/*
+ * Mars Simulation Project
+ * PulseProfiler.java
+ * @date 2025-08-13
+ */
+package com.mars_sim.core.logging;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.mars_sim.core.Entity;
+
+/**
+ * Static class that records how long each type of Temporal takes to apply a clock pulse.
+ * Times are held as histograms per Temporal category and per owning Settlement so the
+ * hot spots can be found without a profiler attached.
+ * When disabled the cost to the caller is a single volatile read.
+ */
+public class PulseProfiler {
+
+	/**
+	 * The types of Temporal that are timed.
+	 */
+	public enum Category {
+		EXECUTOR, SETTLEMENT, POWER_GRID, THERMAL, BUILDING_MANAGER, BUILDING, PERSON, VEHICLE, ROBOT
+	}
+
+	/**
+	 * Summary of the pulse times of one category and owner.
+	 *
+	 * @param owner Name of the owning Settlement; or ALL
+	 * @param category Type of Temporal
+	 * @param count Number of pulses applied
+	 * @param total Total time in nanoseconds
+	 * @param p50 Median time in nanoseconds
+	 * @param p99 99th percentile time in nanoseconds
+	 * @param max Longest time in nanoseconds
+	 */
+	public record Stats(String owner, Category category, long count, long total, long p50, long p99, long max) {
+
+		/**
+		 * Mean time of a pulse in nanoseconds.
+		 */
+		public long mean() {
+			return (count == 0 ? 0 : total / count);
+		}
+	}
+
+	/**
+	 * Histogram of times using power of 2 buckets. Safe to update from many threads.
+	 */
+	static class Histogram {
+		private static final int BUCKETS = 64;
+
+		private AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+		private LongAdder count = new LongAdder();
+		private LongAdder total = new LongAdder();
+		private AtomicLong max = new AtomicLong();
+
+		void record(long nanos) {
+			buckets.incrementAndGet(BUCKETS - 1 - Long.numberOfLeadingZeros(nanos | 1));
+			count.increment();
+			total.add(nanos);
+			if (nanos > max.get()) {
+				max.accumulateAndGet(nanos, Math::max);
+			}
+		}
+
+		/**
+		 * Adds the values of this histogram into a running set of buckets.
+		 */
+		long addTo(long[] target) {
+			for (int i = 0; i < BUCKETS; i++) {
+				target[i] += buckets.get(i);
+			}
+			return total.sum();
+		}
+	}
+
+	public static final String ALL = "All";
+
+	private static final SimLogger logger = SimLogger.getLogger(PulseProfiler.class.getName());
+
+	private static final long SUMMARY_PERIOD = TimeUnit.MINUTES.toNanos(5);
+	private static final int SUMMARY_HOT_SPOTS = 5;
+
+	private static volatile boolean enabled = false;
+	private static Map<String, Map<Category, Histogram>> owners = new ConcurrentHashMap<>();
+	private static long lastSummary;
+
+	/**
+	 * Prevent instance creation
+	 */
+	private PulseProfiler() {}
+
+	/**
+	 * Enables the pulse timings. Enabling clears any previous timings.
+	 *
+	 * @param enable
+	 */
+	public static void setEnabled(boolean enable) {
+		if (enable && !enabled) {
+			reset();
+			lastSummary = System.nanoTime();
+		}
+		else if (!enable && enabled) {
+			logSummary();
+		}
+		enabled = enable;
+		logger.info((enable ? "Start" : "Stop") + " pulse profiling");
+	}
+
+	/**
+	 * Are the pulse timings being recorded?
+	 */
+	public static boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * Clears all recorded timings.
+	 */
+	public static void reset() {
+		owners.clear();
+	}
+
+	/**
+	 * Marks the start of a timed section.
+	 *
+	 * @return Start time to pass to {@link #stop(Category, Entity, long)}; zero if disabled
+	 */
+	public static long start() {
+		return (enabled ? System.nanoTime() : 0L);
+	}
+
+	/**
+	 * Records the end of a timed section.
+	 *
+	 * @param category Type of Temporal being timed
+	 * @param owner Settlement owning the Temporal; null if not owned
+	 * @param start Value returned by {@link #start()}
+	 */
+	public static void stop(Category category, Entity owner, long start) {
+		if (start == 0L) {
+			return;
+		}
+		long elapsed = System.nanoTime() - start;
+		String name = (owner != null ? owner.getName() : ALL);
+		owners.computeIfAbsent(name, k -> new ConcurrentHashMap<>())
+				.computeIfAbsent(category, k -> new Histogram())
+				.record(elapsed);
+	}
+
+	/**
+	 * Gets the timings for each owner and category, most expensive first.
+	 *
+	 * @return
+	 */
+	public static List<Stats> getOwnerStats() {
+		List<Stats> results = new ArrayList<>();
+		for (var o : owners.entrySet()) {
+			for (var c : o.getValue().entrySet()) {
+				long[] buckets = new long[Histogram.BUCKETS];
+				Histogram h = c.getValue();
+				long total = h.addTo(buckets);
+				results.add(toStats(o.getKey(), c.getKey(), buckets, total, h.max.get()));
+			}
+		}
+		results.sort(Comparator.comparingLong(Stats::total).reversed());
+		return results;
+	}
+
+	/**
+	 * Gets the timings for each category combined over all owners, most expensive first.
+	 *
+	 * @return
+	 */
+	public static List<Stats> getCategoryStats() {
+		Map<Category, long[]> buckets = new EnumMap<>(Category.class);
+		Map<Category, long[]> totals = new EnumMap<>(Category.class);
+		for (var o : owners.values()) {
+			for (var c : o.entrySet()) {
+				long[] b = buckets.computeIfAbsent(c.getKey(), k -> new long[Histogram.BUCKETS]);
+				long[] t = totals.computeIfAbsent(c.getKey(), k -> new long[2]);
+				t[0] += c.getValue().addTo(b);
+				t[1] = Math.max(t[1], c.getValue().max.get());
+			}
+		}
+
+		List<Stats> results = new ArrayList<>();
+		for (var e : buckets.entrySet()) {
+			long[] t = totals.get(e.getKey());
+			results.add(toStats(ALL, e.getKey(), e.getValue(), t[0], t[1]));
+		}
+		results.sort(Comparator.comparingLong(Stats::total).reversed());
+		return results;
+	}
+
+	private static Stats toStats(String owner, Category category, long[] buckets, long total, long max) {
+		long count = 0;
+		for (long b : buckets) {
+			count += b;
+		}
+		return new Stats(owner, category, count, total, percentile(buckets, count, 0.5D, max),
+						percentile(buckets, count, 0.99D, max), max);
+	}
+
+	/**
+	 * Finds the percentile from the buckets. The result is the upper bound of the bucket
+	 * so it is no more than twice the true value.
+	 */
+	private static long percentile(long[] buckets, long count, double fraction, long max) {
+		long target = (long) Math.ceil(count * fraction);
+		long seen = 0;
+		for (int i = 0; i < buckets.length; i++) {
+			seen += buckets[i];
+			if ((seen >= target) && (seen > 0)) {
+				return (i >= 62 ? max : Math.min(max, (2L << i) - 1));
+			}
+		}
+		return max;
+	}
+
+	/**
+	 * Logs a summary of the timings if enabled and the summary period has passed.
+	 * This should be called by the clock thread between pulses.
+	 */
+	public static void logSummaryIfDue() {
+		if (enabled && (System.nanoTime() - lastSummary) >= SUMMARY_PERIOD) {
+			lastSummary = System.nanoTime();
+			logSummary();
+		}
+	}
+
+	private static void logSummary() {
+		StringBuilder output = new StringBuilder("Pulse profile:");
+		for (Stats s : getCategoryStats()) {
+			output.append(System.lineSeparator()).append(format(s));
+		}
+
+		List<Stats> hotSpots = getOwnerStats().stream()
+					.filter(s -> !ALL.equals(s.owner()))
+					.limit(SUMMARY_HOT_SPOTS)
+					.toList();
+		if (!hotSpots.isEmpty()) {
+			output.append(System.lineSeparator()).append(" Hot spots:");
+			for (Stats s : hotSpots) {
+				output.append(System.lineSeparator()).append(format(s));
+			}
+		}
+		logger.info(output.toString());
+	}
+
+	private static String format(Stats s) {
+		return String.format("  %s %s count=%d total=%dms mean=%dus p50=%dus p99=%dus max=%dus",
+						s.owner(), s.category(), s.count(), TimeUnit.NANOSECONDS.toMillis(s.total()),
+						TimeUnit.NANOSECONDS.toMicros(s.mean()), TimeUnit.NANOSECONDS.toMicros(s.p50()),
+						TimeUnit.NANOSECONDS.toMicros(s.p99()), TimeUnit.NANOSECONDS.toMicros(s.max()));
+	}
+}
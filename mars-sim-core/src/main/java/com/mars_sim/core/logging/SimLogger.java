@@ -10,10 +10,15 @@ package com.mars_sim.core.logging;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import com.mars_sim.core.Entity;
+import com.mars_sim.core.UnitIdentifer;
 
 
 /**
@@ -34,10 +39,195 @@ public class SimLogger {
 			this.expireTime = expireTime;
 			this.count = 0;
 		}
+
+		/**
+		 * Checks if a message is still blocked; if not the block is restarted.
+		 * 
+		 * @param now
+		 * @param timeBetweenLogs
+		 * @return Number of messages blocked to report; BLOCKED if this message is blocked
+		 */
+		synchronized int update(long now, long timeBetweenLogs) {
+			if (expireTime > now) {
+				// Not expired yet. Block the message and update the count
+				count++;
+				return BLOCKED;
+			}
+
+			// Report how many blocked as long as expired time is not too long in past
+			int repeats = ((now - expireTime) < timeBetweenLogs ? count : 0);
+
+			// Reuse the block for the subsequent messages
+			expireTime = now + timeBetweenLogs;
+			count = 0;
+			return repeats;
+		}
+	}
+
+	/**
+	 * The blocks of a LogSite held in an open addressing table keyed on a primitive actor id,
+	 * so finding the block of a repeated message does not allocate.
+	 */
+	private static class BlockedTable {
+		private static final int INITIAL_SIZE = 16;
+
+		private long[] keys = new long[INITIAL_SIZE];
+		private BlockedCount[] blocks = new BlockedCount[INITIAL_SIZE];
+		private int size = 0;
+
+		/**
+		 * Checks if the message of an actor is blocked and starts blocking subsequent ones if not.
+		 * 
+		 * @param key Id of the actor
+		 * @param timeBetweenLogs
+		 * @return Number of messages blocked to report; BLOCKED if this message is blocked
+		 */
+		synchronized int check(long key, long timeBetweenLogs) {
+			long now = System.currentTimeMillis();
+			int slot = find(keys, blocks, key);
+			BlockedCount block = blocks[slot];
+			if (block == null) {
+				// First time so start blocking subsequent messages
+				keys[slot] = key;
+				blocks[slot] = new BlockedCount(now + timeBetweenLogs);
+				size++;
+				if ((size * 2) > keys.length) {
+					grow();
+				}
+				return 0;
+			}
+			return block.update(now, timeBetweenLogs);
+		}
+
+		/**
+		 * Finds the slot holding a key or the empty slot where it should go.
+		 */
+		private static int find(long[] keys, BlockedCount[] blocks, long key) {
+			int mask = keys.length - 1;
+			int slot = Long.hashCode(key * 0x9E3779B97F4A7C15L) & mask;
+			while ((blocks[slot] != null) && (keys[slot] != key)) {
+				slot = (slot + 1) & mask;
+			}
+			return slot;
+		}
+
+		private void grow() {
+			long[] newKeys = new long[keys.length * 2];
+			BlockedCount[] newBlocks = new BlockedCount[blocks.length * 2];
+			for (int i = 0; i < keys.length; i++) {
+				if (blocks[i] != null) {
+					int slot = find(newKeys, newBlocks, keys[i]);
+					newKeys[slot] = keys[i];
+					newBlocks[slot] = blocks[i];
+				}
+			}
+			keys = newKeys;
+			blocks = newBlocks;
+		}
+	}
+
+	/**
+	 * The place in the code that logged a throttled message for an actor.
+	 */
+	private record CallSite(Class<?> caller, String method, int offset, Object actor) {}
+
+	/**
+	 * A throttled log statement that is registered once by the calling code, normally
+	 * in a static field. The throttling is held against the site and the actor so no
+	 * stack walk is needed, and the message is only built when it is going to be logged.
+	 * The blocks are held against the identifier of the actor so no actor is retained.
+	 * Hot code should pass the values of the message as arguments with a non-capturing
+	 * lambda so a blocked message does not allocate.
+	 */
+	public final class LogSite {
+		private final Level level;
+		private final long timeBetweenLogs;
+		private final BlockedTable blocked = new BlockedTable();
+
+		private LogSite(Level level, long timeBetweenLogs) {
+			this.level = level;
+			this.timeBetweenLogs = timeBetweenLogs;
+		}
+
+		/**
+		 * Logs a message unless one has already been logged at this site for the actor
+		 * within the time between logs.
+		 * 
+		 * @param actor   Unit that is the Actor in the message; may be null
+		 * @param message Creates the message to log
+		 */
+		public void log(Entity actor, Supplier<String> message) {
+			int repeats = check(actor);
+			if (repeats != BLOCKED) {
+				writeLog(actor, level, repeats, message.get(), null);
+			}
+		}
+
+		/**
+		 * Logs a fixed message unless one has already been logged at this site for the actor
+		 * within the time between logs.
+		 * 
+		 * @param actor   Unit that is the Actor in the message; may be null
+		 * @param message The message to log
+		 */
+		public void log(Entity actor, String message) {
+			int repeats = check(actor);
+			if (repeats != BLOCKED) {
+				writeLog(actor, level, repeats, message, null);
+			}
+		}
+
+		/**
+		 * Logs a message built from a value unless one has already been logged at this site
+		 * for the actor within the time between logs.
+		 * 
+		 * @param actor   Unit that is the Actor in the message; may be null
+		 * @param value   Value used in the message
+		 * @param message Creates the message from the value
+		 */
+		public <T> void log(Entity actor, T value, Function<T, String> message) {
+			int repeats = check(actor);
+			if (repeats != BLOCKED) {
+				writeLog(actor, level, repeats, message.apply(value), null);
+			}
+		}
+
+		/**
+		 * Logs a message built from two values unless one has already been logged at this site
+		 * for the actor within the time between logs.
+		 * 
+		 * @param actor   Unit that is the Actor in the message; may be null
+		 * @param first   First value used in the message
+		 * @param second  Second value used in the message
+		 * @param message Creates the message from the values
+		 */
+		public <T, U> void log(Entity actor, T first, U second, BiFunction<T, U, String> message) {
+			int repeats = check(actor);
+			if (repeats != BLOCKED) {
+				writeLog(actor, level, repeats, message.apply(first, second), null);
+			}
+		}
+
+		private int check(Entity actor) {
+			if (!rootLogger.isLoggable(level)) {
+				return BLOCKED;
+			}
+			return blocked.check(getActorId(actor), timeBetweenLogs);
+		}
 	}
 
 	private static Map<String, SimLogger> loggers = new HashMap<>();
-	private static Map<String, BlockedCount> blockedMsgs = new ConcurrentHashMap<>();
+	private static Map<Object, BlockedCount> blockedMsgs = new ConcurrentHashMap<>();
+
+	private static final StackWalker WALKER = StackWalker.getInstance(StackWalker.Option.RETAIN_CLASS_REFERENCE);
+	private static final Function<Stream<StackWalker.StackFrame>, StackWalker.StackFrame> FIND_CALLER =
+					s -> s.dropWhile(f -> f.getDeclaringClass() == SimLogger.class)
+							.findFirst()
+							.orElse(null);
+	private static final Object NO_ACTOR = new Object();
+	private static final int BLOCKED = -1;
+	private static final long NO_ACTOR_ID = -1L;
+	private static final long NAMED_ACTOR = 1L << 32;
 
 	public  static final long DEFAULT_SEVERE_TIME = 0;
 	private static final long DEFAULT_WARNING_TIME = 0;
@@ -87,6 +277,17 @@ public class SimLogger {
 		return sourceName;
 	}
 
+	/**
+	 * Creates a throttled log statement to be held by the calling code.
+	 * 
+	 * @param level           Level to log.
+	 * @param timeBetweenLogs Milliseconds to wait between similar log messages.
+	 * @return
+	 */
+	public LogSite createSite(Level level, long timeBetweenLogs) {
+		return new LogSite(level, timeBetweenLogs);
+	}
+
 	/**
 	 * Logs given <code>message</code> to given <code>logger</code> as long as:
 	 * <ul>
@@ -123,31 +324,80 @@ public class SimLogger {
 			return;
 		}
 
-		var outputMessage = new StringBuilder(sourceName);
+		int repeats = 0;
+		if (timeBetweenLogs > 0) {
+			repeats = checkBlocked(blockedMsgs, getCallSite(actor), timeBetweenLogs);
+			if (repeats == BLOCKED) {
+				return;
+			}
+		}
+
+		writeLog(actor, level, repeats, message, t);
+	}
 
+	/**
+	 * Logs a message only building it when it is going to be logged.
+	 * 
+	 * @param actor
+	 * @param level
+	 * @param timeBetweenLogs
+	 * @param message
+	 */
+	private void baseLog(Entity actor, Level level, long timeBetweenLogs, Supplier<String> message) {
+		if (!rootLogger.isLoggable(level)) {
+			return;
+		}
+
+		int repeats = 0;
 		if (timeBetweenLogs > 0) {
-			long now = System.currentTimeMillis();
+			repeats = checkBlocked(blockedMsgs, getCallSite(actor), timeBetweenLogs);
+			if (repeats == BLOCKED) {
+				return;
+			}
+		}
 
-			// Check if this message is time blocked
-			String uniqueIdentifier = getUniqueIdentifer(actor);
-			BlockedCount currentBlock = blockedMsgs.get(uniqueIdentifier);
-			if (currentBlock != null) {
-				synchronized (currentBlock) {
-					if (currentBlock.expireTime > now) {
-						// Not expired yet. Block the message and update the count
-						currentBlock.count++;
-						return;
-					}
-				}
-				
-				// Print the log statement with count of how many blocked as long as expired time is not too long in past
-				if ((now - currentBlock.expireTime) < timeBetweenLogs) {
-					outputMessage.append(REPEAT_BRACKET).append(currentBlock.count).append(CLOSED_BRACKET);
-				}
+		writeLog(actor, level, repeats, message.get(), null);
+	}
+
+	/**
+	 * Checks if a throttled message is blocked and starts blocking subsequent ones if not.
+	 * 
+	 * @param blocked         The blocks held for the messages
+	 * @param key             Identifies the message
+	 * @param timeBetweenLogs
+	 * @return Number of messages blocked to report; BLOCKED if this message is blocked
+	 */
+	private static int checkBlocked(Map<Object, BlockedCount> blocked, Object key, long timeBetweenLogs) {
+		if (timeBetweenLogs <= 0) {
+			return 0;
+		}
+
+		long now = System.currentTimeMillis();
+		BlockedCount currentBlock = blocked.get(key);
+		if (currentBlock == null) {
+			// First time so start blocking subsequent messages
+			currentBlock = blocked.putIfAbsent(key, new BlockedCount(now + timeBetweenLogs));
+			if (currentBlock == null) {
+				return 0;
 			}
+		}
 
-			// Must start blocking subsequence messages
-			blockedMsgs.put(uniqueIdentifier, new BlockedCount(now + timeBetweenLogs));
+		return currentBlock.update(now, timeBetweenLogs);
+	}
+
+	/**
+	 * Formats the message and passes it to the underlying logger.
+	 * 
+	 * @param actor
+	 * @param level
+	 * @param repeats Number of similar messages that were blocked
+	 * @param message
+	 * @param t
+	 */
+	private void writeLog(Entity actor, Level level, int repeats, String message, Throwable t) {
+		var outputMessage = new StringBuilder(sourceName);
+		if (repeats > 0) {
+			outputMessage.append(REPEAT_BRACKET).append(repeats).append(CLOSED_BRACKET);
 		}
 
 		outputMessage.append(COLON);
@@ -178,26 +428,53 @@ public class SimLogger {
 	}
 
 	/**
-	 * Returns the line.
+	 * Identifies the code calling the logger. Only the frames down to the caller are walked
+	 * and the bytecode offset is used rather than resolving the source line.
+	 * Hot code should use a {@link LogSite} to avoid the walk.
 	 *
 	 * @return
 	 */
-	private static String getUniqueIdentifer(Entity actor) {
-		StackTraceElement[] stackTrace = Thread.currentThread().getStackTrace();
-		String loggerClass = SimLogger.class.getName();
-		String nickName = (actor != null ? actor.getName() : "unknown");
-
-		// Skip the first frame as it is the "getStackTrace" call
-		for (int idx = 1; idx < stackTrace.length; idx++) {
-			StackTraceElement ste = stackTrace[idx];
-			if (!ste.getClassName().equals(loggerClass)) {
-				// We have now file/line before entering SimLogger.
-				StringBuilder key = new StringBuilder();
-				key.append(ste.getFileName()).append(ste.getLineNumber()).append(nickName);
-				return key.toString();
-			}
+	private static CallSite getCallSite(Entity actor) {
+		Object actorKey = getActorKey(actor);
+		var f = WALKER.walk(FIND_CALLER);
+		if (f == null) {
+			return new CallSite(SimLogger.class, QUESTION, -1, actorKey);
+		}
+		return new CallSite(f.getDeclaringClass(), f.getMethodName(), f.getByteCodeIndex(), actorKey);
+	}
+
+	/**
+	 * Gets the key of an actor for the blocked messages. Units are keyed on their identifier
+	 * so a block does not hold onto the Unit.
+	 *
+	 * @param actor
+	 * @return
+	 */
+	private static Object getActorKey(Entity actor) {
+		if (actor == null) {
+			return NO_ACTOR;
+		}
+		else if (actor instanceof UnitIdentifer u) {
+			return u.getIdentifier();
 		}
-		return QUESTION;
+		return actor.getName();
+	}
+
+	/**
+	 * Gets the id of an actor for the blocks of a LogSite. Units use their identifier;
+	 * other entities use the hash of their name which is kept apart from the identifiers.
+	 *
+	 * @param actor
+	 * @return
+	 */
+	private static long getActorId(Entity actor) {
+		if (actor == null) {
+			return NO_ACTOR_ID;
+		}
+		else if (actor instanceof UnitIdentifer u) {
+			return u.getIdentifier();
+		}
+		return NAMED_ACTOR | (actor.getName().hashCode() & 0xFFFFFFFFL);
 	}
 
 	/**
@@ -250,6 +527,17 @@ public class SimLogger {
 	public void fine(Entity actor, long timeBetweenLogs, String string) {
 		baseLog(actor, Level.FINE, timeBetweenLogs, string, null);
 	}
+
+	/**
+	 * Helper method just to log a fine message. The message is only built if it is logged.
+	 * 
+	 * @param actor
+	 * @param timeBetweenLogs Milliseconds to wait between similar log messages.
+	 * @param message
+	 */
+	public void fine(Entity actor, long timeBetweenLogs, Supplier<String> message) {
+		baseLog(actor, Level.FINE, timeBetweenLogs, message);
+	}
 	
 	/**
 	 * Logs directly without formatting.
@@ -271,6 +559,17 @@ public class SimLogger {
 		baseLog(actor, Level.INFO, timeBetweenLogs, string, null);
 	}
 
+	/**
+	 * Helper method just to log an info message. The message is only built if it is logged.
+	 * 
+	 * @param actor
+	 * @param timeBetweenLogs Milliseconds to wait between similar log messages.
+	 * @param message
+	 */
+	public void info(Entity actor, long timeBetweenLogs, Supplier<String> message) {
+		baseLog(actor, Level.INFO, timeBetweenLogs, message);
+	}
+
 	/**
 	 * Helper method just to log a info message. Message timeout is predefined.
 	 * 
@@ -311,6 +610,17 @@ public class SimLogger {
 		baseLog(actor, Level.WARNING, timeBetweenLogs, string, null);
 	}
 
+	/**
+	 * Helper method just to log a warning message. The message is only built if it is logged.
+	 * 
+	 * @param actor
+	 * @param timeBetweenLogs Milliseconds to wait between similar log messages.
+	 * @param message
+	 */
+	public void warning(Entity actor, long timeBetweenLogs, Supplier<String> message) {
+		baseLog(actor, Level.WARNING, timeBetweenLogs, message);
+	}
+
 	/**
 	 * Helper method just to log a warning message. Message timeout is predefined.
 	 * 
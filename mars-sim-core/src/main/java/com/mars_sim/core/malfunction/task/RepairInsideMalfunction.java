@@ -13,6 +13,7 @@ import com.mars_sim.core.building.Building;
 import com.mars_sim.core.building.function.FunctionType;
 import com.mars_sim.core.equipment.EquipmentOwner;
 import com.mars_sim.core.logging.SimLogger;
+import com.mars_sim.core.logging.SimLogger.LogSite;
 import com.mars_sim.core.malfunction.Malfunction;
 import com.mars_sim.core.malfunction.MalfunctionRepairWork;
 import com.mars_sim.core.malfunction.Malfunctionable;
@@ -36,6 +37,7 @@ public class RepairInsideMalfunction extends Task implements Repair {
 
 	/** default logger. */
 	private static SimLogger logger = SimLogger.getLogger(RepairInsideMalfunction.class.getName());
+	private static final LogSite COMPLETED_LOG = logger.createSite(Level.WARNING, 30_000);
 	
 	/** Simple Task name */
 	static final String SIMPLE_NAME = RepairInsideMalfunction.class.getSimpleName();
@@ -89,7 +91,7 @@ public class RepairInsideMalfunction extends Task implements Repair {
 		}
 
 		if (mal.isWorkDone(MalfunctionRepairWork.INSIDE)) {
-			logger.warning(worker, 30_000, "Inside repair work already completed.");
+			COMPLETED_LOG.log(worker, "Inside repair work already completed.");
 			endTask();
 			return;
 		}
@@ -12,6 +12,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.jdom2.Document;
@@ -53,14 +54,15 @@ public class ManufactureConfig {
 	public static final String LIFTING = "Lifting";
 	
 
-	// Process broken down by tech level; this are accumulative
-	private List<List<ManufactureProcessInfo>> manuByTechLevel;
-	private List<List<SalvageProcessInfo>> salvageByTechLevel;
+	// Process indexed by tech level, output and tooling
+	private ProcessCatalogue<ManufactureProcessInfo> manuCatalogue;
+	private ProcessCatalogue<SalvageProcessInfo> salvageCatalogue;
 	
 	private List<ManufactureProcessInfo> manuProcessInfoList;
 	private List<SalvageProcessInfo> salvageInfoList;
 
 	private Map<String, Tooling> tools = new HashMap<>();
+	private Map<Tooling, Long> toolBits = new HashMap<>();
 	
 	/**
 	 * Constructor.
@@ -93,6 +95,12 @@ public class ManufactureConfig {
 			String description = elem.getAttributeValue(DESCRIPTION);
 			Tooling tool = new Tooling(name, description);
 			tools.put(name.toLowerCase(), tool);
+
+			// Each tool has a bit in the masks used by the catalogues
+			if (toolBits.size() >= Long.SIZE) {
+				throw new IllegalStateException("Too many toolings defined: " + name);
+			}
+			toolBits.put(tool, 1L << toolBits.size());
 		}
 	}
 
@@ -118,11 +126,31 @@ public class ManufactureConfig {
 	 * @throws Exception if error getting processes.
 	 */
 	public List<ManufactureProcessInfo> getManufactureProcessesForTechLevel(int techLevel) {
-		if (techLevel < 0) {
-			return Collections.emptyList();
-		}
-		techLevel = Math.min(techLevel, manuByTechLevel.size()-1);
-		return manuByTechLevel.get(techLevel);
+		return manuCatalogue.getForTechLevel(techLevel);
+	}
+
+	/**
+	 * Gets manufacturing processes within the capability of a tech level, a skill level
+	 * and a set of tools.
+	 *
+	 * @param techLevel the tech level.
+	 * @param skillLevel the skill level.
+	 * @param tools the tools available.
+	 * @return list of processes.
+	 */
+	public List<ManufactureProcessInfo> getManufactureProcessesForTechSkillLevel(int techLevel, int skillLevel,
+											Set<Tooling> tools) {
+		return manuCatalogue.getForTechSkillLevel(techLevel, skillLevel, tools);
+	}
+
+	/**
+	 * Gets manufacturing processes that produce an output.
+	 *
+	 * @param name the name of the output; case is ignored.
+	 * @return list of processes.
+	 */
+	public List<ManufactureProcessInfo> getManufactureProcessesWithOutput(String name) {
+		return manuCatalogue.getWithOutput(name);
 	}
 	
 	/**
@@ -212,7 +240,7 @@ public class ManufactureConfig {
 		
 		// Assign the newList now built amd create the map by tech level
 		manuProcessInfoList = Collections.unmodifiableList(newList);
-		manuByTechLevel = createListByTech(manuProcessInfoList);
+		manuCatalogue = new ProcessCatalogue<>(manuProcessInfoList, toolBits);
 	}
 	
 	/**
@@ -252,12 +280,21 @@ public class ManufactureConfig {
 	 * @throws Exception if error getting processes.
 	 */
 	public List<SalvageProcessInfo> getSalvageProcessesForTechLevel(int techLevel) {
-		if (techLevel < 0) {
-			return Collections.emptyList();
-		}
-		techLevel = Math.min(techLevel, salvageByTechLevel.size()-1);
+		return salvageCatalogue.getForTechLevel(techLevel);
+	}
 
-		return salvageByTechLevel.get(techLevel);
+	/**
+	 * Gets salvage processes within the capability of a tech level, a skill level
+	 * and a set of tools.
+	 *
+	 * @param techLevel the tech level.
+	 * @param skillLevel the skill level.
+	 * @param tools the tools available.
+	 * @return list of processes.
+	 */
+	public List<SalvageProcessInfo> getSalvageProcessesForTechSkillLevel(int techLevel, int skillLevel,
+											Set<Tooling> tools) {
+		return salvageCatalogue.getForTechSkillLevel(techLevel, skillLevel, tools);
 	}
 
 	/**
@@ -310,6 +347,6 @@ public class ManufactureConfig {
 
 		// Assign the newList now built
 		salvageInfoList = Collections.unmodifiableList(newList);
-		salvageByTechLevel = createListByTech(salvageInfoList);
+		salvageCatalogue = new ProcessCatalogue<>(salvageInfoList, toolBits);
 	}
 }
@@ -69,9 +69,7 @@ public final class ManufactureUtil {
 	 * @return {@link List}<{@link ManufactureProcessItem}> list of processes
 	 */
 	public static List<ManufactureProcessInfo> getManufactureProcessesWithGivenOutput(String name) {
-		return getAllManufactureProcesses().stream()
-				.filter(p -> p.isOutput(name))
-				.toList();
+		return manufactureConfig.getManufactureProcessesWithOutput(name);
 	}
 
 	/**
@@ -85,10 +83,7 @@ public final class ManufactureUtil {
 	 */
 	public static List<ManufactureProcessInfo> getManufactureProcessesForTechSkillLevel(int techLevel, int skillLevel,
 			Set<Tooling> tools) {
-		return getManufactureProcessesForTechLevel(techLevel).stream()
-				.filter(s -> (s.getSkillLevelRequired() <= skillLevel))
-				.filter(s -> (s.isSupported(tools)))
-    	        .toList();
+		return manufactureConfig.getManufactureProcessesForTechSkillLevel(techLevel, skillLevel, tools);
 	}
 
 	/**
@@ -102,10 +97,7 @@ public final class ManufactureUtil {
 	 */
 	public static List<SalvageProcessInfo> getSalvageProcessesForTechSkillLevel(int techLevel, int skillLevel,
 											Set<Tooling> tools) {
-		return getSalvageProcessesForTechLevel(techLevel).stream()
-				.filter(s -> (s.getSkillLevelRequired() <= skillLevel))
-				.filter(s -> (s.isSupported(tools)))
-    	        .toList();
+		return manufactureConfig.getSalvageProcessesForTechSkillLevel(techLevel, skillLevel, tools);
 	}
 
 	/**
@@ -270,7 +270,7 @@ public class ManufacturingManager implements Serializable {
 
             // Get a new value to this Settlement and reapply the user bonus
             var newValue = getProcessValue(p);
-            var bonus = q.getValue().getModifiers().getOrDefault(USER_BONUS, 1D);
+            var bonus = q.getValue().getModifier(USER_BONUS, 1D);
             newValue.addModifier(USER_BONUS, bonus);
             q.setValue(newValue);
         }  
@@ -505,7 +505,8 @@ public class ManufacturingManager implements Serializable {
         
         // Add filter by output if required
         if (outputName != null) {
-            stream = stream.filter(p -> p.isOutput(outputName));
+            var producers = ManufactureUtil.getManufactureProcessesWithGivenOutput(outputName);
+            stream = stream.filter(producers::contains);
         }
         return stream.sorted().toList();
     }
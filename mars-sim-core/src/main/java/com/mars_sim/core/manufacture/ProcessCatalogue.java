@@ -0,0 +1,130 @@
+/*
+ * Mars Simulation Project
+ * ProcessCatalogue.java
+ * @date 2025-08-19
+ */
+package com.mars_sim.core.manufacture;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * An index of workshop processes built once the processes are loaded. Processes are
+ * indexed by tech level and by the name of their outputs. Tooling is held as a bitmask
+ * so selecting processes for a set of tools is a mask test; the selections are kept
+ * as they are asked for repeatedly with the same tech, skill and tools.
+ *
+ * @param <T> The type of the process info.
+ */
+final class ProcessCatalogue<T extends WorkshopProcessInfo> {
+
+	/**
+	 * Identifies a selection of processes.
+	 */
+	private record Selection(int techLevel, int skillLevel, long tools) {}
+
+	private final List<List<T>> byTechLevel;
+	private final long[][] toolsByTechLevel;
+	private final Map<String, List<T>> byOutput;
+	private final Map<Tooling, Long> toolBits;
+	private final Map<Selection, List<T>> selections = new ConcurrentHashMap<>();
+
+	/**
+	 * Creates a catalogue.
+	 *
+	 * @param processes All the processes
+	 * @param toolBits The bit of each known Tooling
+	 */
+	ProcessCatalogue(List<T> processes, Map<Tooling, Long> toolBits) {
+		this.toolBits = toolBits;
+
+		byTechLevel = ManufactureConfig.createListByTech(processes).stream()
+								.map(Collections::unmodifiableList)
+								.toList();
+		toolsByTechLevel = new long[byTechLevel.size()][];
+		for (int level = 0; level < byTechLevel.size(); level++) {
+			var levelList = byTechLevel.get(level);
+			long[] masks = new long[levelList.size()];
+			for (int i = 0; i < masks.length; i++) {
+				var tool = levelList.get(i).getTooling();
+				masks[i] = (tool != null ? toolBits.getOrDefault(tool, 0L) : 0L);
+			}
+			toolsByTechLevel[level] = masks;
+		}
+
+		Map<String, List<T>> outputs = new HashMap<>();
+		for (T p : processes) {
+			for (var o : p.getOutputList()) {
+				var found = outputs.computeIfAbsent(o.getName().toLowerCase(), k -> new ArrayList<>());
+				if (!found.contains(p)) {
+					found.add(p);
+				}
+			}
+		}
+		byOutput = new HashMap<>();
+		outputs.forEach((k, v) -> byOutput.put(k, List.copyOf(v)));
+	}
+
+	/**
+	 * Gets the processes at or below a tech level.
+	 *
+	 * @param techLevel
+	 * @return
+	 */
+	List<T> getForTechLevel(int techLevel) {
+		if ((techLevel < 0) || byTechLevel.isEmpty()) {
+			return Collections.emptyList();
+		}
+		return byTechLevel.get(Math.min(techLevel, byTechLevel.size() - 1));
+	}
+
+	/**
+	 * Gets the processes that produce a named output.
+	 *
+	 * @param name Name of the output; case is ignored
+	 * @return
+	 */
+	List<T> getWithOutput(String name) {
+		return byOutput.getOrDefault(name.toLowerCase(), Collections.emptyList());
+	}
+
+	/**
+	 * Gets the processes within the capability of a tech level, a skill level and a set of tools.
+	 *
+	 * @param techLevel
+	 * @param skillLevel
+	 * @param tools
+	 * @return
+	 */
+	List<T> getForTechSkillLevel(int techLevel, int skillLevel, Set<Tooling> tools) {
+		if ((techLevel < 0) || byTechLevel.isEmpty()) {
+			return Collections.emptyList();
+		}
+		techLevel = Math.min(techLevel, byTechLevel.size() - 1);
+		long toolMask = 0L;
+		for (Tooling t : tools) {
+			toolMask |= toolBits.getOrDefault(t, 0L);
+		}
+
+		return selections.computeIfAbsent(new Selection(techLevel, skillLevel, toolMask),
+										this::select);
+	}
+
+	private List<T> select(Selection s) {
+		var levelList = byTechLevel.get(s.techLevel());
+		long[] masks = toolsByTechLevel[s.techLevel()];
+		List<T> result = new ArrayList<>();
+		for (int i = 0; i < masks.length; i++) {
+			T p = levelList.get(i);
+			if ((p.getSkillLevelRequired() <= s.skillLevel()) && ((masks[i] & ~s.tools()) == 0L)) {
+				result.add(p);
+			}
+		}
+		return Collections.unmodifiableList(result);
+	}
+}
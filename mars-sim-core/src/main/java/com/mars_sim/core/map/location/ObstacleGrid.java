@@ -0,0 +1,396 @@
+/*
+ * Mars Simulation Project
+ * ObstacleGrid.java
+ * @date 2025-08-15
+ */
+package com.mars_sim.core.map.location;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * An occupancy grid of the obstacles in a local area, such as the buildings, vehicles and
+ * construction sites of a settlement. Cells are marked occupied if any part of the cell may
+ * touch an obstacle so a line through free cells is always clear.
+ * Each obstacle remembers the cells it covers so only obstacles that have moved are redrawn
+ * when the grid is refreshed.
+ * Paths around obstacles are found using the A* algorithm over the cells.
+ * All methods are synchronized so a grid can be shared between threads.
+ */
+public class ObstacleGrid {
+
+	/**
+	 * The cells covered by an obstacle and the placement they were drawn for.
+	 */
+	private record Footprint(LocalPosition pos, double width, double length, double facing, int[] cells) {
+
+		boolean matches(LocalBoundedObject o) {
+			return pos.equals(o.getPosition()) && (width == o.getWidth()) && (length == o.getLength())
+						&& (facing == o.getFacing());
+		}
+	}
+
+	/**
+	 * A cell waiting to be expanded in the path search.
+	 */
+	private record OpenCell(int index, double fScore) implements Comparable<OpenCell> {
+		@Override
+		public int compareTo(OpenCell o) {
+			return Double.compare(fScore, o.fScore);
+		}
+	}
+
+	/** Size of a grid cell (meters). */
+	public static final double CELL_SIZE = 0.5D;
+
+	/** Obstacles are enlarged by half the cell diagonal so a free cell cannot touch one. */
+	private static final double INFLATE = CELL_SIZE * Math.sqrt(0.5D) + 0.01D;
+
+	/** Number of free cells kept around the obstacles for paths to go round them. */
+	private static final int MARGIN = 20;
+
+	/** Limit on the cells expanded by a path search to bound the time taken. */
+	private static final int MAX_EXPANSIONS = 100_000;
+
+	private static final double DIAGONAL = Math.sqrt(2D);
+
+	private Map<LocalBoundedObject, Footprint> footprints = new IdentityHashMap<>();
+	private short[] counts = new short[0];
+	private int minCol = 0;
+	private int minRow = 0;
+	private int cols = 0;
+	private int rows = 0;
+
+	/**
+	 * Updates the grid to match the current obstacles. Only obstacles that are new, moved
+	 * or removed change the grid; it is only rebuilt if an obstacle falls outside it.
+	 *
+	 * @param obstacles The current obstacles
+	 */
+	public synchronized void refresh(Collection<? extends LocalBoundedObject> obstacles) {
+		// Remove those that have gone or moved
+		var current = Collections.newSetFromMap(new IdentityHashMap<LocalBoundedObject, Boolean>());
+		current.addAll(obstacles);
+		var it = footprints.entrySet().iterator();
+		while (it.hasNext()) {
+			var e = it.next();
+			if (!current.contains(e.getKey()) || !e.getValue().matches(e.getKey())) {
+				paint(e.getValue().cells(), -1);
+				it.remove();
+			}
+		}
+
+		// Grow the grid if anything new is outside
+		List<LocalBoundedObject> added = new ArrayList<>();
+		boolean outside = false;
+		for (var o : current) {
+			if (!footprints.containsKey(o)) {
+				added.add(o);
+				outside |= !withinGrid(o);
+			}
+		}
+		if (outside) {
+			added.addAll(footprints.keySet());
+			footprints.clear();
+			resize(current);
+		}
+
+		for (var o : added) {
+			var cells = rasterise(o);
+			paint(cells, 1);
+			footprints.put(o, new Footprint(o.getPosition(), o.getWidth(), o.getLength(), o.getFacing(), cells));
+		}
+	}
+
+	/**
+	 * Does an obstacle lie inside the grid with its margin.
+	 */
+	private boolean withinGrid(LocalBoundedObject o) {
+		double[] b = getBounds(o);
+		return (toCol(b[0]) - MARGIN >= minCol) && (toCol(b[1]) + MARGIN < minCol + cols)
+				&& (toRow(b[2]) - MARGIN >= minRow) && (toRow(b[3]) + MARGIN < minRow + rows);
+	}
+
+	/**
+	 * Sizes the grid to hold all the obstacles with a margin.
+	 */
+	private void resize(Collection<? extends LocalBoundedObject> obstacles) {
+		int loCol = Integer.MAX_VALUE;
+		int hiCol = Integer.MIN_VALUE;
+		int loRow = Integer.MAX_VALUE;
+		int hiRow = Integer.MIN_VALUE;
+		for (var o : obstacles) {
+			double[] b = getBounds(o);
+			loCol = Math.min(loCol, toCol(b[0]));
+			hiCol = Math.max(hiCol, toCol(b[1]));
+			loRow = Math.min(loRow, toRow(b[2]));
+			hiRow = Math.max(hiRow, toRow(b[3]));
+		}
+
+		// Allow for growth so adding a building rarely causes a resize
+		minCol = loCol - 2 * MARGIN;
+		minRow = loRow - 2 * MARGIN;
+		cols = hiCol - loCol + 4 * MARGIN + 1;
+		rows = hiRow - loRow + 4 * MARGIN + 1;
+		counts = new short[cols * rows];
+	}
+
+	/**
+	 * Gets the enlarged bounds of an obstacle as min X, max X, min Y, max Y.
+	 */
+	private static double[] getBounds(LocalBoundedObject o) {
+		double rad = Math.toRadians(o.getFacing());
+		double cos = Math.abs(Math.cos(rad));
+		double sin = Math.abs(Math.sin(rad));
+		double halfW = o.getWidth() / 2D;
+		double halfL = o.getLength() / 2D;
+		double ex = halfW * cos + halfL * sin + INFLATE;
+		double ey = halfW * sin + halfL * cos + INFLATE;
+		return new double[] {o.getXLocation() - ex, o.getXLocation() + ex,
+							o.getYLocation() - ey, o.getYLocation() + ey};
+	}
+
+	/**
+	 * Finds the grid cells that an obstacle may touch.
+	 */
+	private int[] rasterise(LocalBoundedObject o) {
+		double rad = Math.toRadians(o.getFacing());
+		double cos = Math.cos(rad);
+		double sin = Math.sin(rad);
+		double halfW = o.getWidth() / 2D + INFLATE;
+		double halfL = o.getLength() / 2D + INFLATE;
+		double cx = o.getXLocation();
+		double cy = o.getYLocation();
+
+		double[] b = getBounds(o);
+		int[] cells = new int[16];
+		int n = 0;
+		for (int r = toRow(b[2]); r <= toRow(b[3]); r++) {
+			for (int c = toCol(b[0]); c <= toCol(b[1]); c++) {
+				// Rotate the cell centre into the frame of the obstacle
+				double dx = (c + 0.5D) * CELL_SIZE - cx;
+				double dy = (r + 0.5D) * CELL_SIZE - cy;
+				double lx = dx * cos + dy * sin;
+				double ly = -dx * sin + dy * cos;
+				if ((Math.abs(lx) <= halfW) && (Math.abs(ly) <= halfL)) {
+					if (n == cells.length) {
+						cells = Arrays.copyOf(cells, n * 2);
+					}
+					cells[n++] = toIndex(c, r);
+				}
+			}
+		}
+		return Arrays.copyOf(cells, n);
+	}
+
+	private void paint(int[] cells, int delta) {
+		for (int i : cells) {
+			counts[i] += delta;
+		}
+	}
+
+	private static int toCol(double x) {
+		return (int) Math.floor(x / CELL_SIZE);
+	}
+
+	private static int toRow(double y) {
+		return (int) Math.floor(y / CELL_SIZE);
+	}
+
+	private int toIndex(int col, int row) {
+		return (row - minRow) * cols + (col - minCol);
+	}
+
+	/**
+	 * Is a cell clear of obstacles; anything outside the grid is clear.
+	 */
+	private boolean isFree(int col, int row) {
+		int c = col - minCol;
+		int r = row - minRow;
+		if ((c < 0) || (c >= cols) || (r < 0) || (r >= rows)) {
+			return true;
+		}
+		return counts[r * cols + c] == 0;
+	}
+
+	/**
+	 * Is the cell holding a position clear of obstacles?
+	 *
+	 * @param pos
+	 * @return
+	 */
+	public synchronized boolean isPositionFree(LocalPosition pos) {
+		return isFree(toCol(pos.getX()), toRow(pos.getY()));
+	}
+
+	/**
+	 * Is a straight line between two positions clear of obstacles?
+	 *
+	 * @param start
+	 * @param end
+	 * @return
+	 */
+	public synchronized boolean isLineFree(LocalPosition start, LocalPosition end) {
+		return isLineFree(start.getX(), start.getY(), end.getX(), end.getY());
+	}
+
+	/**
+	 * Checks every cell the line passes through.
+	 */
+	private boolean isLineFree(double x1, double y1, double x2, double y2) {
+		int col = toCol(x1);
+		int row = toRow(y1);
+		int endCol = toCol(x2);
+		int endRow = toRow(y2);
+		double dx = x2 - x1;
+		double dy = y2 - y1;
+		int stepCol = (dx > 0 ? 1 : -1);
+		int stepRow = (dy > 0 ? 1 : -1);
+
+		// Distance along the line to cross a cell and to the first cell boundary
+		double deltaX = (dx == 0 ? Double.POSITIVE_INFINITY : Math.abs(CELL_SIZE / dx));
+		double deltaY = (dy == 0 ? Double.POSITIVE_INFINITY : Math.abs(CELL_SIZE / dy));
+		double nextX = (dx == 0 ? Double.POSITIVE_INFINITY
+						: ((dx > 0 ? (col + 1) * CELL_SIZE - x1 : x1 - col * CELL_SIZE) / Math.abs(dx)));
+		double nextY = (dy == 0 ? Double.POSITIVE_INFINITY
+						: ((dy > 0 ? (row + 1) * CELL_SIZE - y1 : y1 - row * CELL_SIZE) / Math.abs(dy)));
+
+		int steps = Math.abs(endCol - col) + Math.abs(endRow - row);
+		for (int i = 0; i <= steps; i++) {
+			if (!isFree(col, row)) {
+				return false;
+			}
+			if (nextX < nextY) {
+				nextX += deltaX;
+				col += stepCol;
+			}
+			else {
+				nextY += deltaY;
+				row += stepRow;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Finds a path between two positions that avoids the obstacles. The cells holding
+	 * the start and end may be occupied so a path can leave and reach an obstacle edge.
+	 *
+	 * @param start
+	 * @param end
+	 * @return Positions of the path from the start to the end; null if no path is found
+	 */
+	public synchronized List<LocalPosition> findPath(LocalPosition start, LocalPosition end) {
+		int startCol = toCol(start.getX());
+		int startRow = toRow(start.getY());
+		int endCol = toCol(end.getX());
+		int endRow = toRow(end.getY());
+
+		// Search the grid plus the ends with a margin around them
+		int wMinCol = Math.min(Math.min(startCol, endCol), minCol) - MARGIN;
+		int wMinRow = Math.min(Math.min(startRow, endRow), minRow) - MARGIN;
+		int wCols = Math.max(Math.max(startCol, endCol), minCol + cols) + MARGIN - wMinCol + 1;
+		int wRows = Math.max(Math.max(startRow, endRow), minRow + rows) + MARGIN - wMinRow + 1;
+
+		int size = wCols * wRows;
+		double[] gScore = new double[size];
+		Arrays.fill(gScore, Double.POSITIVE_INFINITY);
+		int[] cameFrom = new int[size];
+		boolean[] closed = new boolean[size];
+
+		int startIdx = (startRow - wMinRow) * wCols + (startCol - wMinCol);
+		int endIdx = (endRow - wMinRow) * wCols + (endCol - wMinCol);
+		gScore[startIdx] = 0;
+		cameFrom[startIdx] = -1;
+
+		PriorityQueue<OpenCell> open = new PriorityQueue<>();
+		open.add(new OpenCell(startIdx, heuristic(startCol, startRow, endCol, endRow)));
+		int expanded = 0;
+		while (!open.isEmpty() && (expanded < MAX_EXPANSIONS)) {
+			int current = open.poll().index();
+			if (closed[current]) {
+				continue;
+			}
+			if (current == endIdx) {
+				return buildPath(start, end, cameFrom, endIdx, wCols, wMinCol, wMinRow);
+			}
+			closed[current] = true;
+			expanded++;
+
+			int col = current % wCols + wMinCol;
+			int row = current / wCols + wMinRow;
+			for (int dr = -1; dr <= 1; dr++) {
+				for (int dc = -1; dc <= 1; dc++) {
+					int nCol = col + dc;
+					int nRow = row + dr;
+					if (((dc == 0) && (dr == 0)) || (nCol < wMinCol) || (nCol >= wMinCol + wCols)
+							|| (nRow < wMinRow) || (nRow >= wMinRow + wRows)) {
+						continue;
+					}
+					int next = (nRow - wMinRow) * wCols + (nCol - wMinCol);
+					if (closed[next] || ((next != endIdx) && !isFree(nCol, nRow))) {
+						continue;
+					}
+					// No cutting the corner of an obstacle on a diagonal
+					if ((dc != 0) && (dr != 0) && (!isFree(col + dc, row) || !isFree(col, row + dr))) {
+						continue;
+					}
+
+					double tentative = gScore[current] + ((dc != 0) && (dr != 0) ? DIAGONAL : 1D);
+					if (tentative < gScore[next]) {
+						gScore[next] = tentative;
+						cameFrom[next] = current;
+						open.add(new OpenCell(next, tentative + heuristic(nCol, nRow, endCol, endRow)));
+					}
+				}
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Octile distance between two cells.
+	 */
+	private static double heuristic(int col, int row, int endCol, int endRow) {
+		int dc = Math.abs(endCol - col);
+		int dr = Math.abs(endRow - row);
+		return Math.max(dc, dr) + (DIAGONAL - 1D) * Math.min(dc, dr);
+	}
+
+	/**
+	 * Converts the found cells into positions and removes those that can be skipped
+	 * with a clear straight line.
+	 */
+	private List<LocalPosition> buildPath(LocalPosition start, LocalPosition end, int[] cameFrom,
+							int endIdx, int wCols, int wMinCol, int wMinRow) {
+		List<LocalPosition> points = new ArrayList<>();
+		points.add(end);
+		for (int i = cameFrom[endIdx]; (i >= 0) && (cameFrom[i] >= 0); i = cameFrom[i]) {
+			int col = i % wCols + wMinCol;
+			int row = i / wCols + wMinRow;
+			points.add(new LocalPosition((col + 0.5D) * CELL_SIZE, (row + 0.5D) * CELL_SIZE));
+		}
+		points.add(start);
+		Collections.reverse(points);
+
+		List<LocalPosition> result = new ArrayList<>();
+		result.add(start);
+		int i = 0;
+		int last = points.size() - 1;
+		while (i < last) {
+			int j = last;
+			while ((j > i + 1) && !isLineFree(points.get(i), points.get(j))) {
+				j--;
+			}
+			result.add(points.get(j));
+			i = j;
+		}
+		return result;
+	}
+}
@@ -6,98 +6,213 @@
  */
 package com.mars_sim.core.map.location;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
 import java.util.ArrayList;
-import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * This class manages a collection of SurfaceFeatures on the surface of Mars.
  * These are held in a tiled internal structure based on the Coordinates
  * giving it optimised lookup on Coordinate.
+ * The surface is split into latitude bands of equal height and each band into longitude
+ * cells so that all the cells cover a similar area. An exact location is found via a hash
+ * lookup; a range search only checks the cells that overlap the bounding box of the range.
  */
 public class SurfaceManager<T extends SurfacePOI> implements Serializable {
 	private static final long serialVersionUID = 1L;
-    private static final int LATITUDE_SLICES = 6;
-    private static final double LATITUDE_RANGE = Math.PI/LATITUDE_SLICES;
+    private static final int LATITUDE_BANDS = 90;
+    private static final double BAND_HEIGHT = Math.PI/LATITUDE_BANDS;
+    private static final double TWO_PI = Math.PI * 2;
 
-    @SuppressWarnings("unchecked")
-    private List<T>[] slices = new List[LATITUDE_SLICES];
+    // Cells shrink towards the poles to keep a similar area
+    private static final int[] CELLS_PER_BAND = new int[LATITUDE_BANDS];
+    static {
+        for (int b = 0; b < LATITUDE_BANDS; b++) {
+            CELLS_PER_BAND[b] = Math.max(1,
+                    (int) Math.ceil(2 * LATITUDE_BANDS * Math.sin((b + 0.5) * BAND_HEIGHT)));
+        }
+    }
+
+    // All the features in the order added; the index is rebuilt from this when loaded
+    private List<T> features = new ArrayList<>();
+
+    private transient List<T>[][] cells;
+    private transient Map<Coordinates, T> points;
+
+    // Only populated when loading a simulation saved with the latitude slices
+    @Deprecated
+    private List<T>[] slices;
 
     public SurfaceManager() {
-        Arrays.setAll(slices, element -> new ArrayList<>());
+        buildIndex();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void buildIndex() {
+        cells = new List[LATITUDE_BANDS][];
+        for (int b = 0; b < LATITUDE_BANDS; b++) {
+            cells[b] = new List[CELLS_PER_BAND[b]];
+        }
+        points = new HashMap<>();
+        for (T f : features) {
+            index(f);
+        }
     }
 
     public void addFeature(T newFeature) {
-        // select the best collection 
-        int subId = getSlice(newFeature.getCoordinates().getPhi());
-        slices[subId].add(newFeature);
+        features.add(newFeature);
+        index(newFeature);
+    }
+
+    private void index(T feature) {
+        var c = feature.getCoordinates();
+        int band = getBand(c.getPhi());
+        int cell = getCell(band, c.getTheta());
+        var found = cells[band][cell];
+        if (found == null) {
+            found = new ArrayList<>();
+            cells[band][cell] = found;
+        }
+        found.add(feature);
+
+        // First feature added at a location is the one returned
+        points.putIfAbsent(c, feature);
     }
 
     /**
-     * Selects the best slicer based on the coordinate. This is based on the Latitude (phi).
-     * 
+     * Selects the latitude band based on the coordinate. This is based on the Latitude (phi).
+     *
      * @param phi Latitude phi value
      * @return
      */
-    private int getSlice(double phi) {
-        int idx = (int)(phi/LATITUDE_RANGE);
+    private static int getBand(double phi) {
+        int idx = (int)(phi/BAND_HEIGHT);
         if (idx < 0) {
             return 0;
         }
-        else if (idx >= slices.length) {
-            return slices.length-1;
+        else if (idx >= LATITUDE_BANDS) {
+            return LATITUDE_BANDS-1;
         }
         return idx;
     }
 
+    /**
+     * Selects the cell within a band based on the Longitude (theta).
+     *
+     * @param band Latitude band
+     * @param theta Longitude theta value
+     * @return
+     */
+    private static int getCell(int band, double theta) {
+        int n = CELLS_PER_BAND[band];
+        int idx = (int) Math.floor(theta/TWO_PI * n);
+        return Math.floorMod(idx, n);
+    }
+
+    /**
+     * Gets all the features in the order they were added.
+     *
+     * @return
+     */
+    public List<T> getAllFeatures() {
+        return Collections.unmodifiableList(features);
+    }
+
     /**
      * Gets a feature at a specific location.
-     * 
+     *
      * @param newLocation
      * @return
      */
     public T getFeature(Coordinates newLocation) {
-        var top = getSlice(newLocation.getPhi());
-        return slices[top].stream()
-                .filter(c -> c.getCoordinates().equals(newLocation))
-                .findFirst().orElse(null);
+        return points.get(newLocation);
     }
 
     /**
      * Finds all features within a range from a center location.
-     * 
+     *
      * @param center Center point
-     * @param arcAngle 
+     * @param arcAngle
      * @return
      */
     public List<T> getFeatures(Coordinates center, double arcAngle) {
-        // Find the source the sublists based on the 4 points
-        var top = getSlice(center.getPhi() + arcAngle);
-        var bottom = getSlice(center.getPhi() - arcAngle);
+        double phi = center.getPhi();
+        double theta = center.getTheta();
+        int top = getBand(phi + arcAngle);
+        int bottom = getBand(phi - arcAngle);
+
+        // Longitude half width of the range; all longitudes if it covers a pole
+        double halfWidth = Math.PI;
+        double sinArc = Math.sin(arcAngle);
+        double sinPhi = Math.sin(phi);
+        if ((phi - arcAngle > 0) && (phi + arcAngle < Math.PI) && (sinArc < sinPhi)) {
+            halfWidth = Math.asin(sinArc/sinPhi);
+        }
 
         List<T> result = new ArrayList<>();
-        for(int i = bottom; i <= top; i++) {
-            result.addAll(
-                slices[i].stream()
-                    .filter(c -> center.getAngle(c.getCoordinates()) <= arcAngle)
-                    .toList()
-            );
+        for(int b = bottom; b <= top; b++) {
+            int n = CELLS_PER_BAND[b];
+            int start = 0;
+            int end = n - 1;
+            if (halfWidth < Math.PI) {
+                start = (int) Math.floor((theta - halfWidth)/TWO_PI * n);
+                end = (int) Math.floor((theta + halfWidth)/TWO_PI * n);
+                if (end - start >= n) {
+                    start = 0;
+                    end = n - 1;
+                }
+            }
+
+            for(int k = start; k <= end; k++) {
+                var found = cells[b][Math.floorMod(k, n)];
+                if (found != null) {
+                    for(T c : found) {
+                        if (center.getAngle(c.getCoordinates()) <= arcAngle) {
+                            result.add(c);
+                        }
+                    }
+                }
+            }
         }
 
         return result;
     }
 
     /**
-     * Gets the distribution of details per slice. 
-     * 
-     * @return Array of the number of items in each slice
+     * Gets the distribution of details per latitude band.
+     *
+     * @return Array of the number of items in each band
      */
     public int[] getStats() {
-        int[] result = new int[slices.length];
-        for(int i = 0; i < slices.length; i++) {
-            result[i] = slices[i].size();
+        int[] result = new int[LATITUDE_BANDS];
+        for(int b = 0; b < LATITUDE_BANDS; b++) {
+            for(var found : cells[b]) {
+                if (found != null) {
+                    result[b] += found.size();
+                }
+            }
         }
         return result;
     }
+
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+
+        if (features == null) {
+            // Saved before the cells
+            features = new ArrayList<>();
+            if (slices != null) {
+                for(var s : slices) {
+                    features.addAll(s);
+                }
+            }
+            slices = null;
+        }
+        buildIndex();
+    }
 }
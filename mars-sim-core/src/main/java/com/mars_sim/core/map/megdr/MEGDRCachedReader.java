@@ -7,7 +7,7 @@
 package com.mars_sim.core.map.megdr;
 
 import java.util.concurrent.TimeUnit;
-import java.util.logging.Logger;
+import java.util.concurrent.atomic.LongAdder;
 
 import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
@@ -17,11 +17,9 @@ import com.google.common.cache.CacheBuilder;
  */
 public abstract class MEGDRCachedReader extends MEGDRMapReader {
 
-    private static final Logger logger = Logger.getLogger(MEGDRCachedReader.class.getName());
-    	
 	private Cache<Integer, Integer> cache;
-	private int requests = 0;
-	private int hits = 0;
+	private LongAdder hits = new LongAdder();
+	private LongAdder misses = new LongAdder();
 
     protected MEGDRCachedReader(int maximumEntries, int maxIdleMinutes) {
 		
@@ -38,24 +36,37 @@ public abstract class MEGDRCachedReader extends MEGDRMapReader {
 	 */
     protected short getElevation(int index) {
 		short result = 0;
-		requests++;
 		Integer value = cache.getIfPresent(index);
 		if (value != null) {
 			result = value.shortValue();
-			hits++;
+			hits.increment();
 		}
 		else {
 			result = loadElevation(index);
 			cache.put(index, Integer.valueOf(result));
-		}
-
-		if (requests % 10000 == 0) {
-			logger.fine("MEGDR Cache hit rate " + ((100 * hits)/requests)  + "%, requests="
-						+ requests + ", size=" + cache.size());
+			misses.increment();
 		}
 		return result;
 	}
 
+	/**
+	 * Gets the number of elevations found in the cache.
+	 * 
+	 * @return
+	 */
+	public long getHits() {
+		return hits.sum();
+	}
+
+	/**
+	 * Gets the number of elevations that had to be loaded.
+	 * 
+	 * @return
+	 */
+	public long getMisses() {
+		return misses.sum();
+	}
+
 	/**
 	 * Loads a short value from the mapdata.
 	 * 
@@ -25,6 +25,7 @@ public class MEGDRFactory {
 	static final String ARRAY_READER = "array";
 	static final String DIRECT_READER = "direct";
 	static final String MEMORY_READER = "memory";
+	static final String MAPPED_READER = "mapped";
 
     private static final String ELEVATION_FOLDER = "/elevation/";
 	
@@ -70,6 +71,7 @@ public class MEGDRFactory {
 				case ARRAY_READER -> new MEGDRMapArray(imageName);
 				case DIRECT_READER -> new MEGDRMapDirect(imageName);
 				case MEMORY_READER -> new MEGDRMapMemory(imageName);
+				case MAPPED_READER -> new MEGDRMapMapped(imageName);
 				default -> throw new IllegalArgumentException("Unknown MEGDR reader called " + reader);
 			};
 		}
@@ -88,6 +90,7 @@ public class MEGDRFactory {
 		runPerfTest(DIRECT_READER + SEPARATOR + MEGDRMapReader.DEFAULT_MEGDR_FILE);
 		runPerfTest(ARRAY_READER + SEPARATOR + MEGDRMapReader.DEFAULT_MEGDR_FILE);
 		runPerfTest(MEMORY_READER + SEPARATOR + MEGDRMapReader.DEFAULT_MEGDR_FILE);
+		runPerfTest(MAPPED_READER + SEPARATOR + MEGDRMapReader.DEFAULT_MEGDR_FILE);
 	}
 
 	private static void runPerfTest(String spec) {
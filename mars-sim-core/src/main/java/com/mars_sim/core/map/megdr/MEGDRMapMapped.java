@@ -0,0 +1,52 @@
+/*
+ * Mars Simulation Project
+ * MEGDRMapMapped.java
+ * @date 2025-08-11
+ */
+package com.mars_sim.core.map.megdr;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.util.logging.Logger;
+
+/**
+ * Gets elevation data by reading the memory mapped MEGDR file directly. Values are read with
+ * an absolute get so the buffer position is never changed; this means no locking and no cache
+ * is needed and any number of threads can read at once. The OS page cache holds the hot areas.
+ */
+public class MEGDRMapMapped extends MEGDRMapReader
+			implements Closeable {
+
+    private static final Logger logger = Logger.getLogger(MEGDRMapMapped.class.getName());
+
+	private MappedByteBuffer memoryBuffer;
+
+	private MEGDRMappedFile mapData;
+
+    public MEGDRMapMapped(String imgName) throws IOException {
+		mapData = new MEGDRMappedFile(imgName);
+		memoryBuffer = mapData.getBuffer();
+
+		logger.info("Reading elevation lock-free from memory mapped '" + mapData.getName()
+						+ "' (" + mapData.getWidth() + " by " + mapData.getHeight() + ").");
+
+		setSize(mapData.getWidth(), mapData.getHeight());
+	}
+
+	/**
+	 * Gets the elevation directly from the mapped file.
+	 * 
+	 * @param index
+	 * @return
+	 */
+	@Override
+    protected short getElevation(int index) {
+		return memoryBuffer.getShort(index * 2);
+	}
+
+	@Override
+	public void close() throws IOException {
+		mapData.close();
+	}
+}
@@ -7,15 +7,10 @@
 package com.mars_sim.core.map.megdr;
 
 import java.io.Closeable;
-import java.io.File;
 import java.io.IOException;
-import java.io.RandomAccessFile;
 import java.nio.MappedByteBuffer;
-import java.nio.channels.FileChannel;
 import java.util.logging.Logger;
 
-import com.mars_sim.core.map.common.FileLocator;
-
 /**
  * Gets elevation data by using memory mapped access to the select MEGDR file.
  */
@@ -26,12 +21,18 @@ public class MEGDRMapMemory extends MEGDRCachedReader
     	
 	private MappedByteBuffer memoryBuffer;
 
-	private RandomAccessFile mapData;
+	private MEGDRMappedFile mapData;
 
     public MEGDRMapMemory(String imgName) throws IOException {
 		super(1000, 5);
 
-		prepareMemoryFile(FileLocator.locateFile(imgName));
+		mapData = new MEGDRMappedFile(imgName);
+		memoryBuffer = mapData.getBuffer();
+
+		logger.info("Reading elevation memory mapped to '" + mapData.getName()
+						+ "' (" + mapData.getWidth() + " by " + mapData.getHeight() + ").");
+
+		setSize(mapData.getWidth(), mapData.getHeight());
 	}
 
 	
@@ -47,33 +48,6 @@ public class MEGDRMapMemory extends MEGDRCachedReader
 	}
 
 
-	/**
-	 * Opens the map file for memory mapped access.
-	 * 
-	 * @throws IOException
-	 */
-	private void prepareMemoryFile(File mapSource) throws IOException {
-		// Open the map file
-		mapData = new RandomAccessFile(mapSource, "r");
-		long fileSize = mapData.length();
-
-	    // Get file channel in read-only mode
-      	FileChannel fileChannel = mapData.getChannel();
-           
-        // Get direct byte buffer access using channel.map() operation
-        memoryBuffer = fileChannel.map(FileChannel.MapMode.READ_ONLY,
-		  							0, fileChannel.size());
-		
-		short mapHeight = (short) Math.sqrt(fileSize / 4D);
-		short mapWidth = (short) (mapHeight * 2);
-		
-		logger.info("Reading elevation memory mapped to '" + mapSource.getName()
-						+ "' (" + mapWidth + " by " + mapHeight + ").");
-
-		setSize(mapWidth, mapHeight);
-	}
-
-
 	@Override
 	public void close() throws IOException {
 		mapData.close();
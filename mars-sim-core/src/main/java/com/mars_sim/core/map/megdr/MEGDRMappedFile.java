@@ -0,0 +1,82 @@
+/*
+ * Mars Simulation Project
+ * MEGDRMappedFile.java
+ * @date 2025-08-11
+ */
+package com.mars_sim.core.map.megdr;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+import com.mars_sim.core.map.common.FileLocator;
+
+/**
+ * A MEGDR file opened for read only memory mapped access. The file is located, and
+ * downloaded if needed, by the FileLocator. This is shared by the memory mapped readers.
+ */
+class MEGDRMappedFile implements Closeable {
+
+	private String name;
+	private short width;
+	private short height;
+	private MappedByteBuffer buffer;
+	private RandomAccessFile mapData;
+
+	/**
+	 * Locates and maps a MEGDR file.
+	 *
+	 * @param imgName Name of the MEGDR image
+	 * @throws IOException
+	 */
+	MEGDRMappedFile(String imgName) throws IOException {
+		File mapSource = FileLocator.locateFile(imgName);
+		if (mapSource == null) {
+			throw new FileNotFoundException("Cannot locate " + imgName);
+		}
+		name = mapSource.getName();
+
+		mapData = new RandomAccessFile(mapSource, "r");
+		long fileSize = mapData.length();
+
+		FileChannel fileChannel = mapData.getChannel();
+		buffer = fileChannel.map(FileChannel.MapMode.READ_ONLY, 0, fileChannel.size());
+		// MEGDR data is most significant byte first
+		buffer.order(ByteOrder.BIG_ENDIAN);
+
+		height = (short) Math.sqrt(fileSize / 4D);
+		width = (short) (height * 2);
+	}
+
+	/**
+	 * Gets the name of the mapped file.
+	 */
+	String getName() {
+		return name;
+	}
+
+	short getWidth() {
+		return width;
+	}
+
+	short getHeight() {
+		return height;
+	}
+
+	/**
+	 * Gets the mapped content of the file.
+	 */
+	MappedByteBuffer getBuffer() {
+		return buffer;
+	}
+
+	@Override
+	public void close() throws IOException {
+		mapData.close();
+	}
+}
@@ -87,6 +87,9 @@ public class MineralMap implements Serializable {
 	private SurfaceManager<MineralDeposit> allMinerals;
 	
 	private List<MineralType> types;
+
+	// Rebuilt when first needed after loading
+	private transient MineralRaster raster;
 	
 	/**
 	 * Create a mineral map that is based on a configuration
@@ -112,6 +115,41 @@ public class MineralMap implements Serializable {
 			allMinerals.addFeature(found);
 		}
 		found.adjustMineral(mineral.getName(), conc);
+		refreshRaster(locn);
+	}
+
+	/**
+	 * Bakes the raster of concentrations from all the deposits.
+	 */
+	void bakeRaster() {
+		var newRaster = new MineralRaster(types);
+		for (var d : allMinerals.getAllFeatures()) {
+			newRaster.add(d);
+		}
+		raster = newRaster;
+	}
+
+	/**
+	 * Updates the raster after the deposit at a location has changed.
+	 *
+	 * @param location
+	 */
+	private void refreshRaster(Coordinates location) {
+		if (raster != null) {
+			raster.refresh(location, allMinerals.getFeatures(location, MineralRaster.getLargestCellAngle()));
+		}
+	}
+
+	/**
+	 * Gets the pre-rendered raster of the concentrations.
+	 *
+	 * @return
+	 */
+	public MineralRaster getRaster() {
+		if (raster == null) {
+			bakeRaster();
+		}
+		return raster;
 	}
 
 	/**
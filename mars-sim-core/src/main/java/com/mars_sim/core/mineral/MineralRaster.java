@@ -0,0 +1,201 @@
+/*
+ * Mars Simulation Project
+ * MineralRaster.java
+ * @date 2025-08-22
+ */
+package com.mars_sim.core.mineral;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.mars_sim.core.map.location.Coordinates;
+
+/**
+ * A pre-rendered raster of the mineral concentrations so the whole map can be drawn without
+ * looking up each deposit. The surface is split into a grid of latitude by longitude cells at a
+ * few resolutions; each mineral has a byte per cell holding the highest concentration of
+ * any deposit in the cell.
+ */
+public class MineralRaster {
+
+	/** Cells around the equator at each level; there are half as many rows. */
+	private static final int[] LEVEL_WIDTHS = {90, 180, 360, 720};
+	private static final double TWO_PI = Math.PI * 2;
+
+	private List<String> minerals;
+	private Map<String, Integer> mineralIdx = new HashMap<>();
+
+	// Indexed on level, mineral then row * width + column
+	private byte[][][] grids;
+
+	/**
+	 * Creates an empty raster for a set of minerals.
+	 *
+	 * @param types Minerals in the raster
+	 */
+	MineralRaster(List<MineralType> types) {
+		minerals = types.stream().map(MineralType::getName).toList();
+		for (int i = 0; i < minerals.size(); i++) {
+			mineralIdx.put(minerals.get(i), i);
+		}
+
+		grids = new byte[LEVEL_WIDTHS.length][minerals.size()][];
+		for (int l = 0; l < LEVEL_WIDTHS.length; l++) {
+			int w = LEVEL_WIDTHS[l];
+			for (int m = 0; m < minerals.size(); m++) {
+				grids[l][m] = new byte[w * (w/2)];
+			}
+		}
+	}
+
+	/**
+	 * Adds the concentrations of a deposit to the cells it falls in.
+	 *
+	 * @param d
+	 */
+	void add(MineralDeposit d) {
+		var c = d.getCoordinates();
+		for (int l = 0; l < LEVEL_WIDTHS.length; l++) {
+			int cell = getCell(l, c);
+			for (var e : d.getConcentrations().entrySet()) {
+				Integer m = mineralIdx.get(e.getKey());
+				if (m != null) {
+					byte[] grid = grids[l][m];
+					grid[cell] = (byte) Math.max(grid[cell], Math.min(100, e.getValue()));
+				}
+			}
+		}
+	}
+
+	/**
+	 * Recalculates the cells holding a location after the deposit there has changed.
+	 *
+	 * @param location Location that has changed
+	 * @param nearby Deposits covering at least the largest cell holding the location
+	 */
+	void refresh(Coordinates location, Collection<MineralDeposit> nearby) {
+		for (int l = 0; l < LEVEL_WIDTHS.length; l++) {
+			int cell = getCell(l, location);
+			for (byte[] grid : grids[l]) {
+				grid[cell] = 0;
+			}
+			for (var d : nearby) {
+				if (getCell(l, d.getCoordinates()) == cell) {
+					for (var e : d.getConcentrations().entrySet()) {
+						Integer m = mineralIdx.get(e.getKey());
+						if (m != null) {
+							byte[] grid = grids[l][m];
+							grid[cell] = (byte) Math.max(grid[cell], Math.min(100, e.getValue()));
+						}
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Gets the arc angle that covers the largest cell from any point inside it.
+	 */
+	static double getLargestCellAngle() {
+		return 2 * TWO_PI / LEVEL_WIDTHS[0];
+	}
+
+	private int getCell(int level, Coordinates c) {
+		return getRow(level, c.getPhi()) * LEVEL_WIDTHS[level] + getColumn(level, c.getTheta());
+	}
+
+	/**
+	 * Gets the names of the minerals in index order.
+	 */
+	public List<String> getMinerals() {
+		return minerals;
+	}
+
+	/**
+	 * Gets the number of resolution levels; level 0 is the coarsest.
+	 */
+	public int getLevels() {
+		return LEVEL_WIDTHS.length;
+	}
+
+	/**
+	 * Gets the number of columns at a level.
+	 *
+	 * @param level
+	 */
+	public int getWidth(int level) {
+		return LEVEL_WIDTHS[level];
+	}
+
+	/**
+	 * Gets the number of rows at a level.
+	 *
+	 * @param level
+	 */
+	public int getHeight(int level) {
+		return LEVEL_WIDTHS[level]/2;
+	}
+
+	/**
+	 * Gets the angular size of a cell at a level.
+	 *
+	 * @param level
+	 * @return Radians
+	 */
+	public double getCellAngle(int level) {
+		return TWO_PI / LEVEL_WIDTHS[level];
+	}
+
+	/**
+	 * Gets the row holding a latitude.
+	 *
+	 * @param level
+	 * @param phi
+	 * @return
+	 */
+	public int getRow(int level, double phi) {
+		int h = LEVEL_WIDTHS[level]/2;
+		int row = (int) (phi/Math.PI * h);
+		return Math.max(0, Math.min(row, h - 1));
+	}
+
+	/**
+	 * Gets the column holding a longitude; the value wraps around.
+	 *
+	 * @param level
+	 * @param theta
+	 * @return
+	 */
+	public int getColumn(int level, double theta) {
+		int w = LEVEL_WIDTHS[level];
+		return Math.floorMod((int) Math.floor(theta/TWO_PI * w), w);
+	}
+
+	/**
+	 * Gets the location of the center of a cell.
+	 *
+	 * @param level
+	 * @param row
+	 * @param column
+	 * @return
+	 */
+	public Coordinates getCellCenter(int level, int row, int column) {
+		double size = getCellAngle(level);
+		return new Coordinates((row + 0.5) * size, (column + 0.5) * size);
+	}
+
+	/**
+	 * Gets the highest concentration of a mineral in a cell.
+	 *
+	 * @param level
+	 * @param mineral Index of the mineral
+	 * @param row
+	 * @param column
+	 * @return Percentage concentration (0 to 100)
+	 */
+	public int getConcentration(int level, int mineral, int row, int column) {
+		return grids[level][mineral][row * LEVEL_WIDTHS[level] + column];
+	}
+}
@@ -109,6 +109,7 @@ public final class RandomMineralFactory {
 
 		// Add random mineral to the map using potential Location based on the type of mineral
 		addRandomMinerals(newMap, 0, 100, new LocationSelector());
+		newMap.bakeRaster();
 
 		return newMap;
 	}
@@ -7,10 +7,13 @@
 
 package com.mars_sim.core.mission.task;
 
+import java.util.logging.Level;
+
 import com.mars_sim.core.equipment.Container;
 import com.mars_sim.core.equipment.ContainerUtil;
 import com.mars_sim.core.equipment.EquipmentType;
 import com.mars_sim.core.logging.SimLogger;
+import com.mars_sim.core.logging.SimLogger.LogSite;
 import com.mars_sim.core.mission.objectives.MiningObjective;
 import com.mars_sim.core.person.Person;
 import com.mars_sim.core.person.ai.SkillType;
@@ -30,6 +33,7 @@ public class CollectMinedMinerals extends EVAOperation {
 
 	/** default logger. */
 	private static SimLogger logger = SimLogger.getLogger(CollectMinedMinerals.class.getName());
+	private static final LogSite NO_CONTAINER_LOG = logger.createSite(Level.WARNING, 5000);
 
 	/** Task name */
 	private static final String NAME = Msg.getString("Task.description.collectMinedMinerals"); //-NLS-1$
@@ -133,7 +137,7 @@ public class CollectMinedMinerals extends EVAOperation {
 			return success;
 		} 
 		else
-			logger.warning(person, 5000, "Could not get hold of a " + containerType.getName() + " from rover.");
+			NO_CONTAINER_LOG.log(person, containerType, t -> "Could not get hold of a " + t.getName() + " from rover.");
 		
 		return false;
 	}
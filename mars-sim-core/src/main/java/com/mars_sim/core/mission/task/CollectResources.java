@@ -7,12 +7,15 @@
 
 package com.mars_sim.core.mission.task;
 
+import java.util.logging.Level;
+
 import com.mars_sim.core.equipment.Container;
 import com.mars_sim.core.equipment.ContainerUtil;
 import com.mars_sim.core.equipment.EVASuit;
 import com.mars_sim.core.equipment.EVASuitUtil;
 import com.mars_sim.core.equipment.EquipmentType;
 import com.mars_sim.core.logging.SimLogger;
+import com.mars_sim.core.logging.SimLogger.LogSite;
 import com.mars_sim.core.person.Person;
 import com.mars_sim.core.person.ai.NaturalAttributeManager;
 import com.mars_sim.core.person.ai.NaturalAttributeType;
@@ -39,6 +42,11 @@ public class CollectResources extends EVAOperation {
 
 	/** default logger. */
 	private static SimLogger logger = SimLogger.getLogger(CollectResources.class.getName());
+	private static final LogSite RETURN_CONTAINER_LOG = logger.createSite(Level.WARNING, 5000);
+	private static final LogSite TAKE_CONTAINER_LOG = logger.createSite(Level.WARNING, 5000);
+	private static final LogSite NO_CONTAINER_LOG = logger.createSite(Level.WARNING, 5000);
+	private static final LogSite NO_AVAILABLE_LOG = logger.createSite(Level.WARNING, 5000);
+	private static final LogSite CLEAR_CONTAINER_LOG = logger.createSite(Level.WARNING, 5000);
 
 	/** Task name */
 	private static final String NAME = Msg.getString("Task.description.collectResources"); //$NON-NLS-1$
@@ -136,7 +144,7 @@ public class CollectResources extends EVAOperation {
 //						logger.info(person, 5000, "Returned an extra " + containerType.getName().toLowerCase() + " from person back to rover.");
 					}
 					else
-						logger.warning(person, 5000, "Unable to transfer a " + containerType.getName().toLowerCase() + " from person back to rover.");
+						RETURN_CONTAINER_LOG.log(person, containerType, t -> "Unable to transfer a " + t.getName().toLowerCase() + " from person back to rover.");
 				}	
 			}
 		}
@@ -205,11 +213,11 @@ public class CollectResources extends EVAOperation {
 //				logger.info(person, 5000, "Getting hold of a " + containerType.getName().toLowerCase() + " from rover.");
 			}
 			else 
-				logger.warning(person, 5000, "Unable to transfer a " + containerType.getName().toLowerCase() + " from rover to person.");
+				TAKE_CONTAINER_LOG.log(person, containerType, t -> "Unable to transfer a " + t.getName().toLowerCase() + " from rover to person.");
 			return success;
 		} 
 		else
-			logger.warning(person, 5000, "Could not get hold of a " + containerType.getName().toLowerCase() + " from rover.");
+			NO_CONTAINER_LOG.log(person, containerType, t -> "Could not get hold of a " + t.getName().toLowerCase() + " from rover.");
 		
 		return false;
 	}
@@ -379,7 +387,7 @@ public class CollectResources extends EVAOperation {
 				carryMass = container.getBaseMass() + container.getStoredMass();
 
 			} else {
-				logger.warning(person, 5000, "No " + containerType.getName().toLowerCase() + " available.");
+				NO_AVAILABLE_LOG.log(person, containerType, t -> "No " + t.getName().toLowerCase() + " available.");
 				return false;
 			}
 
@@ -418,7 +426,7 @@ public class CollectResources extends EVAOperation {
 						}
 					}
 					else
-						logger.warning(person, 5000, "Unable to transfer a " + containerType.getName().toLowerCase()  + " from person back to rover.");
+						CLEAR_CONTAINER_LOG.log(person, containerType, t -> "Unable to transfer a " + t.getName().toLowerCase()  + " from person back to rover.");
 				}	
 			}
 		}
@@ -43,6 +43,7 @@ import com.mars_sim.core.equipment.EquipmentInventory;
 import com.mars_sim.core.equipment.EquipmentOwner;
 import com.mars_sim.core.equipment.EquipmentType;
 import com.mars_sim.core.location.LocationStateType;
+import com.mars_sim.core.logging.PulseProfiler;
 import com.mars_sim.core.logging.SimLogger;
 import com.mars_sim.core.person.ai.Mind;
 import com.mars_sim.core.person.ai.NaturalAttributeManager;
@@ -780,6 +781,7 @@ public class Person extends AbstractMobileUnit implements Worker, Temporal, Unit
 		if (!isValid(pulse)) {
 			return false;
 		}
+		long profileStart = PulseProfiler.start();
 	
 		// Check to see if the person has deceased
 		if (condition.getDeathDetails() != null) {
@@ -814,7 +816,8 @@ public class Person extends AbstractMobileUnit implements Worker, Temporal, Unit
 		condition.timePassing(pulse, support);
 		
 		checkInNewSol(pulse);
-				
+
+		PulseProfiler.stop(PulseProfiler.Category.PERSON, getAssociatedSettlement(), profileStart);
 		return true;
 	}
 
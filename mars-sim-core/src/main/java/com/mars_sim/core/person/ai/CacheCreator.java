@@ -5,8 +5,16 @@ import com.mars_sim.core.time.MarsTime;
 import com.mars_sim.core.tool.RandomUtil;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
+/**
+ * A set of Ratings that one is selected at random weighted by the score.
+ * The weights are held in a Fenwick tree so a selection, and the removal of the selected
+ * entry from a dynamic cache, take O(log n). A single random number is drawn per selection
+ * so the same seeded random stream picks the same entries.
+ */
 public class CacheCreator<T extends Rating> {
 
     private List<T> cache = new ArrayList<>();
@@ -15,6 +23,12 @@ public class CacheCreator<T extends Rating> {
     private MarsTime createdTime;
     private T lastSelected;
 
+    // Built on the first selection; 1-based. Volatile as the static default caches are shared
+    private volatile double[] tree;
+    private boolean[] removed;
+    private int removedCount = 0;
+    private List<T> remaining;
+
     public CacheCreator(String context, MarsTime createdTime) {
         this.context = context;
         if (createdTime != null) {
@@ -23,19 +37,28 @@ public class CacheCreator<T extends Rating> {
     }
 
     public void put(T t) {
-        cache.add(t);
+        addEntry(t);
         probability += t.getScore().getScore();
     }
 
     public void add(List<T> t) {
         for(T tt : t) {
             if(tt.getScore().getScore() > 0) {
-                cache.add(tt);
+                addEntry(tt);
                 probability += tt.getScore().getScore();
             }
         }
     }
-    
+
+    private void addEntry(T t) {
+        cache.add(t);
+        tree = null;
+        remaining = null;
+        if (removed != null) {
+            removed = Arrays.copyOf(removed, cache.size());
+        }
+    }
+
     public MarsTime getCreatedTime() {
         return createdTime;
     }
@@ -48,32 +71,123 @@ public class CacheCreator<T extends Rating> {
         return context;
     }
 
+    /**
+     * Gets the entries that have not been selected.
+     */
     public List<T> getCache() {
-        return cache;
+        if (removedCount == 0) {
+            return cache;
+        }
+        if (remaining == null) {
+            remaining = new ArrayList<>(cache.size() - removedCount);
+            for (int i = 0; i < cache.size(); i++) {
+                if (!removed[i]) {
+                    remaining.add(cache.get(i));
+                }
+            }
+            remaining = Collections.unmodifiableList(remaining);
+        }
+        return remaining;
+    }
+
+    /**
+     * Are there any entries left to select?
+     */
+    public boolean isEmpty() {
+        return cache.size() == removedCount;
     }
 
     public T getLastSelected() {
         return lastSelected;
     }
 
+    /**
+     * Selects an entry at random weighted by the scores. If this is a dynamic cache,
+     * i.e. it has a created time, the entry is removed so it can not be selected again.
+     */
     public T getRandomSelection() {
-        T lastEntry = null;
-        double randomDouble = getRandomDoubleBasedOnProbability();
+        if (isEmpty()) {
+            return null;
+        }
+        if (tree == null) {
+            buildTree();
+        }
 
-        for (T entry : cache) {
+        double randomDouble = getRandomDoubleBasedOnProbability();
+        int idx = findEntry(randomDouble);
+        T entry = cache.get(idx);
+        if (createdTime != null) {
+            lastSelected = entry;
             double probWeight = entry.getScore().getScore();
-            if (randomDouble <= probWeight) {
-                if (createdTime != null) {
-                    lastSelected = entry;
-                    cache.remove(entry);
-                    probability -= probWeight;
-                }
-                return entry;
+            updateTree(idx, -Math.max(0D, probWeight));
+            removed[idx] = true;
+            removedCount++;
+            remaining = null;
+            probability -= probWeight;
+        }
+        return entry;
+    }
+
+    /**
+     * Builds the Fenwick tree of the weights in linear time.
+     */
+    private void buildTree() {
+        int n = cache.size();
+        double[] newTree = new double[n + 1];
+        if (removed == null) {
+            removed = new boolean[n];
+        }
+        for (int i = 1; i <= n; i++) {
+            if (!removed[i - 1]) {
+                newTree[i] += Math.max(0D, cache.get(i - 1).getScore().getScore());
+            }
+            int parent = i + (i & -i);
+            if (parent <= n) {
+                newTree[parent] += newTree[i];
+            }
+        }
+        tree = newTree;
+    }
+
+    private void updateTree(int idx, double delta) {
+        for (int i = idx + 1; i < tree.length; i += (i & -i)) {
+            tree[i] += delta;
+        }
+    }
+
+    /**
+     * Finds the first entry whose cumulative weight reaches the value.
+     *
+     * @param value Point in the total weight
+     * @return Index of an entry that has not been removed
+     */
+    private int findEntry(double value) {
+        int n = cache.size();
+        int pos = 0;
+        double rem = value;
+        for (int step = Integer.highestOneBit(n); step > 0; step >>= 1) {
+            int next = pos + step;
+            if ((next <= n) && (tree[next] < rem)) {
+                pos = next;
+                rem -= tree[next];
+            }
+        }
+
+        // Rounding or zero weights can land on an unusable entry
+        if ((pos < n) && !removed[pos]) {
+            return pos;
+        }
+        for (int i = Math.min(pos, n - 1); i >= 0; i--) {
+            if (!removed[i]) {
+                return i;
+            }
+        }
+        for (int i = pos; i < n; i++) {
+            if (!removed[i]) {
+                return i;
             }
-            randomDouble -= probWeight;
-            lastEntry = entry;
         }
-        return lastEntry;
+        throw new IllegalStateException("No entries left in " + context);
     }
 
     private double getRandomDoubleBasedOnProbability() {
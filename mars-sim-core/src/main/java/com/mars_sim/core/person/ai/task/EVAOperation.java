@@ -21,6 +21,7 @@ import com.mars_sim.core.equipment.EVASuit;
 import com.mars_sim.core.equipment.Equipment;
 import com.mars_sim.core.events.HistoricalEvent;
 import com.mars_sim.core.logging.SimLogger;
+import com.mars_sim.core.logging.SimLogger.LogSite;
 import com.mars_sim.core.map.location.Coordinates;
 import com.mars_sim.core.map.location.LocalBoundedObject;
 import com.mars_sim.core.map.location.LocalPosition;
@@ -65,6 +66,7 @@ public abstract class EVAOperation extends Task {
 
 	/** default serial id. */
 	private static SimLogger logger = SimLogger.getLogger(EVAOperation.class.getName());
+	private static final LogSite RETURN_CONTAINER_LOG = logger.createSite(Level.WARNING, 5000);
 
 	// Experience impact when not doing the on site activity
 	private static final ExperienceImpact IMPACT = createPhaseImpact();
@@ -874,7 +876,7 @@ public abstract class EVAOperation extends Task {
 					}
 				}
 				else
-					logger.warning(person, 5000, "Unable to transfer " + e.getName() + " from person back to rover.");
+					RETURN_CONTAINER_LOG.log(person, e, c -> "Unable to transfer " + c.getName() + " from person back to rover.");
 			}	
 		}
 	}
@@ -7,6 +7,7 @@
 package com.mars_sim.core.person.ai.task;
 
 import java.util.Set;
+import java.util.logging.Level;
 
 import com.mars_sim.core.building.Building;
 import com.mars_sim.core.building.function.ClassicAirlock;
@@ -14,6 +15,7 @@ import com.mars_sim.core.equipment.EVASuit;
 import com.mars_sim.core.equipment.EVASuitUtil;
 import com.mars_sim.core.equipment.EquipmentOwner;
 import com.mars_sim.core.logging.SimLogger;
+import com.mars_sim.core.logging.SimLogger.LogSite;
 import com.mars_sim.core.map.location.LocalPosition;
 import com.mars_sim.core.person.Person;
 import com.mars_sim.core.person.ai.SkillType;
@@ -39,6 +41,9 @@ public class EnterAirlock extends Task {
 
 	/** default logger. */
 	private static SimLogger logger = SimLogger.getLogger(EnterAirlock.class.getName());
+	private static final LogSite NOT_DEPRESSURIZED_LOG = logger.createSite(Level.WARNING, 4_000);
+	private static final LogSite NO_SUIT_LOG = logger.createSite(Level.WARNING, 4_000);
+	private static final LogSite NOT_PRESSURIZED_LOG = logger.createSite(Level.WARNING, 4_000);
 
 	/** Task name */
 	private static final String NAME = Msg.getString("Task.description.enterAirlock"); //$NON-NLS-1$
@@ -418,7 +423,7 @@ public class EnterAirlock extends Task {
 
 			Set<Person> list = airlock.noEVASuit();
 			if (!list.isEmpty()) {
-				logger.warning(person, 4_000, "Could not depressurize " + airlock.getEntityName() + ". " + list
+				NOT_DEPRESSURIZED_LOG.log(person, airlock, list, (a, l) -> "Could not depressurize " + a.getEntityName() + ". " + l
 						+ " still inside not wearing EVA suit.");
 
 				// need to wait here for them to put on the EVA suit first
@@ -732,7 +737,7 @@ public class EnterAirlock extends Task {
 			}
 
 			else {
-				logger.warning(person, 4_000, "did not possess an EVA suit in " + airlock.getEntityName() + ".");
+				NO_SUIT_LOG.log(person, airlock, a -> "did not possess an EVA suit in " + a.getEntityName() + ".");
 
 				// Presumably, this person would have doffed the suit in order to get to this
 				// phase
@@ -741,7 +746,7 @@ public class EnterAirlock extends Task {
 		}
 
 		else {
-			logger.warning(person, 4_000, "Not pressurized. Walking back to the chamber and wait.");
+			NOT_PRESSURIZED_LOG.log(person, "Not pressurized. Walking back to the chamber and wait.");
 
 			// It's not pressurized yet, go back to the PRESSURIZE_CHAMBER phase and wait
 			setPhase(PRESSURIZE_CHAMBER);
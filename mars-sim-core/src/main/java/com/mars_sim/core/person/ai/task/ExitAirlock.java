@@ -17,6 +17,7 @@ import com.mars_sim.core.equipment.EVASuit;
 import com.mars_sim.core.equipment.EVASuitUtil;
 import com.mars_sim.core.equipment.EquipmentOwner;
 import com.mars_sim.core.logging.SimLogger;
+import com.mars_sim.core.logging.SimLogger.LogSite;
 import com.mars_sim.core.map.location.LocalPosition;
 import com.mars_sim.core.person.Person;
 import com.mars_sim.core.person.PhysicalCondition;
@@ -47,6 +48,7 @@ public class ExitAirlock extends Task {
 
 	/** default logger. */
 	private static SimLogger logger = SimLogger.getLogger(ExitAirlock.class.getName());
+	private static final LogSite RESCUE_LOG = logger.createSite(Level.WARNING, 4_000);
 
 
 	/** Task name */
@@ -1306,7 +1308,7 @@ public class ExitAirlock extends Task {
 							|| person.getVehicle().isInSettlement())) {
 					Settlement settlement = person.getVehicle().getSettlement();
 
-					logger.warning(person, 4_000, "Attempting a rescue operation in/near " + settlement.getName() + ".");  
+					RESCUE_LOG.log(person, settlement, s -> "Attempting a rescue operation in/near " + s.getName() + ".");  
 					// Attempt a rescue operation
 					person.rescueOperation((Rover) person.getVehicle(), settlement);
 					// Note: rescueOperation() is more like a hack, rather than a legitimate way 
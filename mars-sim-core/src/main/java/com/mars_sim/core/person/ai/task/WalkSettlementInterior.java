@@ -7,6 +7,7 @@
 package com.mars_sim.core.person.ai.task;
 
 import java.util.Iterator;
+import java.util.logging.Level;
 
 import com.mars_sim.core.LocalAreaUtil;
 import com.mars_sim.core.building.Building;
@@ -17,6 +18,7 @@ import com.mars_sim.core.building.connection.Hatch;
 import com.mars_sim.core.building.connection.InsideBuildingPath;
 import com.mars_sim.core.building.connection.InsidePathLocation;
 import com.mars_sim.core.logging.SimLogger;
+import com.mars_sim.core.logging.SimLogger.LogSite;
 import com.mars_sim.core.map.location.LocalPosition;
 import com.mars_sim.core.person.ai.task.util.Task;
 import com.mars_sim.core.person.ai.task.util.TaskPhase;
@@ -37,6 +39,8 @@ public class WalkSettlementInterior extends Task {
 
 	/** default logger. */
 	private static SimLogger logger = SimLogger.getLogger(WalkSettlementInterior.class.getName());
+	private static final LogSite NOT_INSIDE_LOG = logger.createSite(Level.WARNING, 10_000);
+	private static final LogSite NO_BUILDING_LOG = logger.createSite(Level.WARNING, 10_000);
 
 	/** Simple Task name */
 	public static final String SIMPLE_NAME = WalkSettlementInterior.class.getSimpleName();
@@ -82,7 +86,7 @@ public class WalkSettlementInterior extends Task {
 		this.destPosition = destinationPosition;
 
 		if (!LocalAreaUtil.isPositionWithinLocalBoundedObject(destPosition, destBuilding)) {
-			logger.warning(worker, 10_000L, "Destination position " + destPosition + " is not inside " + destBuilding
+			NOT_INSIDE_LOG.log(worker, () -> "Destination position " + destPosition + " is not inside " + destBuilding
 					+ " @ " + LocalAreaUtil.getDescription(destinationBuilding));
 			endTask();
 			return;
@@ -91,7 +95,7 @@ public class WalkSettlementInterior extends Task {
 		// Check if the person is currently inside a building.
 		Building startBuilding = BuildingManager.getBuilding(worker);
 		if (startBuilding == null) {
-			logger.warning(worker, 10_000L, "Not in a building.");
+			NO_BUILDING_LOG.log(worker, "Not in a building.");
 			worker.getTaskManager().clearAllTasks("Not in a building.");
 			endTask();
 			return;
@@ -58,6 +58,7 @@ public abstract class MetaTask {
 	private static final String JOB_MODIFIER = "job";
 	protected static final String PERSON_MODIFIER = "person";
 	private static final String RADIATION_MODIFIER = "radiation";
+	private static final String SETTLEMENT_MODIFIER = "settlement";
 	protected static final String ROLE_MODIFIER = "role";
 	protected static final String TYPE_MODIFIER = "type";
 	protected static final String SCIENCE_MODIFIER = "science";
@@ -345,11 +346,20 @@ public abstract class MetaTask {
 	public RatingScore assessPersonSuitability(SettlementTask t, Person p) {
         RatingScore factor = RatingScore.ZERO_RATING;
         if (p.isInSettlement()) {
-			factor = new RatingScore(t.getScore());
-			factor = assessPersonSuitability(factor, p);
+			var home = p.getAssociatedSettlement();
+			RatingScore shared = (p.getSettlement() == home) ? t.useSharedScore(home) : null;
+			if (shared != null) {
+				// Settlement part already scored once for all workers
+				factor = applyPersonModifiers(new RatingScore(shared), p);
+			}
+			else {
+				factor = new RatingScore(t.getScore());
+				factor = assessPersonSuitability(factor, p);
+				if (t.isEVA()) {
+					factor.addModifier(RADIATION_MODIFIER, TaskUtil.getRadiationModifier(p.getSettlement()));
+				}
+			}
 			if (t.isEVA()) {
-				// EVA factor is the radiation and the EVA modifiers applied extra
-				factor.addModifier(RADIATION_MODIFIER, TaskUtil.getRadiationModifier(p.getSettlement()));
 				// Question: how to bypass some checks below in case of emergency ?
 				factor.addModifier(EVA_MODIFIER, TaskUtil.getEVAModifier(p));
 			}
@@ -357,6 +367,24 @@ public abstract class MetaTask {
 		return factor;
 	}
 
+	/**
+	 * Gets the part of the score for a Settlement task that is the same for every Person
+	 * based at the Settlement. This is the settlement preference and, for EVA, the radiation.
+	 * 
+	 * @param t Task being scored
+	 * @param s Settlement where the work is done
+	 * @return A new rating score
+	 */
+	public RatingScore assessSettlementSuitability(SettlementTask t, Settlement s) {
+		var factor = new RatingScore(t.getScore());
+		applySettlementModifier(factor, s);
+		if (t.isEVA()) {
+			// EVA factor is the radiation and the EVA modifiers applied extra
+			factor.addModifier(RADIATION_MODIFIER, TaskUtil.getRadiationModifier(s));
+		}
+		return factor;
+	}
+
 	/**
      * Gets the score for a Settlement task for a robot.
      * 
@@ -387,6 +415,22 @@ public abstract class MetaTask {
 	 * @return
 	 */
 	protected RatingScore assessPersonSuitability(RatingScore score, Person person) {
+		applyPersonModifiers(score, person);
+
+		// Apply the home base modifier
+		applySettlementModifier(score, person.getAssociatedSettlement());
+		
+		return score;
+	}
+
+	/**
+	 * Applies the modifiers that depend only on the Person and not where they are based.
+	 * 
+	 * @param score
+	 * @param person
+	 * @return
+	 */
+	private RatingScore applyPersonModifiers(RatingScore score, Person person) {
 
         // Effort-driven task modifier.
 		if (effortDriven) {
@@ -414,13 +458,20 @@ public abstract class MetaTask {
 
         score.addModifier(FAV_MODIFIER, (1 + (person.getPreference().getPreferenceScore(this)/5D)));
 
-		// Apply the home base modifier
-		score.addModifier("settlement", person.getAssociatedSettlement().getPreferences()
-							.getDoubleValue(TaskParameters.INSTANCE, getID(), 1D));
-		
 		return score;
 	}
 
+	/**
+	 * Applies the preference of a Settlement for this type of Task.
+	 * 
+	 * @param score
+	 * @param s
+	 */
+	private void applySettlementModifier(RatingScore score, Settlement s) {
+		score.addModifier(SETTLEMENT_MODIFIER, s.getPreferences()
+							.getDoubleValue(TaskParameters.INSTANCE, getID(), 1D));
+	}
+
 	/**
 	 * Assesses the suitability of this robot to do Tasks of this MetaType. It does not consider
 	 * any of the specific details of the actual Task.
@@ -444,8 +495,7 @@ public abstract class MetaTask {
         }
 
 		// Apply the home base modifier
-		score.addModifier("settlement", robot.getAssociatedSettlement().getPreferences()
-							.getDoubleValue(TaskParameters.INSTANCE, getID(), 1D));
+		applySettlementModifier(score, robot.getAssociatedSettlement());
 		
 		return score;
 	}
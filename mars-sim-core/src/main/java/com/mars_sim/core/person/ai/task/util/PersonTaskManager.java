@@ -7,9 +7,11 @@
 package com.mars_sim.core.person.ai.task.util;
 
 import java.util.List;
+import java.util.logging.Level;
 
 import com.mars_sim.core.data.RatingScore;
 import com.mars_sim.core.logging.SimLogger;
+import com.mars_sim.core.logging.SimLogger.LogSite;
 import com.mars_sim.core.mission.util.MissionRating;
 import com.mars_sim.core.person.Person;
 import com.mars_sim.core.person.ai.CacheCreator;
@@ -34,6 +36,7 @@ public class PersonTaskManager extends TaskManager {
 
 	/** default logger. */
 	private static SimLogger logger = SimLogger.getLogger(PersonTaskManager.class.getName());
+	private static final LogSite NO_TASK_LOG = logger.createSite(Level.WARNING, 30_000);
 
 	private static CacheCreator<TaskJob> defaultInsideTasks;
 	private static CacheCreator<TaskJob> defaultOutsideTasks;
@@ -125,15 +128,15 @@ public class PersonTaskManager extends TaskManager {
 		}
 
 		// Check if the map cache is empty
-		if (newCache.getCache().isEmpty()) {
+		if (newCache.isEmpty()) {
 			if (person.isOutside()) {
 				newCache = getDefaultOutsideTasks();
 			}
 			else {
 				newCache = getDefaultInsideTasks();
 			}
-			logger.warning(person, 30_000L, "No normal task available. Get default "
-								+ (person.isOutside() ? "outside" : "inside") + " tasks.");
+			NO_TASK_LOG.log(person, person, p -> "No normal task available. Get default "
+								+ (p.isOutside() ? "outside" : "inside") + " tasks.");
 		}
 		return newCache;
 	}
@@ -47,6 +47,19 @@ public interface SettlementMetaTask {
      */
     RatingScore assessPersonSuitability(SettlementTask t, Person p);
 
+    /**
+     * Assess the part of a SettlementTask's score that is the same for every Person based at
+     * the Settlement. This is scored once when the shared pool is built.
+     * Default implementation is just the score of the task.
+     * 
+     * @param t The Settlement task being evaluated
+     * @param s Settlement where the work is done
+     * @return A new rating score applying the Settlement's modifiers
+     */
+    default RatingScore assessSettlementSuitability(SettlementTask t, Settlement s) {
+        return new RatingScore(t.getScore());
+    }
+
     /**
      * Assess a Robot for a specific SettlementTask of this type.
      * Default implementation return Robot is not suitable.
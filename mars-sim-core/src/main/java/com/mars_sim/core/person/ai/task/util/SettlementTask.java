@@ -9,6 +9,7 @@ package com.mars_sim.core.person.ai.task.util;
 import com.mars_sim.core.Entity;
 import com.mars_sim.core.data.RatingScore;
 import com.mars_sim.core.person.ai.task.util.MetaTask.TaskScope;
+import com.mars_sim.core.structure.Settlement;
 
 /**
  * This represents a TaskJob created by a SettlementMetaTask. 
@@ -26,6 +27,11 @@ public abstract class SettlementTask extends AbstractTaskJob {
     private boolean needsEVA = false;
     private TaskScope scope = TaskScope.ANY_HOUR;
 
+    // Score shared by all Workers based at a Settlement; rebuilt with the shared pool
+    private transient Settlement sharedFor;
+    private transient RatingScore sharedScore;
+    private transient int sharedUses;
+
     /**
      * Creates an abstract Settlement task for the backlog that relates to an Entity within a Settlement
      * that can be executed by any Citizen.
@@ -122,6 +128,50 @@ public abstract class SettlementTask extends AbstractTaskJob {
         return metaTask;
     }
 
+    /**
+     * Sets the part of the score shared by all Workers based at a Settlement.
+     * 
+     * @param s Settlement the score applies to
+     * @param score Shared score
+     */
+    void setSharedScore(Settlement s, RatingScore score) {
+        this.sharedFor = s;
+        this.sharedScore = score;
+    }
+
+    /**
+     * Gets the part of the score shared by all Workers based at a Settlement.
+     * 
+     * @param s Settlement of the Worker
+     * @return Shared score; null if it has not been scored for this Settlement
+     */
+    RatingScore getSharedScore(Settlement s) {
+        return (s == sharedFor) ? sharedScore : null;
+    }
+
+    /**
+     * Gets the shared score so it can be used for a Worker based at a Settlement.
+     * This records the reuse of the shared score.
+     * 
+     * @param s Settlement of the Worker
+     * @return Shared score; null if it has not been scored for this Settlement
+     * @see #getSharedScore(Settlement)
+     */
+    RatingScore useSharedScore(Settlement s) {
+        var shared = getSharedScore(s);
+        if (shared != null) {
+            sharedUses++;
+        }
+        return shared;
+    }
+
+    /**
+     * How many times has the shared score been used for a Worker?
+     */
+    int getSharedUses() {
+        return sharedUses;
+    }
+
     /**
      * Gets the Entity that is the focus of this Task. Default returns null as this is overridden.
      * 
@@ -75,6 +75,8 @@ public class SettlementTaskManager implements Serializable {
     private int callCount;
     private int buildCount = 0;
     private int executedCount = 0;
+    private int sharedCount = 0;
+    private int sharedUsedCount = 0;
 
     private Settlement owner;
     
@@ -114,10 +116,16 @@ public class SettlementTaskManager implements Serializable {
      */
     private List<SettlementTask> getTasks() {
         if (refreshTasks || (tasks == null)) {
+            sharedUsedCount += getSharedUses();
             tasks = new ArrayList<>();
             for (SettlementMetaTask mt : getMetaTasks()) {
-                tasks.addAll(mt.getSettlementTasks(owner));
+                for (SettlementTask st : mt.getSettlementTasks(owner)) {
+                    // Score the Settlement part once for all the Workers
+                    st.setSharedScore(owner, mt.assessSettlementSuitability(st, owner));
+                    tasks.add(st);
+                }
             }
+            sharedCount += tasks.size();
             refreshTasks = false;
             buildCount++;
 
@@ -206,6 +214,25 @@ public class SettlementTaskManager implements Serializable {
         return (double)callCount/buildCount;
     }
 
+    /**
+     * This is how many times a shared Settlement score is reused when assessing a Person.
+     * Only assessments that used the shared score are counted.
+     */
+    public double getSharedScoreReuse() {
+        int used = sharedUsedCount + getSharedUses();
+        return (sharedCount == 0 ? 0D : (double)used/sharedCount);
+    }
+
+    /**
+     * How many times the shared scores of the current tasks have been used.
+     */
+    private int getSharedUses() {
+        if (tasks == null) {
+            return 0;
+        }
+        return tasks.stream().mapToInt(SettlementTask::getSharedUses).sum();
+    }
+
     /**
      * Time has progressed so mark the tasks to be refresh on the next demand.
      */
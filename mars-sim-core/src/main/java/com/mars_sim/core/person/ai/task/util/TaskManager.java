@@ -10,6 +10,7 @@ import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.logging.Level;
 
 import com.mars_sim.core.Simulation;
 import com.mars_sim.core.SimulationConfig;
@@ -19,6 +20,7 @@ import com.mars_sim.core.data.History;
 import com.mars_sim.core.data.RatingLog;
 import com.mars_sim.core.data.RatingScore;
 import com.mars_sim.core.logging.SimLogger;
+import com.mars_sim.core.logging.SimLogger.LogSite;
 import com.mars_sim.core.person.ai.CacheCreator;
 import com.mars_sim.core.person.ai.mission.Mission;
 import com.mars_sim.core.person.ai.task.Walk;
@@ -37,6 +39,7 @@ public abstract class TaskManager implements Serializable {
 	private static final long serialVersionUID = 1L;
 	/** default logger. */
 	private static final SimLogger logger = SimLogger.getLogger(TaskManager.class.getName());
+	private static final LogSite PENDING_LOST_LOG = logger.createSite(Level.WARNING, 30_000);
 
 	/** Number of days to record Tack Activities. */	
 	private static MasterClock master;
@@ -414,7 +417,7 @@ public abstract class TaskManager implements Serializable {
 			}
 			
 			else if (newTask.isDone()) {
-				logger.warning(worker, 30_000, "The Pending task '" + job.getName() + "' was no longer possible.");				
+				PENDING_LOST_LOG.log(worker, job, j -> "The Pending task '" + j.getName() + "' was no longer possible.");				
 			}
 			// Potential here to loose started Task if new pending matches the existing
 			// check should be done against the TaskJob and delay the Task creation until the name check
@@ -452,12 +455,12 @@ public abstract class TaskManager implements Serializable {
 		// If cache is not current, calculate the probabilities. If it is a static cache, i.e. no createdOn then
 		// ignore the cache
 		MarsTime now = master.getMarsTime();
-		if ((taskProbCache == null)  || (taskProbCache.getCreatedTime() == null) || taskProbCache.getCache().isEmpty()
+		if ((taskProbCache == null)  || (taskProbCache.getCreatedTime() == null) || taskProbCache.isEmpty()
 				|| (now.getMillisol() != taskProbCache.getCreatedTime().getMillisol())) {
 			taskProbCache = rebuildTaskCache(now);
 		}
 
-		if (taskProbCache.getCache().isEmpty()) {
+		if (taskProbCache.isEmpty()) {
 			// Should never happen since TaskManagers have to return a populated list
 			// with doable defaults if needed
 			logger.severe(worker, "No normal Tasks available in " + taskProbCache.getContext());
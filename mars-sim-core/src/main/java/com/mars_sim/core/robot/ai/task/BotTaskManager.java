@@ -153,7 +153,7 @@ public class BotTaskManager extends TaskManager {
 		SettlementTaskManager stm = robot.getAssociatedSettlement().getTaskManager();
 		newCache.add(stm.getTasks(robot));
 
-		if (newCache.getCache().isEmpty()) {
+		if (newCache.isEmpty()) {
 			newCache = getPowerSaveTaskMap();
 		}
 		return newCache;
@@ -0,0 +1,141 @@
+/*
+ * Mars Simulation Project
+ * ChunkedFormat.java
+ * @date 2025-08-09
+ */
+package com.mars_sim.core.saving;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Defines the layout of a chunked save file. The serialised stream is cut into fixed size
+ * blocks that are compressed independently so they can be processed in parallel.
+ * The file layout is:
+ * <ul>
+ * <li>Header magic</li>
+ * <li>Compressed blocks</li>
+ * <li>Table of contents listing the named sections and the blocks</li>
+ * <li>Trailer holding the offset of the table of contents and the magic</li>
+ * </ul>
+ * Sections and blocks are both addressed by their position in the uncompressed stream.
+ */
+public final class ChunkedFormat {
+
+	/**
+	 * A named section of the uncompressed stream, e.g. one manager.
+	 */
+	public record Section(String name, long start, long length) {}
+
+	/**
+	 * One compressed block within the file.
+	 */
+	public record Block(long fileOffset, long start, int rawLength, int compressedLength, int crc) {}
+
+	/**
+	 * The table of contents of a chunked file.
+	 */
+	public record Contents(List<Section> sections, List<Block> blocks) {
+
+		/**
+		 * Gets the total uncompressed size.
+		 */
+		public long getRawSize() {
+			if (blocks.isEmpty()) {
+				return 0;
+			}
+			Block last = blocks.get(blocks.size() - 1);
+			return last.start() + last.rawLength();
+		}
+
+		/**
+		 * Finds the names of the sections that overlap a block.
+		 * 
+		 * @param b Block to check
+		 * @return Names of the sections
+		 */
+		public List<String> getSectionNames(Block b) {
+			long end = b.start() + b.rawLength();
+			return sections.stream()
+						.filter(s -> (s.start() < end) && (b.start() < s.start() + s.length()))
+						.map(Section::name)
+						.toList();
+		}
+	}
+
+	static final byte[] MAGIC = {'M', 'S', 'I', 'M', 'C', 'H', 'K', '1'};
+	static final int VERSION = 1;
+
+	/** Size of the trailer; offset of the contents plus the magic. */
+	static final int TRAILER_SIZE = Long.BYTES + MAGIC.length;
+
+	/** Default size of an uncompressed block. */
+	public static final int DEFAULT_BLOCK_SIZE = 1024 * 1024;
+
+	private ChunkedFormat() {
+		// Static helper class
+	}
+
+	/**
+	 * Does the file start with the chunked format magic ?
+	 * 
+	 * @param file File to check
+	 * @return
+	 * @throws IOException
+	 */
+	public static boolean isChunked(File file) throws IOException {
+		try (InputStream in = new FileInputStream(file)) {
+			byte[] header = in.readNBytes(MAGIC.length);
+			return Arrays.equals(MAGIC, header);
+		}
+	}
+
+	/**
+	 * Writes the table of contents.
+	 */
+	static void writeContents(DataOutput out, Contents contents) throws IOException {
+		out.writeInt(VERSION);
+		out.writeInt(contents.sections().size());
+		for (Section s : contents.sections()) {
+			out.writeUTF(s.name());
+			out.writeLong(s.start());
+			out.writeLong(s.length());
+		}
+		out.writeInt(contents.blocks().size());
+		for (Block b : contents.blocks()) {
+			out.writeLong(b.fileOffset());
+			out.writeLong(b.start());
+			out.writeInt(b.rawLength());
+			out.writeInt(b.compressedLength());
+			out.writeInt(b.crc());
+		}
+	}
+
+	/**
+	 * Reads the table of contents.
+	 */
+	static Contents readContents(DataInput in) throws IOException {
+		int version = in.readInt();
+		if (version != VERSION) {
+			throw new IOException("Unsupported chunked save version " + version);
+		}
+		int count = in.readInt();
+		List<Section> sections = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			sections.add(new Section(in.readUTF(), in.readLong(), in.readLong()));
+		}
+		count = in.readInt();
+		List<Block> blocks = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			blocks.add(new Block(in.readLong(), in.readLong(), in.readInt(), in.readInt(), in.readInt()));
+		}
+		return new Contents(sections, blocks);
+	}
+}
@@ -0,0 +1,238 @@
+/*
+ * Mars Simulation Project
+ * ChunkedInputStream.java
+ * @date 2025-08-09
+ */
+package com.mars_sim.core.saving;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.mars_sim.core.saving.ChunkedFormat.Block;
+import com.mars_sim.core.saving.ChunkedFormat.Contents;
+
+/**
+ * An InputStream that reads the chunked save format. Blocks are read and decompressed in
+ * parallel ahead of the reader. Each block is verified against its checksum so a corrupt
+ * block is reported with the sections it belongs to.
+ */
+public class ChunkedInputStream extends InputStream {
+
+	private FileChannel channel;
+	private Contents contents;
+	private ExecutorService executor;
+	private Deque<Future<byte[]>> pending = new ArrayDeque<>();
+	private int maxPending;
+	private int nextBlock = 0;
+
+	private byte[] current = new byte[0];
+	private int pos = 0;
+
+	/**
+	 * Opens a chunked file using one thread per core.
+	 *
+	 * @param file File to read
+	 * @throws IOException
+	 */
+	public ChunkedInputStream(File file) throws IOException {
+		this(file, Runtime.getRuntime().availableProcessors());
+	}
+
+	/**
+	 * Opens a chunked file.
+	 *
+	 * @param file File to read
+	 * @param threads Number of decompression threads
+	 * @throws IOException
+	 */
+	public ChunkedInputStream(File file, int threads) throws IOException {
+		channel = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+		try {
+			contents = readContents(channel);
+		}
+		catch (IOException e) {
+			channel.close();
+			throw e;
+		}
+
+		maxPending = 2 * threads;
+		executor = Executors.newFixedThreadPool(threads,
+						new ThreadFactoryBuilder().setNameFormat("load-decompress-%d").setDaemon(true).build());
+		fillPending();
+	}
+
+	/**
+	 * Reads the table of contents using the trailer at the end of the file.
+	 */
+	private static Contents readContents(FileChannel channel) throws IOException {
+		long size = channel.size();
+		if (size < ChunkedFormat.MAGIC.length + ChunkedFormat.TRAILER_SIZE) {
+			throw new IOException("Chunked save file is truncated");
+		}
+
+		ByteBuffer trailer = readFully(channel, size - ChunkedFormat.TRAILER_SIZE, ChunkedFormat.TRAILER_SIZE);
+		long tocOffset = trailer.getLong();
+		byte[] magic = new byte[ChunkedFormat.MAGIC.length];
+		trailer.get(magic);
+		if (!Arrays.equals(ChunkedFormat.MAGIC, magic)
+				|| (tocOffset < ChunkedFormat.MAGIC.length) || (tocOffset > size - ChunkedFormat.TRAILER_SIZE)) {
+			throw new IOException("Chunked save file has a corrupt trailer");
+		}
+
+		ByteBuffer toc = readFully(channel, tocOffset, (int) (size - ChunkedFormat.TRAILER_SIZE - tocOffset));
+		return ChunkedFormat.readContents(new DataInputStream(new ByteArrayInputStream(toc.array())));
+	}
+
+	private static ByteBuffer readFully(FileChannel channel, long position, int length) throws IOException {
+		ByteBuffer buf = ByteBuffer.allocate(length);
+		while (buf.hasRemaining()) {
+			if (channel.read(buf, position + buf.position()) < 0) {
+				throw new EOFException("Unexpected end of chunked save file");
+			}
+		}
+		buf.flip();
+		return buf;
+	}
+
+	/**
+	 * Gets the table of contents of the file.
+	 *
+	 * @return
+	 */
+	public Contents getContents() {
+		return contents;
+	}
+
+	/**
+	 * Queues up blocks for decompression up to the limit.
+	 */
+	private void fillPending() {
+		while ((pending.size() < maxPending) && (nextBlock < contents.blocks().size())) {
+			Block b = contents.blocks().get(nextBlock++);
+			pending.add(executor.submit(() -> decompress(b)));
+		}
+	}
+
+	private byte[] decompress(Block b) throws IOException {
+		byte[] compressed = readFully(channel, b.fileOffset(), b.compressedLength()).array();
+		byte[] raw = new byte[b.rawLength()];
+
+		Inflater inflater = new Inflater();
+		try {
+			inflater.setInput(compressed);
+			int n = 0;
+			while (n < raw.length && !inflater.finished()) {
+				int read = inflater.inflate(raw, n, raw.length - n);
+				if ((read == 0) && (inflater.needsInput() || inflater.needsDictionary())) {
+					break;
+				}
+				n += read;
+			}
+			if (n != raw.length) {
+				throw corrupt(b, "short block");
+			}
+		}
+		catch (DataFormatException e) {
+			throw corrupt(b, e.getMessage());
+		}
+		finally {
+			inflater.end();
+		}
+
+		CRC32 crc = new CRC32();
+		crc.update(raw);
+		if ((int) crc.getValue() != b.crc()) {
+			throw corrupt(b, "checksum mismatch");
+		}
+		return raw;
+	}
+
+	private IOException corrupt(Block b, String reason) {
+		return new IOException("Save block " + contents.blocks().indexOf(b) + " is corrupt (" + reason
+						+ ") affecting sections " + contents.getSectionNames(b));
+	}
+
+	/**
+	 * Moves to the next decompressed block.
+	 *
+	 * @return false if no more blocks
+	 */
+	private boolean nextBlock() throws IOException {
+		Future<byte[]> f = pending.poll();
+		if (f == null) {
+			return false;
+		}
+		try {
+			current = f.get();
+			pos = 0;
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException("Interrupted reading save block");
+		}
+		catch (ExecutionException e) {
+			if (e.getCause() instanceof IOException ioe) {
+				throw ioe;
+			}
+			throw new IOException("Problem reading save block", e.getCause());
+		}
+		fillPending();
+		return true;
+	}
+
+	@Override
+	public int read() throws IOException {
+		while (pos >= current.length) {
+			if (!nextBlock()) {
+				return -1;
+			}
+		}
+		return current[pos++] & 0xff;
+	}
+
+	@Override
+	public int read(byte[] b, int off, int len) throws IOException {
+		if (len == 0) {
+			return 0;
+		}
+		while (pos >= current.length) {
+			if (!nextBlock()) {
+				return -1;
+			}
+		}
+		int n = Math.min(len, current.length - pos);
+		System.arraycopy(current, pos, b, off, n);
+		pos += n;
+		return n;
+	}
+
+	@Override
+	public int available() {
+		return current.length - pos;
+	}
+
+	@Override
+	public void close() throws IOException {
+		executor.shutdownNow();
+		channel.close();
+	}
+}
@@ -0,0 +1,221 @@
+/*
+ * Mars Simulation Project
+ * ChunkedOutputStream.java
+ * @date 2025-08-09
+ */
+package com.mars_sim.core.saving;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.mars_sim.core.saving.ChunkedFormat.Block;
+import com.mars_sim.core.saving.ChunkedFormat.Contents;
+import com.mars_sim.core.saving.ChunkedFormat.Section;
+
+/**
+ * An OutputStream that writes the chunked save format. Data is buffered into blocks which are
+ * compressed in parallel and written to the underlying stream in order as they complete.
+ * The number of blocks in flight is bounded so memory use does not grow with the
+ * size of the simulation.
+ */
+public class ChunkedOutputStream extends SectionedOutputStream {
+
+	/**
+	 * A block that has been compressed.
+	 */
+	private record CompressedBlock(long start, byte[] data, int rawLength, int crc) {}
+
+	private OutputStream out;
+	private ExecutorService executor;
+	private Deque<Future<CompressedBlock>> pending = new ArrayDeque<>();
+	private int maxPending;
+	private int blockSize;
+
+	private byte[] buffer;
+	private int count = 0;
+	private long rawPosition = 0;
+	private long filePosition = 0;
+	private boolean closed = false;
+
+	private List<Block> blocks = new ArrayList<>();
+	private List<String> sectionNames = new ArrayList<>();
+	private List<Long> sectionStarts = new ArrayList<>();
+
+	/**
+	 * Creates a stream using the default block size and one thread per core.
+	 *
+	 * @param out Destination of the chunked data
+	 * @throws IOException
+	 */
+	public ChunkedOutputStream(OutputStream out) throws IOException {
+		this(out, ChunkedFormat.DEFAULT_BLOCK_SIZE, Runtime.getRuntime().availableProcessors());
+	}
+
+	/**
+	 * Creates a stream.
+	 *
+	 * @param out Destination of the chunked data
+	 * @param blockSize Size of each uncompressed block
+	 * @param threads Number of compression threads
+	 * @throws IOException
+	 */
+	public ChunkedOutputStream(OutputStream out, int blockSize, int threads) throws IOException {
+		this.out = out;
+		this.blockSize = blockSize;
+		this.buffer = new byte[blockSize];
+		this.maxPending = 2 * threads;
+		this.executor = Executors.newFixedThreadPool(threads,
+						new ThreadFactoryBuilder().setNameFormat("save-compress-%d").setDaemon(true).build());
+
+		out.write(ChunkedFormat.MAGIC);
+		filePosition = ChunkedFormat.MAGIC.length;
+	}
+
+	@Override
+	public void startSection(String name) {
+		sectionNames.add(name);
+		sectionStarts.add(rawPosition + count);
+	}
+
+	@Override
+	public void write(int b) throws IOException {
+		if (count == blockSize) {
+			submitBlock();
+		}
+		buffer[count++] = (byte) b;
+	}
+
+	@Override
+	public void write(byte[] b, int off, int len) throws IOException {
+		while (len > 0) {
+			if (count == blockSize) {
+				submitBlock();
+			}
+			int n = Math.min(len, blockSize - count);
+			System.arraycopy(b, off, buffer, count, n);
+			count += n;
+			off += n;
+			len -= n;
+		}
+	}
+
+	/**
+	 * Hands the current buffer over for compression.
+	 */
+	private void submitBlock() throws IOException {
+		if (count == 0) {
+			return;
+		}
+		final byte[] raw = buffer;
+		final int length = count;
+		final long start = rawPosition;
+		pending.add(executor.submit(() -> compress(raw, length, start)));
+
+		rawPosition += count;
+		buffer = new byte[blockSize];
+		count = 0;
+
+		// Write any completed blocks and apply back pressure
+		while (!pending.isEmpty() && (pending.peek().isDone() || pending.size() > maxPending)) {
+			writeBlock(pending.poll());
+		}
+	}
+
+	private static CompressedBlock compress(byte[] raw, int length, long start) {
+		CRC32 crc = new CRC32();
+		crc.update(raw, 0, length);
+
+		Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+		try {
+			deflater.setInput(raw, 0, length);
+			deflater.finish();
+			ByteArrayOutputStream bos = new ByteArrayOutputStream(length / 2 + 64);
+			byte[] chunk = new byte[64 * 1024];
+			while (!deflater.finished()) {
+				int n = deflater.deflate(chunk);
+				bos.write(chunk, 0, n);
+			}
+			return new CompressedBlock(start, bos.toByteArray(), length, (int) crc.getValue());
+		}
+		finally {
+			deflater.end();
+		}
+	}
+
+	/**
+	 * Waits for a compressed block and writes it out.
+	 */
+	private void writeBlock(Future<CompressedBlock> f) throws IOException {
+		CompressedBlock c;
+		try {
+			c = f.get();
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException("Interrupted compressing save block");
+		}
+		catch (ExecutionException e) {
+			throw new IOException("Problem compressing save block", e.getCause());
+		}
+
+		out.write(c.data());
+		blocks.add(new Block(filePosition, c.start(), c.rawLength(), c.data().length, c.crc()));
+		filePosition += c.data().length;
+	}
+
+	/**
+	 * Completes the outstanding blocks and writes the table of contents.
+	 */
+	@Override
+	public void close() throws IOException {
+		if (closed) {
+			return;
+		}
+		closed = true;
+
+		try {
+			submitBlock();
+			while (!pending.isEmpty()) {
+				writeBlock(pending.poll());
+			}
+
+			long tocOffset = filePosition;
+			DataOutputStream dos = new DataOutputStream(out);
+			ChunkedFormat.writeContents(dos, new Contents(getSections(), blocks));
+			dos.writeLong(tocOffset);
+			dos.write(ChunkedFormat.MAGIC);
+			dos.flush();
+		}
+		finally {
+			executor.shutdownNow();
+			out.close();
+		}
+	}
+
+	/**
+	 * Builds the sections from the recorded starts; each runs to the start of the next.
+	 */
+	private List<Section> getSections() {
+		List<Section> result = new ArrayList<>();
+		for (int i = 0; i < sectionNames.size(); i++) {
+			long start = sectionStarts.get(i);
+			long end = (i + 1 < sectionStarts.size() ? sectionStarts.get(i + 1) : rawPosition);
+			result.add(new Section(sectionNames.get(i), start, end - start));
+		}
+		return result;
+	}
+}
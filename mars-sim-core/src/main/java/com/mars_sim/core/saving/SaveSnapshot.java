@@ -0,0 +1,137 @@
+/*
+ * Mars Simulation Project
+ * SaveSnapshot.java
+ * @date 2025-08-10
+ */
+package com.mars_sim.core.saving;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * An in-memory copy of a serialised simulation. The objects are written into it while the
+ * clock is held at a pulse boundary; once complete the snapshot is immutable and can be
+ * compressed and written to disk on another thread while the simulation carries on.
+ * Data is held in fixed size blocks so capturing a large simulation never copies the buffer.
+ */
+public class SaveSnapshot extends SectionedOutputStream {
+
+	private int blockSize;
+	private List<byte[]> blocks = new ArrayList<>();
+	private byte[] current;
+	private int count;
+	private long size = 0;
+	private boolean closed = false;
+
+	private List<String> sectionNames = new ArrayList<>();
+	private List<Long> sectionStarts = new ArrayList<>();
+
+	/**
+	 * Creates a snapshot using the default block size.
+	 */
+	public SaveSnapshot() {
+		this(ChunkedFormat.DEFAULT_BLOCK_SIZE);
+	}
+
+	/**
+	 * Creates a snapshot.
+	 *
+	 * @param blockSize Size of each in-memory block
+	 */
+	public SaveSnapshot(int blockSize) {
+		this.blockSize = blockSize;
+		this.count = blockSize;
+	}
+
+	@Override
+	public void startSection(String name) {
+		sectionNames.add(name);
+		sectionStarts.add(size);
+	}
+
+	@Override
+	public void write(int b) throws IOException {
+		checkOpen();
+		if (count == blockSize) {
+			newBlock();
+		}
+		current[count++] = (byte) b;
+		size++;
+	}
+
+	@Override
+	public void write(byte[] b, int off, int len) throws IOException {
+		checkOpen();
+		while (len > 0) {
+			if (count == blockSize) {
+				newBlock();
+			}
+			int n = Math.min(len, blockSize - count);
+			System.arraycopy(b, off, current, count, n);
+			count += n;
+			size += n;
+			off += n;
+			len -= n;
+		}
+	}
+
+	private void newBlock() {
+		current = new byte[blockSize];
+		blocks.add(current);
+		count = 0;
+	}
+
+	private void checkOpen() throws IOException {
+		if (closed) {
+			throw new IOException("Snapshot is already complete");
+		}
+	}
+
+	/**
+	 * Completes the snapshot; no more data can be written.
+	 */
+	@Override
+	public void close() {
+		closed = true;
+	}
+
+	/**
+	 * Gets the number of bytes captured.
+	 *
+	 * @return
+	 */
+	public long getSize() {
+		return size;
+	}
+
+	/**
+	 * Writes the captured data to a sectioned stream, marking the same sections.
+	 *
+	 * @param out Destination
+	 * @throws IOException
+	 */
+	public void writeTo(SectionedOutputStream out) throws IOException {
+		long position = 0;
+		for (int i = 0; i < sectionNames.size(); i++) {
+			long start = sectionStarts.get(i);
+			copy(position, start, out);
+			out.startSection(sectionNames.get(i));
+			position = start;
+		}
+		copy(position, size, out);
+	}
+
+	/**
+	 * Copies a range of the captured data.
+	 */
+	private void copy(long from, long to, SectionedOutputStream out) throws IOException {
+		while (from < to) {
+			byte[] block = blocks.get((int) (from / blockSize));
+			int offset = (int) (from % blockSize);
+			int n = (int) Math.min(to - from, (long) blockSize - offset);
+			out.write(block, offset, n);
+			from += n;
+		}
+	}
+}
@@ -0,0 +1,22 @@
+/*
+ * Mars Simulation Project
+ * SectionedOutputStream.java
+ * @date 2025-08-10
+ */
+package com.mars_sim.core.saving;
+
+import java.io.OutputStream;
+
+/**
+ * An OutputStream that can mark the start of named sections in the data written to it.
+ */
+public abstract class SectionedOutputStream extends OutputStream {
+
+	/**
+	 * Starts a new named section at the current position. Any wrapping stream must be
+	 * flushed first so the position is accurate.
+	 *
+	 * @param name Name of the section
+	 */
+	public abstract void startSection(String name);
+}
@@ -0,0 +1,149 @@
+/*
+ * Mars Simulation Project
+ * SnapshotWriter.java
+ * @date 2025-08-10
+ */
+package com.mars_sim.core.saving;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.mars_sim.core.logging.SimLogger;
+
+/**
+ * Writes SaveSnapshots to disk in the chunked format on a background thread. Only one
+ * snapshot is written at a time. It also keeps the timings of the last save so the time the
+ * clock was held can be compared against the time spent writing.
+ */
+public class SnapshotWriter {
+
+	private static final SimLogger logger = SimLogger.getLogger(SnapshotWriter.class.getName());
+
+	private ExecutorService executor;
+	private volatile CompletableFuture<Boolean> active = null;
+
+	private volatile long lastPauseTime = 0;
+	private volatile long lastWriteTime = 0;
+	private volatile long lastSize = 0;
+
+	/**
+	 * Creates a writer.
+	 */
+	public SnapshotWriter() {
+		executor = Executors.newSingleThreadExecutor(
+						new ThreadFactoryBuilder().setNameFormat("save-writer-%d").setDaemon(true).build());
+	}
+
+	/**
+	 * Is a snapshot still being written ?
+	 *
+	 * @return
+	 */
+	public boolean isBusy() {
+		CompletableFuture<Boolean> f = active;
+		return (f != null) && !f.isDone();
+	}
+
+	/**
+	 * Is there enough free heap to hold another snapshot ? This is estimated from the size
+	 * of the last snapshot.
+	 *
+	 * @return
+	 */
+	public boolean hasMemoryForSnapshot() {
+		if (lastSize == 0) {
+			return true;
+		}
+		Runtime rt = Runtime.getRuntime();
+		long available = rt.maxMemory() - (rt.totalMemory() - rt.freeMemory());
+		return available > 2 * lastSize;
+	}
+
+	/**
+	 * Waits for any snapshot still being written.
+	 */
+	public void awaitIdle() {
+		CompletableFuture<Boolean> f = active;
+		if (f == null) {
+			return;
+		}
+		try {
+			f.get();
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		catch (ExecutionException e) {
+			// Already reported by the writer
+		}
+	}
+
+	/**
+	 * Writes a snapshot to a file in the background.
+	 *
+	 * @param snapshot Completed snapshot
+	 * @param file Destination file
+	 * @param pauseTime Time in msec the simulation was held to capture the snapshot
+	 * @return Future that completes with whether the write succeeded
+	 */
+	public synchronized CompletableFuture<Boolean> write(SaveSnapshot snapshot, File file, long pauseTime) {
+		if (isBusy()) {
+			throw new IllegalStateException("A snapshot is already being written");
+		}
+
+		lastPauseTime = pauseTime;
+		lastSize = snapshot.getSize();
+		active = CompletableFuture.supplyAsync(() -> writeFile(snapshot, file, pauseTime), executor);
+		return active;
+	}
+
+	private boolean writeFile(SaveSnapshot snapshot, File file, long pauseTime) {
+		long start = System.currentTimeMillis();
+		try (ChunkedOutputStream cos = new ChunkedOutputStream(new FileOutputStream(file))) {
+			snapshot.writeTo(cos);
+		}
+		catch (IOException e) {
+			logger.severe("Problem writing snapshot to " + file.getName(), e);
+			return false;
+		}
+
+		lastWriteTime = System.currentTimeMillis() - start;
+		logger.config("Saved " + file.getName() + ": simulation held for " + pauseTime
+						+ " ms, written in background in " + lastWriteTime + " ms, "
+						+ (snapshot.getSize() / 1024) + " KB uncompressed.");
+		return true;
+	}
+
+	/**
+	 * Gets the time in msec the simulation was held to capture the last snapshot.
+	 *
+	 * @return
+	 */
+	public long getLastPauseTime() {
+		return lastPauseTime;
+	}
+
+	/**
+	 * Gets the time in msec taken to compress and write the last snapshot.
+	 *
+	 * @return
+	 */
+	public long getLastWriteTime() {
+		return lastWriteTime;
+	}
+
+	/**
+	 * Gets the uncompressed size of the last snapshot.
+	 *
+	 * @return
+	 */
+	public long getLastSize() {
+		return lastSize;
+	}
+}
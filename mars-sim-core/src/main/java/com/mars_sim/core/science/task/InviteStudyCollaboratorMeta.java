@@ -7,6 +7,7 @@
 package com.mars_sim.core.science.task;
 
 import java.util.List;
+import java.util.logging.Level;
 
 import com.mars_sim.core.building.Building;
 import com.mars_sim.core.building.BuildingManager;
@@ -14,6 +15,7 @@ import com.mars_sim.core.building.function.FunctionType;
 import com.mars_sim.core.data.RatingScore;
 import com.mars_sim.core.goods.GoodsManager.CommerceType;
 import com.mars_sim.core.logging.SimLogger;
+import com.mars_sim.core.logging.SimLogger.LogSite;
 import com.mars_sim.core.person.Person;
 import com.mars_sim.core.person.ai.fav.FavoriteType;
 import com.mars_sim.core.person.ai.job.util.JobType;
@@ -38,6 +40,7 @@ public class InviteStudyCollaboratorMeta extends FactoryMetaTask {
             "Task.description.inviteStudyCollaborator"); //$NON-NLS-1$
     /** default logger. */
     private static SimLogger logger = SimLogger.getLogger(InviteStudyCollaboratorMeta.class.getName());
+    private static final LogSite NO_INVITEE_LOG = logger.createSite(Level.WARNING, 30_000);
     
     public InviteStudyCollaboratorMeta() {
 		super(NAME, WorkerType.PERSON, TaskScope.ANY_HOUR);
@@ -84,7 +87,7 @@ public class InviteStudyCollaboratorMeta extends FactoryMetaTask {
         
         // Note: getAvailableCollaboratorsForInvite(study) will be called in InviteStudyCollaborator again
         if (ScientificStudyUtil.getAvailableNumCollaboratorsForInvite(study) == 0) {
-            logger.warning(person, 30_000L, "Can not find anyone to invite for " + study.getName());
+            NO_INVITEE_LOG.log(person, study, s -> "Can not find anyone to invite for " + s.getName());
             return EMPTY_TASKLIST;
         }
  
@@ -58,12 +58,14 @@ import com.mars_sim.core.equipment.EquipmentOwner;
 import com.mars_sim.core.equipment.EquipmentType;
 import com.mars_sim.core.equipment.ItemHolder;
 import com.mars_sim.core.equipment.ResourceHolder;
+import com.mars_sim.core.equipment.ResourceLedger;
 import com.mars_sim.core.events.ScheduledEventManager;
 import com.mars_sim.core.goods.CreditManager;
 import com.mars_sim.core.goods.GoodsManager;
 import com.mars_sim.core.goods.GoodsUtil;
 import com.mars_sim.core.goods.GoodsManager.CommerceType;
 import com.mars_sim.core.location.LocationStateType;
+import com.mars_sim.core.logging.PulseProfiler;
 import com.mars_sim.core.logging.SimLogger;
 import com.mars_sim.core.manufacture.ManufacturingManager;
 import com.mars_sim.core.map.location.Coordinates;
@@ -98,6 +100,7 @@ import com.mars_sim.core.time.MarsZone;
 import com.mars_sim.core.time.Temporal;
 import com.mars_sim.core.tool.MathUtils;
 import com.mars_sim.core.tool.Msg;
+import com.mars_sim.core.tool.RandomStream;
 import com.mars_sim.core.tool.RandomUtil;
 import com.mars_sim.core.unit.UnitHolder;
 import com.mars_sim.core.vehicle.Drone;
@@ -196,6 +199,8 @@ public class Settlement extends Unit implements Temporal,
 
 	/** The flag for checking if the simulation has just started. */
 	private boolean justLoaded = true;
+	/** The random numbers used during the pulses of this settlement. */
+	private RandomStream randomStream;
 	/** The flag signifying this settlement as the destination of the user-defined commander. */
 	private boolean hasDesignatedCommander = false;
 	/** The flag for the need to review the ice probability value. */
@@ -916,6 +921,38 @@ public class Settlement extends Unit implements Temporal,
 		if (!isValid(pulse)) {
 			return false;
 		}
+
+		// Draw random numbers from this settlement's stream whichever thread runs the pulse
+		var previous = RandomUtil.useStream(getRandomStream());
+		try {
+			applyPulse(pulse);
+		}
+		finally {
+			RandomUtil.useStream(previous);
+		}
+		return true;
+	}
+
+	/**
+	 * Gets the stream of random numbers used by this settlement. It is derived from the
+	 * master seed and the identifier so a repeated run gets the same stream.
+	 * 
+	 * @return
+	 */
+	public RandomStream getRandomStream() {
+		if (randomStream == null) {
+			randomStream = RandomUtil.createStream(getIdentifier());
+		}
+		return randomStream;
+	}
+
+	/**
+	 * Applies a pulse to this settlement and everything it owns.
+	 * 
+	 * @param pulse
+	 */
+	private void applyPulse(ClockPulse pulse) {
+		long profileStart = PulseProfiler.start();
 		
 		int sol = pulse.getMarsTime().getMissionSol();
 
@@ -935,9 +972,19 @@ public class Settlement extends Unit implements Temporal,
 		
 		// Calls other time passings
 		futureEvents.timePassing(pulse);
+
+		long stepStart = PulseProfiler.start();
 		powerGrid.timePassing(pulse);
+		PulseProfiler.stop(PulseProfiler.Category.POWER_GRID, this, stepStart);
+
+		stepStart = PulseProfiler.start();
 		thermalSystem.timePassing(pulse);
+		PulseProfiler.stop(PulseProfiler.Category.THERMAL, this, stepStart);
+
+		// Includes the time of each Building
+		stepStart = PulseProfiler.start();
 		buildingManager.timePassing(pulse);
+		PulseProfiler.stop(PulseProfiler.Category.BUILDING_MANAGER, this, stepStart);
 		
 		// Set refreshTasks param to true
 		taskManager.timePassing();
@@ -946,10 +993,10 @@ public class Settlement extends Unit implements Temporal,
 		timePassingCitizens(pulse);
 
 		// Update vehicles
-		timePassing(pulse, ownedVehicles);
+		timePassing(pulse, ownedVehicles, PulseProfiler.Category.VEHICLE);
 		
 		// Update robots
-		timePassing(pulse, ownedRobots);
+		timePassing(pulse, ownedRobots, PulseProfiler.Category.ROBOT);
 	
 		if (pulse.isNewHalfSol()) {
 			// Reset water rationing review due
@@ -970,7 +1017,14 @@ public class Settlement extends Unit implements Temporal,
 		// Keeps track of things based on msol
 		trackByMSol(pulse);
 
-		return true;
+		// Publish the resource changes of this pulse
+		var changes = eqmInventory.getResourceLedger().publishChanges();
+		if (!changes.isEmpty()) {
+			goodsManager.resourcesChanged(changes);
+			fireUnitUpdate(UnitEventType.RESOURCE_LEDGER_EVENT, changes);
+		}
+
+		PulseProfiler.stop(PulseProfiler.Category.SETTLEMENT, this, profileStart);
 	}
 	
 	/**
@@ -1041,10 +1095,14 @@ public class Settlement extends Unit implements Temporal,
 	 * 
 	 * @param pulse
 	 * @param ownedUnits
+	 * @param category Category to record the pulse time against
 	 */
-	private void timePassing(ClockPulse pulse, Collection<? extends Temporal> ownedUnits) {
+	private void timePassing(ClockPulse pulse, Collection<? extends Temporal> ownedUnits,
+							PulseProfiler.Category category) {
 		for (Temporal t : ownedUnits) {
+			long profileStart = PulseProfiler.start();
 			t.timePassing(pulse);
+			PulseProfiler.stop(category, this, profileStart);
 		}
 	}
 
@@ -3184,6 +3242,16 @@ public class Settlement extends Unit implements Temporal,
 	public double getAllSpecificAmountResourceStored(int resource) {
 		return eqmInventory.getAllSpecificAmountResourceStored(resource);
 	}
+
+	/**
+	 * Gets the running totals of the amount resources held in the settlement
+	 * including inside equipment.
+	 *
+	 * @return
+	 */
+	public ResourceLedger getResourceLedger() {
+		return eqmInventory.getResourceLedger();
+	}
 	
 	/**
 	 * Gets the quantity of all stock and specific amount resource stored.
@@ -152,6 +152,22 @@ public class ClockPulse {
 //		return fireClockPulse(actualElapsed);
 	}
 	
+	/**
+	 * Creates a new pulse that covers both this pulse and an earlier pulse that was
+	 * never delivered. The Mars time and id are taken from this pulse; the flags
+	 * are combined so a new sol in the earlier pulse is not lost.
+	 * 
+	 * @param earlier Undelivered earlier pulse
+	 * @return
+	 */
+	public ClockPulse coalesce(ClockPulse earlier) {
+		return new ClockPulse(id, elapsed + earlier.elapsed, marsTime, master, 
+				isNewSol || earlier.isNewSol,
+				isNewHalfSol || earlier.isNewHalfSol,
+				isNewIntMillisol || earlier.isNewIntMillisol,
+				isNewHalfMillisol || earlier.isNewHalfMillisol);
+	}
+	
 	/**
 	 * Fires a clock pulse.
 	 * NOTE: DO NOT DELTE. RETAIN THIS METHOD FOR FUTURE USE.
@@ -10,15 +10,17 @@ import java.io.Serializable;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoField;
 import java.util.Collection;
-import java.util.Collections;
-import java.util.HashSet;
 import java.util.Iterator;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CopyOnWriteArraySet;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.mars_sim.core.Simulation;
@@ -105,6 +107,18 @@ public class MasterClock implements Serializable {
 	private transient long tLast;
 	/** The thread for running the clock listeners. */
 	private transient ExecutorService listenerExecutor;
+	/** The thread for running the decoupled clock listeners in pipelined mode. */
+	private transient ExecutorService decoupledExecutor;
+	/** Are decoupled listeners fed from a coalescing queue ? */
+	private transient boolean pipelinedDispatch = false;
+	/** The fixed pulse width in millisols when running unpaced. Zero means paced. */
+	private transient float unpacedPulseWidth = 0;
+	/** The mission sol that ends an unpaced run. Zero means no end. */
+	private transient int unpacedEndSol = 0;
+	/** The Mars time when the unpaced run started. */
+	private transient MarsTime unpacedStartTime;
+	/** Real time [in ms] spent running unpaced. */
+	private transient long unpacedRealTime;
 	/** Thread for main clock */
 	private transient ExecutorService clockExecutor;
 	/** A list of clock listener tasks. */
@@ -464,15 +478,79 @@ public class MasterClock implements Serializable {
 	 * @Param minDuration The minimum duration in milliseconds between pulses.
 	 */
 	public final void addClockListener(ClockListener newListener, long minDuration) {
+		addClockListener(newListener, minDuration, false);
+	}
+
+	/**
+	 * Adds a clock listener that may be decoupled from the simulation pulse. When the clock
+	 * is in pipelined dispatch mode a decoupled listener is fed from a single slot queue where
+	 * the latest pulse wins; the clock never waits for it. Use this for UI listeners.
+	 *
+	 * @param newListener the listener to add.
+	 * @param minDuration The minimum duration in milliseconds between pulses.
+	 * @param decoupled Can the listener be decoupled from the simulation pulse
+	 * @see #setPipelinedDispatch(boolean)
+	 */
+	public final void addClockListener(ClockListener newListener, long minDuration, boolean decoupled) {
 		// Check if clockListenerTaskList already contain the newListener's task,
 		// if it doesn't, create one
 		if (clockListenerTasks == null)
-			clockListenerTasks = Collections.synchronizedSet(new HashSet<>());
+			clockListenerTasks = new CopyOnWriteArraySet<>();
 		if (!hasClockListenerTask(newListener)) {
-			clockListenerTasks.add(new ClockListenerTask(newListener, minDuration));
+			clockListenerTasks.add(new ClockListenerTask(newListener, minDuration, decoupled));
 		}
 	}
 
+	/**
+	 * Sets whether decoupled clock listeners are fed via a coalescing queue rather than
+	 * blocking the clock.
+	 * 
+	 * @param pipelined
+	 */
+	public void setPipelinedDispatch(boolean pipelined) {
+		if (pipelinedDispatch != pipelined) {
+			pipelinedDispatch = pipelined;
+			logger.config("Pipelined clock listener dispatch is " + (pipelined ? "on." : "off."));
+		}
+	}
+
+	/**
+	 * Runs the clock unpaced. Pulses of a fixed width are fired back-to-back with no sleep and
+	 * no adjustment of the pulse width to the time ratio. Once the end sol has completed the 
+	 * run rate is reported and the program exits. This is intended for headless batch runs.
+	 * 
+	 * @param pulseWidth Fixed width of each pulse in millisols
+	 * @param endSol The last mission sol to run; zero to run forever
+	 */
+	public void setUnpaced(float pulseWidth, int endSol) {
+		if ((pulseWidth <= 0) || (pulseWidth > maxMilliSolPerPulse)) {
+			throw new IllegalArgumentException("Unpaced pulse width must be between 0 and "
+									+ maxMilliSolPerPulse + " millisols : " + pulseWidth);
+		}
+		unpacedPulseWidth = pulseWidth;
+		unpacedEndSol = endSol;
+		logger.config("Running unpaced with " + pulseWidth + " millisols per pulse"
+						+ (endSol > 0 ? " until the end of sol " + endSol + "." : "."));
+	}
+
+	/**
+	 * Is the clock running unpaced ?
+	 * 
+	 * @return
+	 */
+	public boolean isUnpaced() {
+		return unpacedPulseWidth > 0;
+	}
+
+	/**
+	 * Are decoupled clock listeners fed via a coalescing queue ?
+	 * 
+	 * @return
+	 */
+	public boolean isPipelinedDispatch() {
+		return pipelinedDispatch;
+	}
+
 	/**
 	 * Removes a clock listener.
 	 *
@@ -806,7 +884,15 @@ public class MasterClock implements Serializable {
 		// Ensure that Settlements stay synch'ed and some don't get ahead of others as tasks queue
 		// May use parallelStream() after it's proven to be safe
 		if (clockListenerTasks != null) {
-			Collections.synchronizedSet(new HashSet<>(clockListenerTasks)).stream().forEach(this::executeClockListenerTask);
+			for (ClockListenerTask task : clockListenerTasks) {
+				if (pipelinedDispatch && task.decoupled) {
+					// Hand over the pulse and carry on; the listener catches up when it can
+					task.offer(currentPulse);
+				}
+				else {
+					executeClockListenerTask(task);
+				}
+			}
 		}
 	}
 
@@ -877,6 +963,12 @@ public class MasterClock implements Serializable {
 			listenerExecutor = Executors.newFixedThreadPool(1,
 					new ThreadFactoryBuilder().setNameFormat("clockListener-%d").build());
 		}
+		if (decoupledExecutor == null 
+				|| decoupledExecutor.isShutdown()
+				|| decoupledExecutor.isTerminated()) {
+			decoupledExecutor = Executors.newSingleThreadExecutor(
+					new ThreadFactoryBuilder().setNameFormat("clockListener-decoupled-%d").build());
+		}
 	}
 	
 	/**
@@ -1018,6 +1110,8 @@ public class MasterClock implements Serializable {
 	public void shutdown() {
 		if (listenerExecutor != null)
 			listenerExecutor.shutdownNow();
+		if (decoupledExecutor != null)
+			decoupledExecutor.shutdownNow();
 		if (clockExecutor != null)
 			clockExecutor.shutdownNow();
 	}
@@ -1176,20 +1270,82 @@ public class MasterClock implements Serializable {
 	 */
 	public class ClockListenerTask implements Callable<String>{
 		private double msolsSkipped = 0;
-		private long lastPulseDelivered = 0;
+		private volatile long lastPulseDelivered = 0;
 		private ClockListener listener;
 		private long minDuration;
+		private boolean decoupled;
+		/** Pulse waiting to be delivered in pipelined mode. */
+		private AtomicReference<ClockPulse> pending = new AtomicReference<>();
+		/** Is a delivery of the pending pulse already queued ? */
+		private AtomicBoolean deliveryQueued = new AtomicBoolean(false);
+		/** Number of pulses merged into a later one in pipelined mode. */
+		private AtomicLong coalesced = new AtomicLong();
 
 		public ClockListener getClockListener() {
 			return listener;
 		}
 
-		private ClockListenerTask(ClockListener listener, long minDuration) {
+		private ClockListenerTask(ClockListener listener, long minDuration, boolean decoupled) {
 			this.listener = listener;
 			this.minDuration = minDuration;
+			this.decoupled = decoupled;
 			this.lastPulseDelivered = System.currentTimeMillis();
 		}
 
+		/**
+		 * Gets the number of pulses that were merged into a later pulse because the
+		 * listener had not caught up.
+		 * 
+		 * @return
+		 */
+		public long getCoalescedPulses() {
+			return coalesced.get();
+		}
+
+		/**
+		 * Offers a new pulse to a decoupled listener. If the previous pulse has not been
+		 * delivered it is merged into the new one. A delivery is queued unless one is
+		 * already waiting or the listener has had a pulse within the min duration.
+		 * 
+		 * @param pulse
+		 */
+		private void offer(ClockPulse pulse) {
+			ClockPulse previous = pending.getAndUpdate(p -> (p == null ? pulse : pulse.coalesce(p)));
+			if (previous != null) {
+				coalesced.incrementAndGet();
+			}
+
+			if ((System.currentTimeMillis() - lastPulseDelivered) >= minDuration
+					&& deliveryQueued.compareAndSet(false, true)) {
+				try {
+					decoupledExecutor.execute(this::deliverPending);
+				}
+				catch (RejectedExecutionException ree) {
+					// Application shutting down
+					deliveryQueued.set(false);
+				}
+			}
+		}
+
+		/**
+		 * Delivers the latest pending pulse to the listener.
+		 */
+		private void deliverPending() {
+			try {
+				ClockPulse activePulse = pending.getAndSet(null);
+				if ((activePulse != null) && !isPaused) {
+					lastPulseDelivered = System.currentTimeMillis();
+					listener.clockPulse(activePulse);
+				}
+			}
+			catch (RuntimeException e) {
+				logger.severe("Can't send out clock pulse: ", e);
+			}
+			finally {
+				deliveryQueued.set(false);
+			}
+		}
+
 		@Override
 		public String call() throws Exception {
 			
@@ -1403,8 +1559,64 @@ public class MasterClock implements Serializable {
 			return acceptablePulse;
 		}
 		
+		/**
+		 * Fires fixed width pulses as fast as possible until stopped or the end sol is passed.
+		 */
+		private void runUnpaced() {
+			if (unpacedStartTime == null) {
+				unpacedStartTime = marsTime;
+			}
+			long runStart = System.currentTimeMillis();
+
+			while (keepRunning && !isPaused) {
+				long startTime = System.currentTimeMillis();
+
+				float earthMillisec = unpacedPulseWidth * MILLISECONDS_PER_MILLISOL;
+				earthTime = earthTime.plus((long)(earthMillisec * 1000), ChronoField.MICRO_OF_SECOND.getBaseUnit());
+				marsTime = marsTime.addTime(unpacedPulseWidth);
+				leadPulseTime = unpacedPulseWidth;
+				fireClockPulse(unpacedPulseWidth);
+
+				long now = System.currentTimeMillis();
+				executionTime = (short) Math.min(Short.MAX_VALUE, now - startTime);
+				uptimer.updateTime(now - tLast);
+				if (now > tLast) {
+					actualTR = (float)(0.9 * actualTR + 0.1 * earthMillisec / (now - tLast));
+				}
+				timestampPulseStart();
+
+				if ((unpacedEndSol > 0) && (marsTime.getMissionSol() > unpacedEndSol)) {
+					unpacedRealTime += System.currentTimeMillis() - runStart;
+					reportUnpacedRun();
+					exitProgram();
+				}
+			}
+
+			if (!exitProgram) {
+				unpacedRealTime += System.currentTimeMillis() - runStart;
+			}
+		}
+
+		/**
+		 * Logs the rate achieved by the unpaced run.
+		 */
+		private void reportUnpacedRun() {
+			double sols = marsTime.getTimeDiff(unpacedStartTime) / 1000D;
+			double secs = Math.max(1, unpacedRealTime) / 1000D;
+			logger.info(String.format("Unpaced run completed %.2f sols in %.1f secs : %.3f sols per second.",
+						sols, secs, sols / secs));
+		}
+
 		@Override
 		public void run() {
+			if (unpacedPulseWidth > 0) {
+				runUnpaced();
+				if (exitProgram) {
+					System.exit(0);
+				}
+				return;
+			}
+
 			// Keep running until told not to by calling stop()
 			while (keepRunning) {
 				
@@ -0,0 +1,68 @@
+/*
+ * Mars Simulation Project
+ * RandomStream.java
+ * @date 2025-08-21
+ */
+package com.mars_sim.core.tool;
+
+import java.io.Serializable;
+
+import org.apache.commons.rng.UniformRandomProvider;
+
+/**
+ * A SplitMix64 stream of random numbers. The whole state is a single long so it is
+ * cheap to create, is saved with its owner and carries on from the same point
+ * when a simulation is reloaded.
+ * It is not thread safe; each stream should only be used by one thread at a time.
+ */
+public final class RandomStream implements UniformRandomProvider, Serializable {
+
+	/** default serial id. */
+	private static final long serialVersionUID = 1L;
+
+	private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+	private long state;
+
+	/**
+	 * Creates a stream.
+	 *
+	 * @param seed
+	 */
+	public RandomStream(long seed) {
+		this.state = seed;
+	}
+
+	@Override
+	public long nextLong() {
+		state += GOLDEN_GAMMA;
+		return mix(state);
+	}
+
+	/**
+	 * Creates an independent stream seeded from this one.
+	 *
+	 * @return
+	 */
+	public RandomStream split() {
+		return new RandomStream(mix(nextLong()));
+	}
+
+	/**
+	 * Derives the seed of a stream from a master seed and a key.
+	 * The same master seed and key always give the same seed.
+	 *
+	 * @param masterSeed
+	 * @param key Identifies the stream
+	 * @return
+	 */
+	public static long deriveSeed(long masterSeed, long key) {
+		return mix(masterSeed + mix(key * GOLDEN_GAMMA));
+	}
+
+	private static long mix(long z) {
+		z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+		z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+		return z ^ (z >>> 31);
+	}
+}
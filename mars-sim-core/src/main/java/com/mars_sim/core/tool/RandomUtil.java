@@ -10,18 +10,29 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.commons.rng.UniformRandomProvider;
-import org.apache.commons.rng.simple.RandomSource;
-import org.apache.commons.rng.simple.ThreadLocalRandomSource;
 import org.apache.commons.statistics.distribution.ContinuousDistribution.Sampler;
 import org.apache.commons.statistics.distribution.NormalDistribution;
 
 /**
  * The RandomUtil class is a library of various random-related methods.
+ * The random numbers come from the stream of the current thread. Work that has to be
+ * repeatable, e.g. a Settlement pulse, binds its own stream seeded from the master seed
+ * so the numbers drawn do not depend on which thread does the work or what else runs.
  */
 public final class RandomUtil {
 
+	/**
+	 * The streams of a thread.
+	 */
+	private static final class ThreadStreams {
+		private int generation = -1;
+		private RandomStream own;
+		private RandomStream bound;
+	}
+
 	// MersenneTwisterFast provides a fast, much "more" random than the linear congruential of the java.util.Random
 	// Note 1: it is compatible with standard java.util.Randrom's method and require
 	// no mapping
@@ -43,16 +54,109 @@ public final class RandomUtil {
 	// Initiaise the Ramdom with a seed based on current time
 //	private static ThreadLocal<Random> random = ThreadLocal.withInitial(() -> new Random(System.currentTimeMillis()));
 
-	// Create a uniform random number generator
-	private static UniformRandomProvider rng = ThreadLocalRandomSource.current(RandomSource.SPLIT_MIX_64);; //RandomSource.WELL_19937_A.create();
+	// Named streams are derived from this key so they never match a Unit or thread stream
+	private static final long NAMED_STREAM_KEY = Long.MIN_VALUE;
+
+	private static volatile long masterSeed = RandomStream.deriveSeed(System.nanoTime(), System.currentTimeMillis());
+	// Changes when the master seed changes so the thread streams are recreated
+	private static volatile int generation = 0;
+	private static final AtomicInteger threadCount = new AtomicInteger();
+	private static final ThreadLocal<ThreadStreams> streams = ThreadLocal.withInitial(ThreadStreams::new);
 
 	// Create the Ziggurat normalized Gaussian sampler
 //	private static ZigguratNormalizedGaussianSampler sampler = ZigguratNormalizedGaussianSampler.of(rng);
 	
 	private RandomUtil() {}
 
+	/**
+	 * Gets the random number generator of the current thread.
+	 * 
+	 * @return
+	 */
 	public static UniformRandomProvider getRNG() {
-		return rng;
+		var s = streams.get();
+		if (s.bound != null) {
+			return s.bound;
+		}
+		if ((s.own == null) || (s.generation != generation)) {
+			// Threads are keyed with negative numbers so they never match a stream key
+			s.generation = generation;
+			s.own = createStream(-threadCount.incrementAndGet());
+		}
+		return s.own;
+	}
+
+	/**
+	 * Sets the master seed that all the streams are derived from so a run can be repeated,
+	 * e.g. for benchmarks. The thread streams are recreated from the new seed.
+	 * 
+	 * @param seed
+	 */
+	public static void setSeed(long seed) {
+		masterSeed = seed;
+		threadCount.set(0);
+		generation++;
+	}
+
+	/**
+	 * Gets the master seed.
+	 * 
+	 * @return
+	 */
+	public static long getSeed() {
+		return masterSeed;
+	}
+
+	/**
+	 * Creates a stream derived from the master seed. The same key gives the same stream
+	 * for a master seed.
+	 * 
+	 * @param key Identifies the stream, e.g. a Unit identifier
+	 * @return
+	 */
+	public static RandomStream createStream(long key) {
+		return new RandomStream(RandomStream.deriveSeed(masterSeed, key));
+	}
+
+	/**
+	 * Creates a stream derived from the master seed for work that is not a Unit,
+	 * e.g. a simulation manager. The same name gives the same stream for a master seed.
+	 * 
+	 * @param name Identifies the stream
+	 * @return
+	 */
+	public static RandomStream createStream(String name) {
+		long namedSeed = RandomStream.deriveSeed(masterSeed, NAMED_STREAM_KEY);
+		return new RandomStream(RandomStream.deriveSeed(namedSeed, name.hashCode()));
+	}
+
+	/**
+	 * Runs some work on the current thread drawing from a stream.
+	 * 
+	 * @param stream Stream to use
+	 * @param work Work to run
+	 */
+	public static void runWithStream(RandomStream stream, Runnable work) {
+		var previous = useStream(stream);
+		try {
+			work.run();
+		}
+		finally {
+			useStream(previous);
+		}
+	}
+
+	/**
+	 * Makes the current thread draw from a stream until it is replaced.
+	 * 
+	 * @param stream Stream to use; null returns to the thread's own stream
+	 * @return The stream previously bound to the thread; may be null
+	 */
+	public static RandomStream useStream(RandomStream stream) {
+		var s = streams.get();
+		var previous = s.bound;
+		s.bound = stream;
+		return previous;
 	}
 	
 	/**
@@ -62,7 +166,7 @@ public final class RandomUtil {
 	 * @return
 	 */
 	private static int getInt(int n) {
-		return rng.nextInt(n);
+		return getRNG().nextInt(n);
 	}
 	
 	/**
@@ -71,7 +175,7 @@ public final class RandomUtil {
 	 * @return
 	 */
 	private static double getDouble() {
-		return rng.nextDouble();	
+		return getRNG().nextDouble();	
 	}
 	
 	/**
@@ -196,7 +300,7 @@ public final class RandomUtil {
 	 * @return a positive-only random double number.
 	 */
 	public static double getGaussianPositive(double center, double stdDev) {
-		Sampler sampler = NormalDistribution.of(center, stdDev).createSampler(rng);
+		Sampler sampler = NormalDistribution.of(center, stdDev).createSampler(getRNG());
 		
 		double value = 0;
 		
@@ -215,7 +319,7 @@ public final class RandomUtil {
 	 * @return a positive-only random double number.
 	 */
 	public static double getGaussian(double center, double stdDev) {
-		return NormalDistribution.of(center, stdDev).createSampler(rng).sample();
+		return NormalDistribution.of(center, stdDev).createSampler(getRNG()).sample();
 	}
 	
 	
@@ -0,0 +1,146 @@
+/*
+ * Mars Simulation Project
+ * TemporalForkJoinExecutor.java
+ * @date 2025-08-02
+ */
+package com.mars_sim.core.unit;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.TimeUnit;
+
+import com.mars_sim.core.logging.SimLogger;
+import com.mars_sim.core.time.ClockPulse;
+import com.mars_sim.core.time.Temporal;
+
+/**
+ * This is an implementation of a Temporal Executor that uses a work-stealing ForkJoinPool
+ * sized to the number of cores. Rather than one Thread per Temporal the registered targets
+ * are recursively split into sub-tasks so idle workers can steal the remaining Temporals.
+ * This keeps the thread count fixed regardless of the number of Settlements.
+ * <p>
+ * This differs from the other executors in how the threads are bounded. The "thread" executor
+ * holds one Thread per Settlement and the "shared" executor uses a cached pool that grows to
+ * one Thread per Settlement on every pulse, so a large scenario runs more Threads than cores.
+ * Here the Threads match the cores and a worker that finishes a cheap Settlement steals
+ * the Settlements still waiting, so an expensive Settlement does not leave cores idle.
+ * <p>
+ * The unit of work is a whole Settlement. Citizens, robots, vehicles and buildings of one
+ * Settlement all take and store resources in the shared Settlement inventory, and the power
+ * grid and thermal system set the state read by each Building, so they are not split into
+ * separate sub-tasks.
+ */
+public class TemporalForkJoinExecutor implements TemporalExecutor {
+
+	/**
+	 * Applies a pulse to a range of the registered Temporals. The range is split in half
+	 * until it reaches a single Temporal so the pool can balance the work.
+	 */
+	private static class PulseAction extends RecursiveAction {
+
+		private static final long serialVersionUID = 1L;
+
+		private transient List<Temporal> targets;
+		private transient ClockPulse pulse;
+		private int start;
+		private int end;
+
+		PulseAction(List<Temporal> targets, ClockPulse pulse, int start, int end) {
+			this.targets = targets;
+			this.pulse = pulse;
+			this.start = start;
+			this.end = end;
+		}
+
+		@Override
+		protected void compute() {
+			if ((end - start) == 1) {
+				applyPulse(targets.get(start), pulse);
+			}
+			else {
+				int mid = (start + end) >>> 1;
+				invokeAll(new PulseAction(targets, pulse, start, mid),
+						  new PulseAction(targets, pulse, mid, end));
+			}
+		}
+	}
+
+	private static final SimLogger logger = SimLogger.getLogger(TemporalForkJoinExecutor.class.getName());
+
+	private ForkJoinPool pool;
+	private List<Temporal> targets = new CopyOnWriteArrayList<>();
+
+	/**
+	 * Creates an executor with a parallelism matching the available processors.
+	 *
+	 * @param name Prefix for the worker thread names
+	 */
+	public TemporalForkJoinExecutor(String name) {
+		this(name, Runtime.getRuntime().availableProcessors());
+	}
+
+	/**
+	 * Creates an executor with a fixed parallelism.
+	 *
+	 * @param name Prefix for the worker thread names
+	 * @param parallelism Number of worker threads
+	 */
+	public TemporalForkJoinExecutor(String name, int parallelism) {
+		logger.config("Setting up a work-stealing pool with parallelism of " + parallelism);
+
+		pool = new ForkJoinPool(parallelism, p -> {
+					ForkJoinWorkerThread t = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(p);
+					t.setName(name + "forkjoin-" + t.getPoolIndex());
+					return t;
+				}, null, false);
+	}
+
+	/**
+	 * Applies the pulse to a single Temporal. This traps exceptions so one failing
+	 * Temporal does not stop the others in the pool.
+	 *
+	 * @param target
+	 * @param pulse
+	 */
+	private static void applyPulse(Temporal target, ClockPulse pulse) {
+		try {
+			target.timePassing(pulse);
+		}
+		catch (RuntimeException rte) {
+			logger.severe(target + ": Problem with Pulse", rte);
+		}
+	}
+
+	/**
+	 * Apply a new pulse to all the registered temporals and wait for them to complete.
+	 */
+	@Override
+	public void applyPulse(ClockPulse pulse) {
+		if (targets.isEmpty()) {
+			return;
+		}
+
+		// Blocks until every Temporal has completed so Settlements stay synch'ed
+		pool.invoke(new PulseAction(targets, pulse, 0, targets.size()));
+	}
+
+	@Override
+	public void stop() {
+		logger.info("Stopping executor");
+		pool.shutdown();
+		try {
+			pool.awaitTermination(1, TimeUnit.SECONDS);
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	@Override
+	public void addTarget(Temporal s) {
+		targets.add(s);
+	}
+}
@@ -0,0 +1,125 @@
+/*
+ * Mars Simulation Project
+ * TemporalVirtualThreadExecutor.java
+ * @date 2025-08-03
+ */
+package com.mars_sim.core.unit;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+
+import com.mars_sim.core.logging.SimLogger;
+import com.mars_sim.core.time.ClockPulse;
+import com.mars_sim.core.time.MasterClock;
+import com.mars_sim.core.time.Temporal;
+
+/**
+ * This is an implementation of a Temporal Executor that starts a new virtual Thread for
+ * each Temporal on every pulse. The threads of one pulse are owned by a scope that is closed
+ * before the pulse returns so no Thread outlives the pulse it was created for.
+ * If the MasterClock is paused, Temporals that have not yet started will skip the pulse.
+ */
+public class TemporalVirtualThreadExecutor implements TemporalExecutor {
+
+	private static final SimLogger logger = SimLogger.getLogger(TemporalVirtualThreadExecutor.class.getName());
+
+	private ThreadFactory factory;
+	private List<Temporal> targets = new CopyOnWriteArrayList<>();
+	private volatile ExecutorService activeScope;
+	private volatile boolean stopped = false;
+
+	/**
+	 * Creates an executor.
+	 *
+	 * @param name Prefix for the virtual thread names
+	 */
+	public TemporalVirtualThreadExecutor(String name) {
+		logger.config("Setting up a virtual thread per Temporal per pulse");
+
+		factory = Thread.ofVirtual().name(name + "virtual-", 0).factory();
+	}
+
+	/**
+	 * Applies the pulse to a single Temporal unless the clock has been paused.
+	 *
+	 * @param target
+	 * @param pulse
+	 * @return Was the pulse applied
+	 */
+	private static boolean applyPulse(Temporal target, ClockPulse pulse) {
+		MasterClock master = pulse.getMasterClock();
+		if ((master != null) && master.isPaused()) {
+			return false;
+		}
+		return target.timePassing(pulse);
+	}
+
+	/**
+	 * Apply a new pulse to all the registered temporals and wait for them to complete.
+	 * Any failure is reported against the Temporal that raised it.
+	 */
+	@Override
+	public void applyPulse(ClockPulse pulse) {
+		if (stopped || targets.isEmpty()) {
+			return;
+		}
+
+		List<Temporal> current = new ArrayList<>(targets);
+		List<Future<Boolean>> results = new ArrayList<>(current.size());
+
+		// Closing the scope waits for every thread to complete
+		try (ExecutorService scope = Executors.newThreadPerTaskExecutor(factory)) {
+			activeScope = scope;
+			for (Temporal t : current) {
+				results.add(scope.submit(() -> applyPulse(t, pulse)));
+			}
+		}
+		finally {
+			activeScope = null;
+		}
+
+		int failed = 0;
+		for (int i = 0; i < current.size(); i++) {
+			Future<Boolean> f = results.get(i);
+			switch (f.state()) {
+				case FAILED -> {
+					failed++;
+					logger.severe(current.get(i) + ": Problem with pulse #" + pulse.getId(),
+								f.exceptionNow());
+				}
+				case CANCELLED -> failed++;
+				default -> {
+					// Completed normally
+				}
+			}
+		}
+
+		if (failed > 0) {
+			logger.warning("Pulse #" + pulse.getId() + " not applied to " + failed
+							+ " of " + current.size() + " Temporals.");
+		}
+	}
+
+	/**
+	 * Stops the executor. Any Temporals still running a pulse are interrupted.
+	 */
+	@Override
+	public void stop() {
+		logger.info("Stopping executor");
+		stopped = true;
+		ExecutorService scope = activeScope;
+		if (scope != null) {
+			scope.shutdownNow();
+		}
+	}
+
+	@Override
+	public void addTarget(Temporal s) {
+		targets.add(s);
+	}
+}
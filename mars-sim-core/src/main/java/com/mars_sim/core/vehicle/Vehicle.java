@@ -425,6 +425,7 @@ public abstract class Vehicle extends AbstractMobileUnit
 		// Set new parked location for the vehicle.
 		setPosition(position);
 		this.facingParked = facing;
+		LocalAreaUtil.obstaclesChanged(getCoordinates());
 		
 		// Get current human crew positions relative to the vehicle.
 		Map<Person, LocalPosition> currentCrewPositions = getCurrentCrewPositions();
@@ -450,6 +451,7 @@ public abstract class Vehicle extends AbstractMobileUnit
 		// Set new parked location for the flyer.
 		setPosition(position);
 		this.facingParked = facing;
+		LocalAreaUtil.obstaclesChanged(getCoordinates());
 	}
 	
 	/**
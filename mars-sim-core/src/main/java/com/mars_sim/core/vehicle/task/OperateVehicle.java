@@ -15,6 +15,7 @@ import com.mars_sim.core.computing.ComputingLoadType;
 import com.mars_sim.core.environment.SurfaceFeatures;
 import com.mars_sim.core.environment.TerrainElevation;
 import com.mars_sim.core.logging.SimLogger;
+import com.mars_sim.core.logging.SimLogger.LogSite;
 import com.mars_sim.core.malfunction.MalfunctionManager;
 import com.mars_sim.core.map.location.Coordinates;
 import com.mars_sim.core.map.location.Direction;
@@ -56,6 +57,7 @@ public abstract class OperateVehicle extends Task {
     
 	// default logger.
 	private static final SimLogger logger = SimLogger.getLogger(OperateVehicle.class.getName());
+	private static final LogSite NOT_PILOTING_LOG = logger.createSite(Level.WARNING, 20_000);
 	
 	/** Task name */
 	private static final String NAME = Msg.getString("Task.description.operateVehicle"); //$NON-NLS-1$
@@ -189,7 +191,7 @@ public abstract class OperateVehicle extends Task {
     @Override
     protected double performMappedPhase(double time) {
     	if (getPhase() == null) {
-    	    logger.warning(worker, 20_000, "No longer piloting " + getVehicle() + ".");
+    	    NOT_PILOTING_LOG.log(worker, getVehicle(), v -> "No longer piloting " + v + ".");
     	    return time;
     	}
     	else if (MOBILIZE.equals(getPhase())) {
@@ -119,9 +119,15 @@ public class BuildingConnectorManagerTest extends TestCase {
         assertNotNull(connections7);
         assertEquals(2, connections7.size());
 
+        assertTrue("Path from building 0 to 1", manager.hasValidPath(buildings.get(0), buildings.get(1)));
+        assertEquals("Route from building 0 to 1", List.of(buildings.get(0), buildings.get(2), buildings.get(1)),
+                                manager.getRoute(buildings.get(0), buildings.get(1)));
+
         manager.removeAllConnectionsToBuilding(buildings.get(1));
         assertTrue("Nothing to building 1", manager.getConnectionsToBuilding(buildings.get(1)).isEmpty());
         assertEquals("Building 2 reduced", 1, manager.getConnectionsToBuilding(buildings.get(2)).size());
+        assertFalse("No path to building 1", manager.hasValidPath(buildings.get(0), buildings.get(1)));
+        assertTrue("Path from building 0 to 2", manager.hasValidPath(buildings.get(0), buildings.get(2)));
 
     }
 
@@ -1,5 +1,10 @@
 package com.mars_sim.core.data;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.util.Map;
 
 import junit.framework.TestCase;
@@ -51,6 +56,55 @@ public class RatingTest extends TestCase {
         assertEquals("Set base " + MOD1, (BASE + BASE2) * MOD1_VALUE, r.getScore());
     }
 
+    public void testReplaceModifier() {
+        RatingScore r = new RatingScore(BASE);
+        r.addModifier(MOD1, MOD1_VALUE);
+        r.addModifier(MOD1, MOD2_VALUE);
+
+        assertEquals("Replaced " + MOD1, BASE * MOD2_VALUE, r.getScore());
+        assertEquals("Number of modifiers", 1, r.getModifiers().size());
+        assertEquals("Single modifier", MOD2_VALUE, r.getModifier(MOD1, 1D));
+        assertEquals("Missing modifier", 1D, r.getModifier(MOD2, 1D));
+    }
+
+    public void testCopy() {
+        RatingScore r = new RatingScore(BASE);
+        r.addModifier(MOD1, MOD1_VALUE);
+
+        RatingScore copy = new RatingScore(r);
+        copy.addModifier(MOD2, MOD2_VALUE);
+
+        assertEquals("Source unchanged", BASE * MOD1_VALUE, r.getScore());
+        assertEquals("Source modifiers", 1, r.getModifiers().size());
+        assertEquals("Copy modified", BASE * MOD1_VALUE * MOD2_VALUE, copy.getScore());
+    }
+
+    public void testOutput() {
+        RatingScore r = new RatingScore(BASE);
+        assertEquals("Base only", "Score: 100 (base: 100)", r.getOutput());
+
+        r.addModifier(MOD1, MOD1_VALUE);
+        assertEquals("With modifier", "Score: 10 (base: 100, Mod1: 0.1)", r.getOutput());
+    }
+
+    public void testSerialize() throws IOException, ClassNotFoundException {
+        RatingScore r = new RatingScore("test", BASE);
+        r.addModifier(MOD1, MOD1_VALUE);
+
+        var bytes = new ByteArrayOutputStream();
+        try (var out = new ObjectOutputStream(bytes)) {
+            out.writeObject(r);
+        }
+        RatingScore loaded;
+        try (var in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            loaded = (RatingScore) in.readObject();
+        }
+
+        assertEquals("Loaded score", r.getScore(), loaded.getScore());
+        assertEquals("Loaded bases", r.getBases(), loaded.getBases());
+        assertEquals("Loaded modifiers", r.getModifiers(), loaded.getModifiers());
+    }
+
     public void testCompare() {
         RatingScore r1 = new RatingScore("test", 2);
         RatingScore r2 = new RatingScore("test", 1);
@@ -7,6 +7,7 @@
 
 package com.mars_sim.core.equipment;
 
+import java.util.Map;
 import java.util.Set;
 
 import com.mars_sim.core.AbstractMarsSimUnitTest;
@@ -70,6 +71,38 @@ public class EquipmentInventoryTest extends AbstractMarsSimUnitTest {
 		assertEquals("Resources held after bag remove.", Set.of(co2), inv.getSpecificResourceStoredIDs());
 	}
 
+	/*
+	 * Test the ledger follows the resources in the inventory and its containers.
+	 */
+	public void testResourceLedger() {
+		EquipmentInventory inv = new EquipmentInventory(settlement, CAPACITY_AMOUNT);
+		ResourceLedger ledger = inv.getResourceLedger();
+		int co2 = ResourceUtil.CO2_ID;
+		int rock = ResourceUtil.ROCK_SAMPLES_ID;
+
+		inv.storeAmountResource(co2, 100D);
+		Equipment bag = EquipmentFactory.createEquipment(EquipmentType.BAG, settlement);
+		((Container)bag).storeAmountResource(rock, 50D);
+		assertEquals("Rock before bag added.", 0D, ledger.getSpecificStored(rock));
+
+		inv.addEquipment(bag);
+		assertEquals("CO2 in ledger.", 100D, ledger.getSpecificStored(co2));
+		assertEquals("Rock in ledger.", 50D, ledger.getSpecificStored(rock));
+		assertEquals("All rock stored.", 50D, inv.getAllSpecificAmountResourceStored(rock));
+
+		bag.retrieveAmountResource(rock, 20D);
+		assertEquals("Rock after bag unload.", 30D, ledger.getSpecificStored(rock));
+
+		Map<Integer, Double> changes = ledger.publishChanges();
+		assertEquals("CO2 change.", 100D, changes.get(co2));
+		assertEquals("Rock change.", 30D, changes.get(rock));
+		assertTrue("No changes after publish.", ledger.publishChanges().isEmpty());
+
+		inv.removeEquipment(bag);
+		assertEquals("Rock after bag removed.", 0D, ledger.getSpecificStored(rock));
+		assertEquals("Rock change after bag removed.", -30D, ledger.publishChanges().get(rock));
+	}
+
 	/*
 	 * Test method loading amount resources.
 	 */
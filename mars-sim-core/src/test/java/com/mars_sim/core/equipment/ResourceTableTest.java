@@ -0,0 +1,94 @@
+package com.mars_sim.core.equipment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+class ResourceTableTest {
+
+	@Test
+	void testMissing() {
+		var table = new ResourceTable(2);
+
+		assertFalse(table.contains(300), "Empty table");
+		assertEquals(0D, table.get(300, 1), "Missing value");
+		assertTrue(table.find(300) < 0, "Missing row");
+	}
+
+	@Test
+	void testAddKeepsOrder() {
+		var table = new ResourceTable(2);
+		int[] resources = {305, 201, 520, 250, 210, 600, 202};
+		for (int r : resources) {
+			int row = table.findOrAdd(r);
+			table.setAt(row, 0, r);
+			table.setAt(row, 1, r * 2D);
+		}
+
+		assertEquals(resources.length, table.size(), "Size");
+		for (int i = 1; i < table.size(); i++) {
+			assertTrue(table.keyAt(i - 1) < table.keyAt(i), "Sorted keys");
+		}
+		for (int r : resources) {
+			assertEquals((double) r, table.get(r, 0), "Value 0 of " + r);
+			assertEquals(r * 2D, table.get(r, 1), "Value 1 of " + r);
+		}
+		assertEquals(table.find(250), table.findOrAdd(250), "Existing row");
+		assertEquals(resources.length, table.size(), "Size after existing add");
+	}
+
+	@Test
+	void testSumAndClear() {
+		var table = new ResourceTable(1);
+		table.setAt(table.findOrAdd(200), 0, 1.5D);
+		table.setAt(table.findOrAdd(210), 0, 2.5D);
+
+		assertEquals(4D, table.sum(0), "Sum");
+
+		table.clear();
+		assertEquals(0, table.size(), "Cleared size");
+		assertEquals(0D, table.sum(0), "Cleared sum");
+		assertFalse(table.contains(200), "Cleared resource");
+	}
+
+	@Test
+	void testMapView() {
+		var table = new ResourceTable(1);
+		Map<Integer, Double> view = table.asMap(0);
+		table.setAt(table.findOrAdd(220), 0, 3D);
+
+		assertEquals(1, view.size(), "View size");
+		assertEquals(3D, view.get(220), "View value");
+		assertEquals(Map.of(220, 3D), view, "View entries");
+
+		table.setAt(table.findOrAdd(210), 0, 1D);
+		assertEquals(Map.of(210, 1D, 220, 3D), view, "View follows table");
+	}
+
+	@Test
+	void testSerialize() throws IOException, ClassNotFoundException {
+		var table = new ResourceTable(2);
+		table.setAt(table.findOrAdd(230), 1, 7D);
+
+		var bytes = new ByteArrayOutputStream();
+		try (var out = new ObjectOutputStream(bytes)) {
+			out.writeObject(table);
+		}
+		ResourceTable copy;
+		try (var in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+			copy = (ResourceTable) in.readObject();
+		}
+
+		assertEquals(7D, copy.get(230, 1), "Restored value");
+		assertEquals(1, copy.size(), "Restored size");
+	}
+}
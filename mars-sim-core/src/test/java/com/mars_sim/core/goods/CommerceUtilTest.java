@@ -0,0 +1,77 @@
+package com.mars_sim.core.goods;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import com.mars_sim.core.AbstractMarsSimUnitTest;
+import com.mars_sim.core.map.location.Coordinates;
+import com.mars_sim.core.person.ai.mission.MissionLimitParameters;
+import com.mars_sim.core.person.ai.mission.MissionType;
+import com.mars_sim.core.structure.MockSettlement;
+import com.mars_sim.core.structure.Settlement;
+import com.mars_sim.core.vehicle.Vehicle;
+
+public class CommerceUtilTest extends AbstractMarsSimUnitTest {
+
+    // Enough partners to be evaluated concurrently
+    private static final int PARTNERS = 10;
+
+    /**
+     * Finds the best deal by checking every partner in turn as getBestDeal used to.
+     */
+    private static Deal getSequentialDeal(Settlement start, MissionType type, List<Settlement> partners,
+                                            Vehicle delivery) {
+        Deal bestDeal = null;
+        for (Settlement partner : partners) {
+            Deal deal = CommerceUtil.getPotentialDeal(start, type, partner, delivery);
+            if ((deal != null)
+                && ((bestDeal == null) || (bestDeal.getProfit() > deal.getProfit()))) {
+                    bestDeal = deal;
+            }
+        }
+        return bestDeal;
+    }
+
+    public void testBestDealMatchesSequential() {
+        CommerceUtil.initializeInstances(sim.getMissionManager(), sim.getUnitManager());
+
+        var goods = GoodsUtil.getGoodsList().stream()
+                        .filter(g -> g.getCategory() == GoodCategory.ITEM_RESOURCE)
+                        .limit(2)
+                        .toList();
+        var bought = goods.get(0);
+        var sold = goods.get(1);
+
+        var start = buildSettlement("Start", true);
+        start.getGoodsManager().setShoppingLists(Map.of(bought, new ShoppingItem(10, 100D)),
+                                                Map.of(sold, new ShoppingItem(5, 10D)));
+        var rover = buildRover(start, "Trader", null);
+
+        var base = MockSettlement.DEFAULT_COORDINATES;
+        List<Settlement> partners = new ArrayList<>();
+        for (int i = 0; i < PARTNERS; i++) {
+            var locn = new Coordinates(base.getPhi() + (i * 0.001D), base.getTheta() + 0.001D);
+            var partner = buildSettlement("Partner " + i, true, locn);
+            partner.getPreferences().putValue(MissionLimitParameters.INSTANCE, MissionType.TRADE.name(), 1);
+
+            // Each partner offers a different price
+            partner.getGoodsManager().setShoppingLists(Map.of(sold, new ShoppingItem(5, 20D + (i * 3))),
+                                                Map.of(bought, new ShoppingItem(10, 10D + ((i * 7) % PARTNERS))));
+            partners.add(partner);
+        }
+
+        var expected = getSequentialDeal(start, MissionType.TRADE, partners, rover);
+        assertNotNull("Sequential deal found", expected);
+
+        var found = CommerceUtil.getBestDeal(start, MissionType.TRADE, rover);
+        assertNotNull("Best deal found", found);
+        assertEquals("Same partner", expected.getBuyer(), found.getBuyer());
+        assertEquals("Same profit", expected.getProfit(), found.getProfit());
+
+        // Reused loads give the same deal
+        var repeat = CommerceUtil.getBestDeal(start, MissionType.TRADE, rover);
+        assertEquals("Repeat partner", expected.getBuyer(), repeat.getBuyer());
+        assertEquals("Repeat profit", expected.getProfit(), repeat.getProfit());
+    }
+}
@@ -3,8 +3,11 @@ package com.mars_sim.core.goods;
 
 import static org.junit.Assert.assertNotEquals;
 
+import java.util.Map;
+
 import com.mars_sim.core.AbstractMarsSimUnitTest;
 import com.mars_sim.core.goods.GoodsManager.CommerceType;
+import com.mars_sim.core.resource.ResourceUtil;
 
 public class GoodsManagerTest extends AbstractMarsSimUnitTest {
 
@@ -49,4 +52,27 @@ public class GoodsManagerTest extends AbstractMarsSimUnitTest {
         	assertNotEquals("Demand has changed after budget review", initialDemand, newDemand);
         
     }
+
+    public void testDependencyGraph() {
+        var graph = new GoodsDependencyGraph();
+        graph.addDependency(ResourceUtil.WATER_ID, ResourceUtil.ICE_ID);
+        graph.addDependency(ResourceUtil.WATER_ID, ResourceUtil.REGOLITH_ID);
+        graph.addDependency(ResourceUtil.WATER_ID, ResourceUtil.WATER_ID);
+
+        assertEquals("Inputs of water", 2, graph.getDependents(ResourceUtil.WATER_ID).length);
+        assertEquals("Inputs of ice", 0, graph.getDependents(ResourceUtil.ICE_ID).length);
+        assertEquals("Unknown good", 0, graph.getDependents(-1).length);
+    }
+
+    public void testUpdateChangedGoods() {
+        // Valuing a resource needs the manufacturing manager
+        var s = buildSettlement("goods", true);
+        var gm = s.getGoodsManager();
+
+        assertEquals("Nothing changed", 0, gm.updateChangedGoods());
+
+        gm.resourcesChanged(Map.of(ResourceUtil.OXYGEN_ID, 10D));
+        assertTrue("Changed good re-valued", gm.updateChangedGoods() >= 1);
+        assertEquals("Changes consumed", 0, gm.updateChangedGoods());
+    }
 }
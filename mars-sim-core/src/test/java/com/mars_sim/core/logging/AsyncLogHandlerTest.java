@@ -0,0 +1,78 @@
+package com.mars_sim.core.logging;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+import org.junit.jupiter.api.Test;
+
+class AsyncLogHandlerTest {
+
+	/**
+	 * Records what is written and on which thread.
+	 */
+	private static class Capture extends Handler {
+		private final List<String> messages = Collections.synchronizedList(new ArrayList<>());
+		private Thread writer;
+		private int flushes = 0;
+		private boolean closed = false;
+
+		@Override
+		public void publish(LogRecord r) {
+			writer = Thread.currentThread();
+			messages.add(r.getMessage());
+		}
+
+		@Override
+		public void flush() {
+			flushes++;
+		}
+
+		@Override
+		public void close() {
+			closed = true;
+		}
+	}
+
+	@Test
+	void testWrittenInOrder() {
+		var capture = new Capture();
+		var handler = new AsyncLogHandler(capture);
+
+		for (int i = 0; i < 100; i++) {
+			var r = new LogRecord(Level.INFO, "Message " + i);
+			r.setLoggerName("test");
+			handler.publish(r);
+		}
+		handler.flush();
+
+		assertEquals(100, capture.messages.size(), "All messages written");
+		for (int i = 0; i < 100; i++) {
+			assertEquals("Message " + i, capture.messages.get(i), "Message order " + i);
+		}
+		assertNotEquals(Thread.currentThread(), capture.writer, "Written on another thread");
+		assertTrue(capture.flushes > 0, "Target flushed");
+		assertTrue(AsyncLogHandler.getWritten() >= 100, "Written count");
+	}
+
+	@Test
+	void testClose() {
+		var capture = new Capture();
+		var handler = new AsyncLogHandler(capture);
+
+		var r = new LogRecord(Level.WARNING, "Last");
+		r.setLoggerName("test");
+		handler.publish(r);
+		handler.close();
+
+		assertEquals(List.of("Last"), capture.messages, "Pending written on close");
+		assertTrue(capture.closed, "Target closed");
+	}
+}
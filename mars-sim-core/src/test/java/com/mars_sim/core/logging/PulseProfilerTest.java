@@ -0,0 +1,47 @@
+package com.mars_sim.core.logging;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import com.mars_sim.core.logging.PulseProfiler.Category;
+
+class PulseProfilerTest {
+
+	@AfterEach
+	void tearDown() {
+		PulseProfiler.setEnabled(false);
+	}
+
+	@Test
+	void testDisabled() {
+		PulseProfiler.setEnabled(false);
+		long start = PulseProfiler.start();
+		assertEquals(0L, start, "Disabled start");
+
+		PulseProfiler.stop(Category.PERSON, null, start);
+		assertTrue(PulseProfiler.getCategoryStats().isEmpty(), "Nothing recorded when disabled");
+	}
+
+	@Test
+	void testRecording() {
+		PulseProfiler.setEnabled(true);
+		for (int i = 0; i < 10; i++) {
+			PulseProfiler.stop(Category.PERSON, null, PulseProfiler.start());
+		}
+		PulseProfiler.stop(Category.BUILDING, null, PulseProfiler.start());
+
+		var stats = PulseProfiler.getCategoryStats();
+		assertEquals(2, stats.size(), "Categories recorded");
+		var person = stats.stream().filter(s -> s.category() == Category.PERSON).findFirst().orElseThrow();
+		assertEquals(10, person.count(), "Person pulses");
+		assertTrue(person.p50() <= person.p99(), "Median below p99");
+		assertTrue(person.p99() <= person.max(), "p99 no more than max");
+		assertEquals(PulseProfiler.ALL, person.owner(), "Owner of unowned pulses");
+
+		PulseProfiler.reset();
+		assertTrue(PulseProfiler.getOwnerStats().isEmpty(), "Reset clears timings");
+	}
+}
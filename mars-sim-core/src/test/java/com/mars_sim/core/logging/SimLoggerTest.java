@@ -0,0 +1,154 @@
+package com.mars_sim.core.logging;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.mars_sim.core.Entity;
+import com.mars_sim.core.UnitIdentifer;
+
+class SimLoggerTest {
+
+	private static final String NAME = "com.mars_sim.core.logging.SimLoggerTest";
+
+	private final List<String> messages = new ArrayList<>();
+	private final Handler handler = new Handler() {
+		@Override
+		public void publish(LogRecord r) {
+			messages.add(r.getMessage());
+		}
+
+		@Override
+		public void flush() {
+			// Nothing buffered
+		}
+
+		@Override
+		public void close() {
+			// Nothing to close
+		}
+	};
+
+	@BeforeEach
+	void setUp() {
+		Logger.getLogger(NAME).addHandler(handler);
+	}
+
+	@AfterEach
+	void tearDown() {
+		Logger.getLogger(NAME).removeHandler(handler);
+	}
+
+	@Test
+	void testThrottledCallSite() {
+		var logger = SimLogger.getLogger(NAME);
+		for (int i = 0; i < 5; i++) {
+			logger.warning(null, 60_000, "Repeated " + i);
+		}
+
+		assertEquals(1, messages.size(), "Only first message logged");
+		assertTrue(messages.get(0).endsWith("Repeated 0"), "First message");
+	}
+
+	@Test
+	void testLogSite() {
+		var site = SimLogger.getLogger(NAME).createSite(Level.WARNING, 60_000);
+		int[] built = {0};
+		for (int i = 0; i < 5; i++) {
+			site.log(null, () -> "Site " + (built[0]++));
+		}
+
+		assertEquals(1, messages.size(), "Only first message logged");
+		assertEquals(1, built[0], "Blocked messages not built");
+	}
+
+	@SuppressWarnings("serial")
+	private static Entity createActor(String name) {
+		return new Entity() {
+			@Override
+			public String getName() {
+				return name;
+			}
+
+			@Override
+			public String getContext() {
+				return null;
+			}
+		};
+	}
+
+	@Test
+	void testLogSiteActors() {
+		var site = SimLogger.getLogger(NAME).createSite(Level.WARNING, 60_000);
+		var first = createActor("First");
+		var second = createActor("Second");
+		for (int i = 0; i < 3; i++) {
+			site.log(first, () -> "First actor");
+			site.log(second, () -> "Second actor");
+		}
+
+		// An actor with the same name is the same actor
+		site.log(createActor("First"), () -> "Copy of first");
+
+		assertEquals(2, messages.size(), "One message per actor");
+	}
+
+	@SuppressWarnings("serial")
+	private static Entity createUnit(int id) {
+		return new UnitIdentifer() {
+			@Override
+			public int getIdentifier() {
+				return id;
+			}
+
+			@Override
+			public String getName() {
+				return "Unit " + id;
+			}
+
+			@Override
+			public String getContext() {
+				return null;
+			}
+		};
+	}
+
+	@Test
+	void testLogSiteUnits() {
+		var site = SimLogger.getLogger(NAME).createSite(Level.WARNING, 60_000);
+		int units = 100;
+		for (int i = 0; i < units; i++) {
+			site.log(createUnit(i), i, n -> "Unit message " + n);
+		}
+
+		// Same identifiers are blocked even if a different object
+		for (int i = 0; i < units; i++) {
+			site.log(createUnit(i), "Repeat");
+		}
+
+		assertEquals(units, messages.size(), "One message per unit");
+		assertTrue(messages.get(units - 1).endsWith("Unit message " + (units - 1)), "Last message");
+	}
+
+	@Test
+	void testSupplierThrottled() {
+		var logger = SimLogger.getLogger(NAME);
+		int[] built = {0};
+		for (int i = 0; i < 3; i++) {
+			logger.info(null, 60_000, () -> "Lazy " + (built[0]++));
+		}
+
+		assertEquals(1, messages.size(), "Only first message logged");
+		assertEquals(1, built[0], "Blocked messages not built");
+	}
+}
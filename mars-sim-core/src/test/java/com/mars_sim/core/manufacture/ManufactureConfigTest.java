@@ -76,6 +76,37 @@ public class ManufactureConfigTest {
 
     }
 
+    @Test
+    void testProcessesWithOutput() {
+        for(var p : manuConfig.getManufactureProcessList()) {
+            for(var o : p.getOutputList()) {
+                var expected = manuConfig.getManufactureProcessList().stream()
+                                .filter(m -> m.isOutput(o.getName()))
+                                .toList();
+                assertEquals("Processes producing " + o.getName(), expected,
+                                manuConfig.getManufactureProcessesWithOutput(o.getName().toUpperCase()));
+            }
+        }
+        assertTrue("No processes for unknown output",
+                        manuConfig.getManufactureProcessesWithOutput("Not exists").isEmpty());
+    }
+
+    @Test
+    void testProcessesForTechSkillLevel() {
+        Set<Tooling> tools = Set.of(manuConfig.getTooling(ManufactureConfig.PRINTER));
+        for(int skill = 0; skill <= 3; skill++) {
+            final int s = skill;
+            var expected = manuConfig.getManufactureProcessesForTechLevel(2).stream()
+                                .filter(p -> p.getSkillLevelRequired() <= s)
+                                .filter(p -> p.isSupported(tools))
+                                .toList();
+            var found = manuConfig.getManufactureProcessesForTechSkillLevel(2, skill, tools);
+            assertEquals("Processes for skill " + skill, expected, found);
+            assertTrue("Selection is reused for skill " + skill,
+                        found == manuConfig.getManufactureProcessesForTechSkillLevel(2, skill, tools));
+        }
+    }
+
     @Test
     void testPlasticBottle() {
         // Build mapped key on process name
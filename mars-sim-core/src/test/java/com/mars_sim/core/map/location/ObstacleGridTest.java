@@ -0,0 +1,85 @@
+package com.mars_sim.core.map.location;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class ObstacleGridTest {
+
+	private static final LocalPosition WEST = new LocalPosition(-20D, 0D);
+	private static final LocalPosition EAST = new LocalPosition(20D, 0D);
+
+	@Test
+	void testEmpty() {
+		var grid = new ObstacleGrid();
+		grid.refresh(List.of());
+
+		assertTrue(grid.isLineFree(WEST, EAST), "Empty grid is clear");
+		var path = grid.findPath(WEST, EAST);
+		assertEquals(List.of(WEST, EAST), path, "Direct path");
+	}
+
+	@Test
+	void testBlockedLine() {
+		var grid = new ObstacleGrid();
+		grid.refresh(List.of(new BoundedObject(0D, 0D, 10D, 20D, 0D)));
+
+		assertFalse(grid.isLineFree(WEST, EAST), "Line through obstacle");
+		assertTrue(grid.isLineFree(new LocalPosition(-20D, 15D), new LocalPosition(20D, 15D)), "Line past obstacle");
+		assertFalse(grid.isPositionFree(LocalPosition.DEFAULT_POSITION), "Centre of obstacle");
+	}
+
+	@Test
+	void testRotatedObstacle() {
+		var grid = new ObstacleGrid();
+		grid.refresh(List.of(new BoundedObject(0D, 0D, 2D, 20D, 90D)));
+
+		// Rotated so the length lies along X
+		assertFalse(grid.isPositionFree(new LocalPosition(8D, 0D)), "Along rotated length");
+		assertTrue(grid.isPositionFree(new LocalPosition(0D, 8D)), "Across rotated width");
+	}
+
+	@Test
+	void testPathAround() {
+		var grid = new ObstacleGrid();
+		grid.refresh(List.of(new BoundedObject(0D, 0D, 10D, 20D, 0D)));
+
+		var path = grid.findPath(WEST, EAST);
+		assertNotNull(path, "Path found");
+		assertTrue(path.size() > 2, "Path has waypoints");
+		assertEquals(WEST, path.get(0), "Path starts at start");
+		assertEquals(EAST, path.get(path.size() - 1), "Path ends at destination");
+		for (int i = 1; i < path.size(); i++) {
+			assertTrue(grid.isLineFree(path.get(i - 1), path.get(i)), "Leg " + i + " clear");
+		}
+	}
+
+	@Test
+	void testMovedObstacle() {
+		var grid = new ObstacleGrid();
+		var moving = new BoundedObject(0D, 0D, 4D, 4D, 0D);
+		var obstacles = new ArrayList<LocalBoundedObject>();
+		obstacles.add(moving);
+		obstacles.add(new BoundedObject(50D, 50D, 4D, 4D, 0D));
+		grid.refresh(obstacles);
+		assertFalse(grid.isLineFree(WEST, EAST), "Blocked before move");
+
+		// Replace with one at a new position
+		obstacles.set(0, new BoundedObject(0D, 30D, 4D, 4D, 0D));
+		grid.refresh(obstacles);
+		assertTrue(grid.isLineFree(WEST, EAST), "Clear after move");
+		assertFalse(grid.isPositionFree(new LocalPosition(0D, 30D)), "New position blocked");
+
+		// Far away obstacle grows the grid
+		obstacles.add(new BoundedObject(500D, 0D, 4D, 4D, 0D));
+		grid.refresh(obstacles);
+		assertFalse(grid.isPositionFree(new LocalPosition(500D, 0D)), "Grown grid blocked");
+		assertFalse(grid.isPositionFree(new LocalPosition(0D, 30D)), "Old obstacles kept after grow");
+	}
+}
@@ -1,6 +1,7 @@
 package com.mars_sim.core.map.location;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 
 import org.junit.jupiter.api.Test;
 
@@ -22,6 +23,30 @@ class SurfaceManagerTest {
     }
 
     
+    @Test
+    void testGetFeature() {
+        var mgr = new SurfaceManager<TestFeature>();
+        var first = new TestFeature(new Coordinates(1D, 2D));
+        mgr.addFeature(first);
+        mgr.addFeature(new TestFeature(new Coordinates(1D, 2D)));
+        mgr.addFeature(new TestFeature(new Coordinates(2D, 1D)));
+
+        assertEquals("Feature at location", first, mgr.getFeature(new Coordinates(1D, 2D)));
+        assertNull("No feature at location", mgr.getFeature(new Coordinates(1D, 1D)));
+    }
+
+    @Test
+    void testGetFeaturesAcrossMeridian() {
+        var mgr = new SurfaceManager<TestFeature>();
+        double offset = 0.01;
+        mgr.addFeature(new TestFeature(new Coordinates(Math.PI/2, offset)));
+        mgr.addFeature(new TestFeature(new Coordinates(Math.PI/2, (Math.PI * 2) - offset)));
+        mgr.addFeature(new TestFeature(new Coordinates(Math.PI/2, Math.PI)));
+
+        var found = mgr.getFeatures(new Coordinates(Math.PI/2, 0D), offset * 2);
+        assertEquals("Either side of meridian", 2, found.size());
+    }
+
     @Test
     void testGetFeaturesCenterHorizontal() {
 
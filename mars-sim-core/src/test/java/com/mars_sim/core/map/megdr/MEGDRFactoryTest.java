@@ -16,6 +16,8 @@ class MEGDRFactoryTest {
                                     + MEGDRFactory.SEPARATOR + " " + MEGDRMapReader.DEFAULT_MEGDR_FILE);
         MEGDRMapReader arrayReader = MEGDRFactory.createReader(MEGDRFactory.ARRAY_READER
         						+ " " + MEGDRFactory.SEPARATOR  + MEGDRMapReader.DEFAULT_MEGDR_FILE + " ");
+        MEGDRMapReader mappedReader = MEGDRFactory.createReader(MEGDRFactory.MAPPED_READER
+                                    + MEGDRFactory.SEPARATOR + MEGDRMapReader.DEFAULT_MEGDR_FILE);
         
         for (int i = 0; i < 1000; i++) {
             double phi = RandomUtil.getRandomDouble(Math.PI);
@@ -23,9 +25,14 @@ class MEGDRFactoryTest {
             short memoryElevation = memoryReader.getElevation(phi, theta);
             short directElevation = directReader.getElevation(phi, theta);
             short arrayElevation = arrayReader.getElevation(phi, theta);
+            short mappedElevation = mappedReader.getElevation(phi, theta);
 
             assertEquals("Array & Direct elevation", arrayElevation, directElevation);
             assertEquals("Array & Memory elevation", arrayElevation, memoryElevation);
+            assertEquals("Array & Mapped elevation", arrayElevation, mappedElevation);
         }
+
+        MEGDRCachedReader cached = (MEGDRCachedReader) memoryReader;
+        assertEquals("Memory cache requests", 1000, cached.getHits() + cached.getMisses());
     }
 }
@@ -57,4 +57,38 @@ public class MineralMapTest extends AbstractMarsSimUnitTest {
         assertEquals("Filtered 2 Concentrations", 1, results.size());
         assertEquals("Filtered Type2 Concentrations", 20, results.get(0).getConcentration(type2.getName()));
     }
+
+    public void testRaster() {
+        var config = simConfig.getMineralMapConfiguration();
+        var minerals = config.getMineralTypes();
+        var type1 = minerals.get(0);
+        var type2 = minerals.get(1);
+
+        MineralMap newMap = new MineralMap(config);
+
+        // Centre of a finest cell so a deposit 1km away is in the same cell at every level
+        var grid = new MineralMap(config).getRaster();
+        var center = grid.getCellCenter(grid.getLevels() - 1, 186, 148);
+        newMap.addMineral(center, type1, 10);
+        newMap.addMineral(center.getNewLocation(new Direction(0.1), 1D), type1, 30);
+
+        var raster = newMap.getRaster();
+        int idx1 = raster.getMinerals().indexOf(type1.getName());
+        int idx2 = raster.getMinerals().indexOf(type2.getName());
+        for (int l = 0; l < raster.getLevels(); l++) {
+            int row = raster.getRow(l, center.getPhi());
+            int col = raster.getColumn(l, center.getTheta());
+            assertEquals("Type1 highest at level " + l, 30, raster.getConcentration(l, idx1, row, col));
+            assertEquals("Type2 empty at level " + l, 0, raster.getConcentration(l, idx2, row, col));
+        }
+
+        // Adding to a deposit keeps the raster up to date
+        newMap.addMineral(center, type2, 20);
+        for (int l = 0; l < raster.getLevels(); l++) {
+            int row = raster.getRow(l, center.getPhi());
+            int col = raster.getColumn(l, center.getTheta());
+            assertEquals("Type1 refreshed at level " + l, 30, raster.getConcentration(l, idx1, row, col));
+            assertEquals("Type2 refreshed at level " + l, 20, raster.getConcentration(l, idx2, row, col));
+        }
+    }
 }
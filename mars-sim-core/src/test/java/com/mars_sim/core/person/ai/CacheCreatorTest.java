@@ -84,4 +84,24 @@ class CacheCreatorTest {
             Assertions.assertEquals(1.0, cacheCreator.getCache().size());
         }
     }
+
+    @Test
+    public void testSelectAfterRemove() {
+        cacheCreator.put(rating1);
+        cacheCreator.put(rating2);
+
+        try (MockedStatic<RandomUtil> randomUtilStatic =
+                     mockStatic(RandomUtil.class)) {
+            randomUtilStatic.when(() -> RandomUtil
+                    .getRandomDouble(8.0)).thenReturn(4.0);
+            randomUtilStatic.when(() -> RandomUtil
+                    .getRandomDouble(3.0)).thenReturn(0.5);
+
+            Assertions.assertEquals(rating1, cacheCreator.getRandomSelection());
+            Assertions.assertEquals(rating2, cacheCreator.getRandomSelection());
+            Assertions.assertTrue(cacheCreator.isEmpty());
+            Assertions.assertTrue(cacheCreator.getCache().isEmpty());
+            Assertions.assertNull(cacheCreator.getRandomSelection());
+        }
+    }
 }
\ No newline at end of file
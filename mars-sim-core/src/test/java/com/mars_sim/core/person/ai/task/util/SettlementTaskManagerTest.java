@@ -74,6 +74,19 @@ public class SettlementTaskManagerTest extends AbstractMarsSimUnitTest {
         }
     };
 
+    // Test Meta that scores a Person from the shared Settlement score
+    private static class SharedMetaTask extends TestMetaTask {
+        protected SharedMetaTask(TaskScope scope) {
+            super(scope, false);
+        }
+
+        @Override
+        public RatingScore assessPersonSuitability(SettlementTask t, Person p) {
+            var shared = t.useSharedScore(p.getAssociatedSettlement());
+            return (shared != null ? new RatingScore(shared) : t.getScore());
+        }
+    }
+
     private static final List<SettlementMetaTask> SCOPE_METATTASKS = List.of(
                             new TestMetaTask(TaskScope.ANY_HOUR, false),
                             new TestMetaTask(TaskScope.WORK_HOUR, false),
@@ -156,6 +169,44 @@ public class SettlementTaskManagerTest extends AbstractMarsSimUnitTest {
         }
     }
 
+    /**
+     * Check the Settlement part of the score is shared by the Workers
+     */
+    public void testSharedScore() {
+        var s = buildSettlement();
+        var manager = buildManager(s, List.of(new SharedMetaTask(TaskScope.ANY_HOUR)));
+        Person p1 = buildPerson("Worker1", s);
+        Person p2 = buildPerson("Worker2", s);
+
+        manager.getTasks(p1);
+        manager.getTasks(p2);
+        for (var t : manager.getAvailableTasks()) {
+            var shared = t.getSharedScore(s);
+            assertNotNull("Shared score " + t.getName(), shared);
+            assertEquals("Shared score value " + t.getName(), t.getScore().getScore(), shared.getScore());
+        }
+        assertEquals("Shared scores reused", 2D, manager.getSharedScoreReuse());
+
+        // Reuse is kept over a refresh
+        manager.timePassing();
+        manager.getTasks(p1);
+        assertEquals("Shared scores reused after refresh", 1.5D, manager.getSharedScoreReuse());
+    }
+
+    /**
+     * Check that a meta task that does not use the shared score is not counted as reuse
+     */
+    public void testSharedScoreNotUsed() {
+        var s = buildSettlement();
+        var manager = buildManager(s, SCOPE_METATTASKS);
+        Person p1 = buildPerson("Worker1", s);
+        Person p2 = buildPerson("Worker2", s);
+
+        manager.getTasks(p1);
+        manager.getTasks(p2);
+        assertEquals("Shared scores not reused", 0D, manager.getSharedScoreReuse());
+    }
+
     /**
      * Check that a Peron can reject tasks
      */
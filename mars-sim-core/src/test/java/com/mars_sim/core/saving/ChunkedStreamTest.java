@@ -0,0 +1,113 @@
+package com.mars_sim.core.saving;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.RandomAccessFile;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ChunkedStreamTest {
+
+    private static final int BLOCK_SIZE = 1024;
+
+    private File file;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        file = File.createTempFile("chunked-test", ".sim");
+    }
+
+    @AfterEach
+    void tearDown() {
+        file.delete();
+    }
+
+    private static List<Integer> createData(int size) {
+        List<Integer> result = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            result.add(i * 7);
+        }
+        return result;
+    }
+
+    private void writeFile(List<Integer> first, int[] second) throws IOException {
+        var cos = new ChunkedOutputStream(new FileOutputStream(file), BLOCK_SIZE, 3);
+        try (var oos = new ObjectOutputStream(cos)) {
+            oos.flush();
+            cos.startSection("first");
+            oos.writeObject(first);
+            oos.flush();
+            cos.startSection("second");
+            oos.writeObject(second);
+        }
+    }
+
+    @Test
+    void testRoundTrip() throws Exception {
+        var first = createData(5000);
+        var second = new int[] {1, 2, 3};
+        writeFile(first, second);
+
+        assertTrue(ChunkedFormat.isChunked(file), "File is chunked");
+        try (var cis = new ChunkedInputStream(file, 2);
+                var ois = new ObjectInputStream(cis)) {
+            var contents = cis.getContents();
+            assertTrue(contents.blocks().size() > 1, "Multiple blocks");
+            assertEquals(2, contents.sections().size(), "Sections");
+            assertEquals("first", contents.sections().get(0).name(), "First section");
+
+            assertEquals(first, ois.readObject(), "First object");
+            assertArrayEquals(second, (int[]) ois.readObject(), "Second object");
+        }
+    }
+
+    @Test
+    void testGzipNotChunked() throws IOException {
+        try (var oos = new ObjectOutputStream(new GZIPOutputStream(new FileOutputStream(file)))) {
+            oos.writeObject("Old format");
+        }
+        assertFalse(ChunkedFormat.isChunked(file), "GZIP file");
+    }
+
+    @Test
+    void testCorruptBlock() throws Exception {
+        writeFile(createData(5000), new int[] {1});
+
+        // Find the last block and damage it
+        ChunkedFormat.Block last;
+        try (var cis = new ChunkedInputStream(file, 1)) {
+            var blocks = cis.getContents().blocks();
+            last = blocks.get(blocks.size() - 1);
+        }
+        try (var raf = new RandomAccessFile(file, "rw")) {
+            long pos = last.fileOffset() + last.compressedLength() / 2;
+            raf.seek(pos);
+            int b = raf.read();
+            raf.seek(pos);
+            raf.write(b ^ 0xFF);
+        }
+
+        IOException e = assertThrows(IOException.class, () -> {
+            try (var cis = new ChunkedInputStream(file, 2);
+                    var ois = new ObjectInputStream(cis)) {
+                ois.readObject();
+                ois.readObject();
+            }
+        });
+        assertTrue(e.getMessage().contains("corrupt"), "Corruption reported");
+    }
+}
@@ -0,0 +1,82 @@
+package com.mars_sim.core.saving;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class SaveSnapshotTest {
+
+    private File file;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        file = File.createTempFile("snapshot-test", ".sim");
+    }
+
+    @AfterEach
+    void tearDown() {
+        file.delete();
+    }
+
+    private static SaveSnapshot capture(List<Integer> first, int[] second) throws IOException {
+        var snapshot = new SaveSnapshot(512);
+        try (var oos = new ObjectOutputStream(snapshot)) {
+            oos.flush();
+            snapshot.startSection("first");
+            oos.writeObject(first);
+            oos.flush();
+            snapshot.startSection("second");
+            oos.writeObject(second);
+        }
+        return snapshot;
+    }
+
+    @Test
+    void testBackgroundWrite() throws Exception {
+        List<Integer> first = new ArrayList<>();
+        for (int i = 0; i < 3000; i++) {
+            first.add(i * 3);
+        }
+        var second = new int[] {4, 5, 6};
+        var snapshot = capture(first, second);
+
+        // Changes after the capture are not in the snapshot
+        first.add(-1);
+
+        var writer = new SnapshotWriter();
+        assertTrue(writer.write(snapshot, file, 12).get(), "Write succeeded");
+        assertEquals(12, writer.getLastPauseTime(), "Pause time");
+        assertEquals(snapshot.getSize(), writer.getLastSize(), "Snapshot size");
+
+        try (var cis = new ChunkedInputStream(file, 2);
+                var ois = new ObjectInputStream(cis)) {
+            var contents = cis.getContents();
+            assertEquals(snapshot.getSize(), contents.getRawSize(), "Raw size");
+            assertEquals("first", contents.sections().get(0).name(), "First section");
+            assertEquals("second", contents.sections().get(1).name(), "Second section");
+
+            @SuppressWarnings("unchecked")
+            var readFirst = (List<Integer>) ois.readObject();
+            assertEquals(first.subList(0, 3000), readFirst, "First object");
+            assertArrayEquals(second, (int[]) ois.readObject(), "Second object");
+        }
+    }
+
+    @Test
+    void testClosedSnapshot() throws IOException {
+        var snapshot = capture(List.of(1), new int[0]);
+        assertThrows(IOException.class, () -> snapshot.write(1));
+    }
+}
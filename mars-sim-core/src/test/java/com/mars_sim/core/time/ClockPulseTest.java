@@ -0,0 +1,24 @@
+package com.mars_sim.core.time;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class ClockPulseTest {
+
+    @Test
+    void testCoalesce() {
+        var earlier = new ClockPulse(1, 0.5D, null, null, true, false, true, false);
+        var later = new ClockPulse(2, 0.25D, null, null, false, false, false, true);
+
+        var combined = later.coalesce(earlier);
+        assertEquals(2, combined.getId(), "Latest pulse id");
+        assertEquals(0.75D, combined.getElapsed(), 0.000001D, "Combined elapsed");
+        assertTrue(combined.isNewSol(), "New sol retained");
+        assertFalse(combined.isNewHalfSol(), "New half sol");
+        assertTrue(combined.isNewIntMillisol(), "New msol retained");
+        assertTrue(combined.isNewHalfMillisol(), "New half msol");
+    }
+}
@@ -1,7 +1,12 @@
 package com.mars_sim.core.tool;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertTrue;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
 import org.apache.commons.math3.distribution.NormalDistribution;
 import org.apache.commons.rng.UniformRandomProvider;
 import org.apache.commons.rng.sampling.distribution.PoissonSampler;
@@ -46,6 +51,60 @@ class RandomUtilTest {
     	}
     }
     
+    @Test
+    void testSeededStreams() {
+        var first = RandomUtil.createStream(10);
+        var repeat = RandomUtil.createStream(10);
+        var other = RandomUtil.createStream(11);
+
+        long value = first.nextLong();
+        assertEquals("Same key gives same stream", value, repeat.nextLong());
+        assertNotEquals("Different key gives different stream", value, other.nextLong());
+    }
+
+    @Test
+    void testBoundStream() throws InterruptedException, ExecutionException {
+        var expected = RandomUtil.createStream(20);
+        int expectedInt = expected.nextInt(1000);
+
+        // Another thread drawing from a bound stream sees the same numbers
+        int found = CompletableFuture.supplyAsync(() -> {
+                        var previous = RandomUtil.useStream(RandomUtil.createStream(20));
+                        try {
+                            return RandomUtil.getRandomInt(999);
+                        }
+                        finally {
+                            RandomUtil.useStream(previous);
+                        }
+                    }).get();
+        assertEquals("Bound stream used", expectedInt, found);
+    }
+
+    @Test
+    void testNamedStreams() {
+        var first = RandomUtil.createStream("weather");
+        long value = first.nextLong();
+        assertEquals("Same name gives same stream", value, RandomUtil.createStream("weather").nextLong());
+        assertNotEquals("Different name gives different stream", value,
+                            RandomUtil.createStream("orbitInfo").nextLong());
+
+        // Run with a named stream and return to the thread's own stream
+        int expected = RandomUtil.createStream("weather").nextInt(1000);
+        int[] found = new int[1];
+        var own = RandomUtil.getRNG();
+        RandomUtil.runWithStream(RandomUtil.createStream("weather"),
+                            () -> found[0] = RandomUtil.getRandomInt(999));
+        assertEquals("Named stream used", expected, found[0]);
+        assertEquals("Own stream restored", own, RandomUtil.getRNG());
+    }
+
+    @Test
+    void testStreamSplit() {
+        var parent = new RandomStream(30);
+        var child = parent.split();
+        assertNotEquals("Split stream is different", parent.nextLong(), child.nextLong());
+    }
+
     @Test
     void testNormalDist() {
     	NormalDistribution normal = new NormalDistribution(10, 1);
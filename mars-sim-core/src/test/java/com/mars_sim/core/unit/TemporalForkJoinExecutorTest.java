@@ -0,0 +1,102 @@
+package com.mars_sim.core.unit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import com.mars_sim.core.time.ClockPulse;
+import com.mars_sim.core.time.Temporal;
+
+class TemporalForkJoinExecutorTest {
+
+    /**
+     * Simple Temporal that counts the pulses applied.
+     */
+    private static class CountingTemporal implements Temporal {
+        private AtomicInteger count = new AtomicInteger();
+        private boolean fail;
+        private Set<String> threads;
+
+        CountingTemporal(boolean fail) {
+            this.fail = fail;
+        }
+
+        @Override
+        public boolean timePassing(ClockPulse pulse) {
+            count.incrementAndGet();
+            if (threads != null) {
+                threads.add(Thread.currentThread().getName());
+            }
+            if (fail) {
+                throw new IllegalStateException("Failing temporal");
+            }
+            return true;
+        }
+    }
+
+    private static ClockPulse createPulse(long id) {
+        return new ClockPulse(id, 1D, null, null, false, false, true, false);
+    }
+
+    @Test
+    void testAllTargetsPulsed() {
+        var exec = new TemporalForkJoinExecutor("Test-", 3);
+        List<CountingTemporal> targets = new ArrayList<>();
+        for (int i = 0; i < 17; i++) {
+            var t = new CountingTemporal(false);
+            targets.add(t);
+            exec.addTarget(t);
+        }
+
+        for (int p = 1; p <= 5; p++) {
+            exec.applyPulse(createPulse(p));
+        }
+        exec.stop();
+
+        for (var t : targets) {
+            assertEquals(5, t.count.get(), "Pulses applied");
+        }
+    }
+
+    @Test
+    void testThreadsBounded() {
+        int parallelism = 2;
+        var exec = new TemporalForkJoinExecutor("Test-", parallelism);
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+        for (int i = 0; i < 20; i++) {
+            var t = new CountingTemporal(false);
+            t.threads = threads;
+            exec.addTarget(t);
+        }
+
+        for (int p = 1; p <= 5; p++) {
+            exec.applyPulse(createPulse(p));
+        }
+        exec.stop();
+
+        // The caller may help with the work as well as the pool workers
+        assertTrue(threads.size() <= parallelism + 1, "Threads used " + threads);
+    }
+
+    @Test
+    void testFailureIsolated() {
+        var exec = new TemporalForkJoinExecutor("Test-", 2);
+        var good = new CountingTemporal(false);
+        var bad = new CountingTemporal(true);
+        exec.addTarget(bad);
+        exec.addTarget(good);
+
+        exec.applyPulse(createPulse(1));
+        exec.stop();
+
+        assertEquals(1, bad.count.get(), "Failing temporal pulsed");
+        assertEquals(1, good.count.get(), "Good temporal pulsed");
+    }
+}
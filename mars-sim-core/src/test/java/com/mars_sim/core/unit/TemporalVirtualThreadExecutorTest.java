@@ -0,0 +1,58 @@
+package com.mars_sim.core.unit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import com.mars_sim.core.time.ClockPulse;
+import com.mars_sim.core.time.Temporal;
+
+class TemporalVirtualThreadExecutorTest {
+
+    private static ClockPulse createPulse(long id) {
+        return new ClockPulse(id, 1D, null, null, false, false, true, false);
+    }
+
+    @Test
+    void testAllTargetsPulsed() {
+        var exec = new TemporalVirtualThreadExecutor("Test-");
+        var count = new AtomicInteger();
+        for (int i = 0; i < 200; i++) {
+            exec.addTarget(p -> count.incrementAndGet() > 0);
+        }
+
+        exec.applyPulse(createPulse(1));
+        exec.applyPulse(createPulse(2));
+
+        assertEquals(400, count.get(), "Pulses applied");
+    }
+
+    @Test
+    void testFailureIsolated() {
+        var exec = new TemporalVirtualThreadExecutor("Test-");
+        var count = new AtomicInteger();
+        Temporal bad = p -> {
+            throw new IllegalStateException("Failing temporal");
+        };
+        exec.addTarget(bad);
+        exec.addTarget(p -> count.incrementAndGet() > 0);
+
+        exec.applyPulse(createPulse(1));
+
+        assertEquals(1, count.get(), "Good temporal pulsed");
+    }
+
+    @Test
+    void testStopped() {
+        var exec = new TemporalVirtualThreadExecutor("Test-");
+        var count = new AtomicInteger();
+        exec.addTarget(p -> count.incrementAndGet() > 0);
+
+        exec.stop();
+        exec.applyPulse(createPulse(1));
+
+        assertEquals(0, count.get(), "No pulse after stop");
+    }
+}
@@ -42,6 +42,8 @@ public class MarsProjectHeadless {
     private static final String DISPLAYHELP = "help";
     private static final String RESETADMIN = "resetadmin";
     private static final String LOAD_ARG = "load";
+    private static final String UNPACED_ARG = "unpaced";
+    private static final String ENDSOL_ARG = "endsol";
 
     /** initialized logger for this class. */
     private static final Logger logger = Logger.getLogger(MarsProjectHeadless.class.getName());
@@ -95,6 +97,10 @@ public class MarsProjectHeadless {
         options.addOptionGroup(remoteGrp);
         options.addOption(Option.builder(RESETADMIN)
                 .desc("Reset the internal admin password").get());
+        options.addOption(Option.builder(UNPACED_ARG).argName("millisols per pulse").hasArg()
+                .desc("Run the clock as fast as possible with a fixed pulse width").get());
+        options.addOption(Option.builder(ENDSOL_ARG).argName("mission sol").hasArg()
+                .desc("Exit after this mission sol when running unpaced").get());
 
         CommandLineParser commandline = new DefaultParser();
         boolean resetAdmin = false;
@@ -120,6 +126,16 @@ public class MarsProjectHeadless {
             if (line.hasOption(RESETADMIN)) {
                 resetAdmin = true;
             }
+            if (line.hasOption(UNPACED_ARG)) {
+                int endSol = 0;
+                if (line.hasOption(ENDSOL_ARG)) {
+                    endSol = Integer.parseInt(line.getOptionValue(ENDSOL_ARG));
+                }
+                builder.setUnpaced(Float.parseFloat(line.getOptionValue(UNPACED_ARG)), endSol);
+            }
+            else if (line.hasOption(ENDSOL_ARG)) {
+                throw new IllegalArgumentException(ENDSOL_ARG + " requires " + UNPACED_ARG);
+            }
             if (line.hasOption(LOAD_ARG)) {
                 String simFile = line.getOptionValue(LOAD_ARG);
                 if (simFile == null) {
@@ -527,7 +527,7 @@ public class MainWindow
 		statusBar.addRightComponent(memoryBar, false);
 
 		// Add this class to the master clock's listener
-		masterClock.addClockListener(this, 1000L);
+		masterClock.addClockListener(this, 1000L, true);
 		
 		// Add MarsTerminal to the master clock's listener
 		interactiveTerm.init();
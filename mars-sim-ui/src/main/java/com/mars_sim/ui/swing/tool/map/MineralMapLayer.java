@@ -8,6 +8,7 @@ package com.mars_sim.ui.swing.tool.map;
 
 import java.awt.Color;
 import java.awt.Component;
+import java.awt.Dimension;
 import java.awt.Graphics2D;
 import java.util.ArrayList;
 import java.util.HashSet;
@@ -20,6 +21,7 @@ import com.mars_sim.core.map.location.Coordinates;
 import com.mars_sim.core.map.location.IntPoint;
 import com.mars_sim.core.mineral.MineralDeposit;
 import com.mars_sim.core.mineral.MineralMap;
+import com.mars_sim.core.mineral.MineralRaster;
 import com.mars_sim.core.mineral.MineralType;
 
 /**
@@ -50,8 +52,44 @@ public class MineralMapLayer extends SurfaceFeatureLayer<MineralDeposit>
 		}
 	}
 
+	/**
+	 * Create a tooltip for a raster cell showing the highest concentrations in the cell
+	 */
+	private static class RasterHotspot extends MapHotspot {
+
+		private MineralRaster raster;
+		private int level;
+		private int row;
+		private int column;
+
+		protected RasterHotspot(IntPoint center, int radius, MineralRaster raster,
+								int level, int row, int column) {
+			super(center, radius);
+			this.raster = raster;
+			this.level = level;
+			this.row = row;
+			this.column = column;
+		}
+
+		@Override
+		public String getTooltipText() {
+			List<String> lines = new ArrayList<>();
+			var minerals = raster.getMinerals();
+			for (int m = 0; m < minerals.size(); m++) {
+				int conc = raster.getConcentration(level, m, row, column);
+				if (conc > 0) {
+					lines.add(minerals.get(m) + " : " + conc + "%");
+				}
+			}
+			return "<html>" + String.join("<br>", lines) + "</html>";
+		}
+	}
+
 	private static final int CIRCLE_RADIUS = 4;
 	private static final int CIRCLE_DIAMETER = (2 * CIRCLE_RADIUS);
+
+	// Deposits are drawn individually once a raster cell is this big
+	private static final int RASTER_LIMIT = 4 * CIRCLE_DIAMETER;
 	
 	private MineralMap mineralMap;
 	private Map<String, Color> mineralColorMap;
@@ -72,6 +110,101 @@ public class MineralMapLayer extends SurfaceFeatureLayer<MineralDeposit>
 		mineralColorMap = getMineralColors();
 	}
 	
+	/**
+	 * Displays the layer using the pre-rendered raster of concentrations. When zoomed in
+	 * closer than the raster resolution the deposits are drawn individually.
+	 */
+	@Override
+	public List<MapHotspot> displayLayer(Coordinates mapCenter, MapDisplay baseMap, Graphics2D g2d, Dimension d) {
+		var raster = mineralMap.getRaster();
+		int level = selectLevel(raster, baseMap.getRho());
+		if ((level < 0) || mineralsDisplaySet.isEmpty()) {
+			return super.displayLayer(mapCenter, baseMap, g2d, d);
+		}
+
+		// Colour lookup for the displayed minerals
+		var minerals = raster.getMinerals();
+		int[] shown = new int[minerals.size()];
+		int[] rgb = new int[minerals.size()];
+		int numShown = 0;
+		for (int m = 0; m < minerals.size(); m++) {
+			var name = minerals.get(m);
+			if (mineralsDisplaySet.contains(name)) {
+				shown[numShown] = m;
+				rgb[numShown] = mineralColorMap.get(name).getRGB() & 0x00FFFFFF;
+				numShown++;
+			}
+		}
+
+		double cellAngle = raster.getCellAngle(level);
+		int size = Math.max(CIRCLE_DIAMETER, (int) Math.ceil(baseMap.getRho() * cellAngle));
+		int w = raster.getWidth(level);
+
+		// Cells covering the viewpoint; all longitudes if it covers a pole
+		double halfAngle = baseMap.getHalfAngle() * 1.1;
+		double phi = mapCenter.getPhi();
+		int firstRow = raster.getRow(level, phi - halfAngle);
+		int lastRow = raster.getRow(level, phi + halfAngle);
+		int firstCol = 0;
+		int lastCol = w - 1;
+		double sinPhi = Math.sin(phi);
+		if ((phi - halfAngle > 0) && (phi + halfAngle < Math.PI) && (Math.sin(halfAngle) < sinPhi)) {
+			double halfWidth = Math.asin(Math.sin(halfAngle)/sinPhi);
+			firstCol = (int) Math.floor((mapCenter.getTheta() - halfWidth)/cellAngle) - 1;
+			lastCol = (int) Math.floor((mapCenter.getTheta() + halfWidth)/cellAngle) + 1;
+		}
+
+		List<MapHotspot> hotspots = new ArrayList<>();
+		for (int row = firstRow; row <= lastRow; row++) {
+			for (int k = firstCol; k <= lastCol; k++) {
+				int col = Math.floorMod(k, w);
+				int colour = 0;
+				for (int j = 0; j < numShown; j++) {
+					int conc = raster.getConcentration(level, shown[j], row, col);
+					if (conc > 0) {
+						colour |= (((255 * conc) / 100) << 24) | rgb[j];
+					}
+				}
+				if (colour == 0) {
+					continue;
+				}
+
+				var cellCenter = raster.getCellCenter(level, row, col);
+				if (mapCenter.getAngle(cellCenter) > halfAngle) {
+					// Far side of the globe
+					continue;
+				}
+				IntPoint location = MapUtils.getRectPosition(cellCenter, mapCenter, baseMap, d);
+				if ((location.getiX() >= 0) && (location.getiY() >= 0)) {
+					g2d.setColor(new Color(colour));
+					g2d.fillRect(location.getiX() - size/2, location.getiY() - size/2, size, size);
+					hotspots.add(new RasterHotspot(location, size/2, raster, level, row, col));
+				}
+			}
+		}
+		return hotspots;
+	}
+
+	/**
+	 * Selects the finest raster level whose cells are at least the size of a deposit marker.
+	 *
+	 * @param raster
+	 * @param rho Pixels per radian
+	 * @return Level to use; -1 if the deposits should be drawn individually
+	 */
+	private static int selectLevel(MineralRaster raster, double rho) {
+		int finest = raster.getLevels() - 1;
+		if (rho * raster.getCellAngle(finest) > RASTER_LIMIT) {
+			return -1;
+		}
+		for (int l = finest; l > 0; l--) {
+			if (rho * raster.getCellAngle(l) >= CIRCLE_DIAMETER) {
+				return l;
+			}
+		}
+		return 0;
+	}
+
 	/**
 	 * Convert a mixture of mineral to a combined single color
 	 * @param mineralConcentrations
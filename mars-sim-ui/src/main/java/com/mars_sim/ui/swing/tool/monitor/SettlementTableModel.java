@@ -327,22 +327,16 @@ public class SettlementTableModel extends UnitTableModel<Settlement> {
 				case REQUIRED_POWER_EVENT: columnNum = POWER_LOAD; break;
 				case STORED_ENERGY_EVENT: columnNum = ENERGY_STORED; break;		
 				case MALFUNCTION_EVENT: columnNum = MALFUNCTION; break;
-				case INVENTORY_RESOURCE_EVENT: {
-					// Resource change
-					int resourceID = -1;
-					if (target instanceof AmountResource ar) {
-						resourceID = ar.getID();
+				case RESOURCE_LEDGER_EVENT: {
+					// The resources changed in the last pulse
+					if (target instanceof Map<?,?> changes) {
+						for (Object resourceID : changes.keySet()) {
+							Integer col = RESOURCE_TO_COL.get(resourceID);
+							if (col != null) {
+								entityValueUpdated(settlement, col, col);
+							}
+						}
 					}
-					else if (target instanceof Integer i) {
-						// Note: most likely, the source is an integer id
-						resourceID = i;
-					}
-					else {
-						return;
-					}
-	
-					if (RESOURCE_TO_COL.containsKey(resourceID)) 
-						columnNum = RESOURCE_TO_COL.get(resourceID);
 				} break;
 	
 				default:
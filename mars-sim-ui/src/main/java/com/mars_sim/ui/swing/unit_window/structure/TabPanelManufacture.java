@@ -245,7 +245,7 @@ public class TabPanelManufacture extends TabPanel implements UnitListener {
 		userBonusSpinner.setEnabled(selection != null);
 
 		if (selection != null) {
-			double bonus = selection.getValue().getModifiers().get(ManufacturingManager.USER_BONUS);
+			double bonus = selection.getValue().getModifier(ManufacturingManager.USER_BONUS, 1D);
 			userBonusSpinner.setValue((int)((bonus - 1) * 100D));
 		}
 	}
@@ -408,7 +408,7 @@ public class TabPanelManufacture extends TabPanel implements UnitListener {
 			switch(columnIndex) {
 				case NAME_COL: return item.getInfo().getName();
 				case BONUS_COL:
-					return (int)((item.getValue().getModifiers().get(ManufacturingManager.USER_BONUS) - 1) * 100D);
+					return (int)((item.getValue().getModifier(ManufacturingManager.USER_BONUS, 1D) - 1) * 100D);
 				case VALUE_COL: return item.getValue().getScore();
 				case AVAILABLE_COL: return item.isResourcesAvailable();
 				default: return null;